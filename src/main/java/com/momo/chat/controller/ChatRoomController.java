@@ -1,12 +1,16 @@
 package com.momo.chat.controller;
 
-import com.momo.chat.dto.ChatHistoryDto;
+import com.momo.chat.dto.ChatHistoryResponse;
 import com.momo.chat.dto.ChatReaderDto;
 import com.momo.chat.dto.ChatRoomDto;
 import com.momo.chat.service.ChatRoomService;
+import com.momo.common.cursor.CursorCodec;
+import com.momo.common.cursor.CursorType;
+import com.momo.common.util.ETagUtils;
 import com.momo.user.dto.CustomUserDetails;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Range;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,7 +18,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatRoomController {
 
   private final ChatRoomService chatRoomService;
+  private final CursorCodec cursorCodec;
   // 채팅방 생성, 입장 시 채팅방 구독, 채팅방 삭제, 퇴장, 강퇴시 채팅방 구독 해제 필요
   // 채팅방 생성 (모임생성)
   @PostMapping("/{meetingId}")
@@ -56,14 +63,29 @@ public class ChatRoomController {
     return ResponseEntity.ok().body(roomData);
   }
 
-  // 채팅방 들어가기 (채팅 기록 조회)
+  // 채팅방 들어가기 (최근 채팅 기록 조회)
   @PostMapping("/{roomId}/in")
-  public ResponseEntity<List<ChatHistoryDto>> inRoom(
+  public ResponseEntity<ChatHistoryResponse> inRoom(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
-      @PathVariable Long roomId) {
-    List<ChatHistoryDto> history = chatRoomService.getChatHistory(
-        customUserDetails.getUser(), roomId);
-    return ResponseEntity.ok(history);
+      @PathVariable Long roomId,
+      @RequestParam(defaultValue = "50") @Range(min = 1, max = 100) int pageSize) {
+    ChatHistoryResponse history = chatRoomService.getChatHistory(
+        customUserDetails.getUser(), roomId, pageSize);
+    return ResponseEntity.ok(withNextCursor(history));
+  }
+
+  // 이전 채팅 기록 조회 (응답의 nextCursor 로 더 이전 메시지 조회)
+  @GetMapping("/{roomId}/chats")
+  public ResponseEntity<ChatHistoryResponse> getPreviousChats(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @PathVariable Long roomId,
+      @RequestParam String cursor,
+      @RequestParam(defaultValue = "50") @Range(min = 1, max = 100) int pageSize
+  ) {
+    Long lastId = cursorCodec.decode(CursorType.CHAT, cursor).getLong(0);
+    ChatHistoryResponse history = chatRoomService.getPreviousChatHistory(
+        customUserDetails.getUser(), roomId, lastId, pageSize);
+    return ResponseEntity.ok(withNextCursor(history));
   }
 
   // 채팅방 나가기 (뒤로가기)
@@ -81,11 +103,23 @@ public class ChatRoomController {
   @GetMapping("/{roomId}")
   public ResponseEntity<ChatRoomDto> getRoom(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
-      @PathVariable Long roomId
+      @PathVariable Long roomId,
+      WebRequest webRequest
   ) {
+    // 채팅방 정보가 바뀌지 않았으면 본문 없이 304 응답
+    String eTag = chatRoomService.getRoomETag(customUserDetails.getUser(), roomId);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE_PRIVATE);
+    }
     ChatRoomDto roomData = chatRoomService.getRoom(
         customUserDetails.getUser(), roomId);
-    return ResponseEntity.ok().body(roomData);
+    if (eTag == null) {
+      return ResponseEntity.ok().body(roomData);
+    }
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE_PRIVATE)
+        .eTag(eTag)
+        .body(roomData);
   }
 
   // 로그인한 유저의 모든 채팅방 목록 조회
@@ -131,4 +165,10 @@ public class ChatRoomController {
     return ResponseEntity.ok().body(roomData);
   }
 
+  private ChatHistoryResponse withNextCursor(ChatHistoryResponse history) {
+    if (history.getLastId() == null) {
+      return history;
+    }
+    return history.withNextCursor(cursorCodec.encode(CursorType.CHAT, history.getLastId()));
+  }
 }
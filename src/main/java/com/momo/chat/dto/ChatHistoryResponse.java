@@ -0,0 +1,19 @@
+package com.momo.chat.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class ChatHistoryResponse {
+
+  private List<ChatHistoryDto> chats; // 오래된 메시지부터 (화면 표시 순서)
+  private Long lastId; // 이 페이지에서 가장 오래된 채팅 ID (이전 메시지가 없으면 null)
+  private boolean hasNext;
+  private String nextCursor; // 이전 메시지 조회에 사용될 불투명 커서 (lastId 를 서명한 값)
+
+  public ChatHistoryResponse withNextCursor(String nextCursor) {
+    return toBuilder().nextCursor(nextCursor).build();
+  }
+}
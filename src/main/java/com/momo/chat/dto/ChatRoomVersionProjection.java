@@ -0,0 +1,13 @@
+package com.momo.chat.dto;
+
+// 채팅방 정보의 변경 여부 확인용 (모임 제목, 썸네일, 참여자, 마지막 메시지)
+public interface ChatRoomVersionProjection {
+
+  Long getMeetingVersion();
+
+  Integer getReaderCount();
+
+  Long getReaderIdSum();
+
+  Long getLastChatId();
+}
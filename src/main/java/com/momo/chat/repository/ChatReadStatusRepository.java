@@ -25,5 +25,5 @@ public interface ChatReadStatusRepository extends JpaRepository<ChatReadStatus,
 
   @Modifying
   @Query("DELETE FROM ChatReadStatus crs WHERE crs.chatRoom.id IN :chatRoomIds")
-  void deleteAllByChatRoomIds(@Param("chatRoomIds") List<Long> chatRoomIds);
+  int deleteAllByChatRoomIds(@Param("chatRoomIds") List<Long> chatRoomIds);
 }
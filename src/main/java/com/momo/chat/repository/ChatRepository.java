@@ -2,6 +2,7 @@ package com.momo.chat.repository;
 
 import com.momo.chat.entity.Chat;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,11 +12,13 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
-  List<Chat> findAllByChatRoomId(Long chatRoomId);
+  // 채팅 기록을 최신순으로 반환 (커서 기반, (chat_room_id, id) 인덱스 범위 조회)
+  List<Chat> findByChatRoomIdAndIdLessThanOrderByIdDesc(
+      Long chatRoomId, Long lastId, Pageable pageable);
 
   void deleteByChatRoomId(Long chatRoomId);
 
   @Modifying
   @Query("DELETE FROM Chat c WHERE c.chatRoom.id IN :chatRoomIds")
-  void deleteAllByChatRoomIds(@Param("chatRoomIds") List<Long> chatRoomIds);
+  int deleteAllByChatRoomIds(@Param("chatRoomIds") List<Long> chatRoomIds);
 }
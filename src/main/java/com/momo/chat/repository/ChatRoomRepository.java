@@ -1,5 +1,6 @@
 package com.momo.chat.repository;
 
+import com.momo.chat.dto.ChatRoomVersionProjection;
 import com.momo.chat.entity.ChatRoom;
 import com.momo.meeting.entity.Meeting;
 import com.momo.user.entity.User;
@@ -20,9 +21,23 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
   Optional<ChatRoom> findByMeeting_Id(Long id);
 
+  @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.meeting.id IN :meetingIds")
+  List<Long> findIdsByMeetingIds(@Param("meetingIds") List<Long> meetingIds);
+
   @Modifying
   @Query("DELETE FROM ChatRoom cr WHERE cr.meeting.id IN :meetingIds")
   int deleteAllByMeetingIds(@Param("meetingIds") List<Long> meetingIds);
 
   List<ChatRoom> findByMeeting(Meeting meeting);
+
+  // 채팅방 정보 ETag 용 (참여 중인 채팅방이 아니면 빈 값)
+  @Query("SELECT m.version as meetingVersion, SIZE(cr.reader) as readerCount, "
+      + "(SELECT SUM(r.id) FROM ChatRoom cr2 JOIN cr2.reader r WHERE cr2 = cr) as readerIdSum, "
+      + "(SELECT MAX(c.id) FROM Chat c WHERE c.chatRoom = cr) as lastChatId "
+      + "FROM ChatRoom cr JOIN cr.meeting m "
+      + "WHERE cr.id = :roomId AND :user MEMBER OF cr.reader")
+  Optional<ChatRoomVersionProjection> findVersionByIdAndReader(
+      @Param("roomId") Long roomId,
+      @Param("user") User user
+  );
 }
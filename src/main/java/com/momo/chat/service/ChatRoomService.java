@@ -1,6 +1,7 @@
 package com.momo.chat.service;
 
 import com.momo.chat.dto.ChatHistoryDto;
+import com.momo.chat.dto.ChatHistoryResponse;
 import com.momo.chat.dto.ChatReaderDto;
 import com.momo.chat.dto.ChatRoomDto;
 import com.momo.chat.entity.Chat;
@@ -13,10 +14,13 @@ import com.momo.chat.repository.ChatRepository;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.common.exception.CustomException;
 import com.momo.common.exception.ErrorCode;
+import com.momo.common.util.ETagUtils;
+import com.momo.meeting.cache.CategoryAffinityCache;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
 import com.momo.meeting.repository.MeetingRepository;
+import com.momo.meeting.service.MeetingSeatService;
 import com.momo.participation.constant.ParticipationStatus;
 import com.momo.participation.entity.Participation;
 import com.momo.participation.exception.ParticipationErrorCode;
@@ -33,6 +37,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +54,8 @@ public class ChatRoomService {
   private final MeetingRepository meetingRepository;
   private final ProfileRepository profileRepository;
   private final ParticipationRepository participationRepository;
+  private final MeetingSeatService meetingSeatService;
+  private final CategoryAffinityCache categoryAffinityCache;
 
   // 채팅방 생성 (모임생성)
   @Transactional
@@ -133,9 +140,9 @@ public class ChatRoomService {
     return ChatRoomDto.of(chatRoom);
   }
 
-  // 채팅방 들어가기 (채팅 기록 조회)
+  // 채팅방 들어가기 (최근 채팅 기록 조회)
   @Transactional
-  public List<ChatHistoryDto> getChatHistory(User user, Long chatRoomId) {
+  public ChatHistoryResponse getChatHistory(User user, Long chatRoomId, int pageSize) {
     ChatRoom chatRoom = validateChatRoomExists(chatRoomId);
     ChatReadStatus chatReadStatus = validateChatReadStatus(user.getId(), chatRoomId);
 
@@ -148,17 +155,20 @@ public class ChatRoomService {
     // 해당 방의 unreadMessagesCount를 0으로 설정
     setUnreadMessagesCountToZero(chatRoomId, rooms);
 
-    // 채팅방 ID로 모든 채팅 조회
-    List<Chat> chats = chatRepository.findAllByChatRoomId(chatRoomId);
-
-    return chats.stream().map(chat -> new ChatHistoryDto(
-        chat.getSender().getId(),
-        chat.getSender().getNickname(),
-        getProfileImageUrlFromUser(chat.getSender()),
-        chat.getMessage(),
-        chat.getCreatedAt(),
-        chat.getUpdatedAt()
-    )).collect(Collectors.toList());
+    // 가장 최근 pageSize 개만 조회 (이전 메시지는 getPreviousChatHistory 로 조회)
+    return findChatHistory(chatRoomId, null, pageSize);
+  }
+
+  // 이전 채팅 기록 조회 (커서 기반, 최신 메시지부터 이전 메시지로)
+  @Transactional
+  public ChatHistoryResponse getPreviousChatHistory(
+      User user, Long chatRoomId, Long lastId, int pageSize
+  ) {
+    ChatRoom chatRoom = validateChatRoomExists(chatRoomId);
+
+    checkParticipant(chatRoom, user);
+
+    return findChatHistory(chatRoomId, lastId, pageSize);
   }
 
   // 채팅방 나가기 (뒤로가기)
@@ -179,6 +189,14 @@ public class ChatRoomService {
     return rooms;
   }
 
+  // 참여중인 채팅방 정보 ETag (모임 버전, 참여자, 마지막 메시지 기준, 참여중이 아니면 null)
+  public String getRoomETag(User user, Long chatRoomId) {
+    return chatRoomRepository.findVersionByIdAndReader(chatRoomId, user)
+        .map(version -> ETagUtils.of("chatroom", chatRoomId, version.getMeetingVersion(),
+            version.getReaderCount(), version.getReaderIdSum(), version.getLastChatId()))
+        .orElse(null);
+  }
+
   // 참여중인 채팅방 정보 조회
   @Transactional
   public ChatRoomDto getRoom(User user, Long chatRoomId) {
@@ -328,6 +346,34 @@ public class ChatRoomService {
     });
   }
 
+  // lastId 보다 이전 채팅을 pageSize 개 조회하여 오래된 순으로 반환
+  private ChatHistoryResponse findChatHistory(Long chatRoomId, Long lastId, int pageSize) {
+    List<Chat> chats = chatRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(
+        chatRoomId, lastId == null ? Long.MAX_VALUE : lastId, PageRequest.of(0, pageSize + 1));
+    // 다음 페이지 존재 여부를 알기 위해 + 1
+    boolean hasNext = chats.size() > pageSize;
+    List<Chat> page = hasNext ? chats.subList(0, pageSize) : chats;
+
+    List<ChatHistoryDto> history = new ArrayList<>(page.size());
+    for (int i = page.size() - 1; i >= 0; i--) {
+      Chat chat = page.get(i);
+      history.add(new ChatHistoryDto(
+          chat.getSender().getId(),
+          chat.getSender().getNickname(),
+          getProfileImageUrlFromUser(chat.getSender()),
+          chat.getMessage(),
+          chat.getCreatedAt(),
+          chat.getUpdatedAt()
+      ));
+    }
+
+    return ChatHistoryResponse.builder()
+        .chats(history)
+        .lastId(hasNext ? page.get(page.size() - 1).getId() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
   private String getProfileImageUrlFromUser(User user) {
     Profile profile = profileRepository.findByUser(user)
         .orElseThrow(() -> new ProfileException(ProfileErrorCode.NOT_EXISTS_PROFILE));
@@ -340,15 +386,17 @@ public class ChatRoomService {
         .orElseThrow(() -> new MeetingException(MeetingErrorCode.MEETING_NOT_FOUND));
 
     Participation participation =
-        participationRepository.findByUser_Id(user.getId()).orElseThrow(() ->
-            new ParticipationException(ParticipationErrorCode.PARTICIPATION_NOT_FOUND));
+        participationRepository.findByUser_IdAndMeeting_Id(user.getId(), meeting.getId())
+            .orElseThrow(() ->
+                new ParticipationException(ParticipationErrorCode.PARTICIPATION_NOT_FOUND));
 
     // 참여신청 상태가 승인된 게 아니라면 예외 처리
     if (!(participation.getParticipationStatus() == ParticipationStatus.APPROVED)) {
       throw new ChatException(ChatErrorCode.NOT_A_PARTICIPANT);
     }
 
-    meeting.decrementApprovedCount(); // 모임의 현재 인원 1 감소
-    participationRepository.deleteByUser_Id(user.getId()); // 참여 신청 삭제
+    meetingSeatService.release(meeting); // 모임의 현재 인원 1 감소
+    participationRepository.delete(participation); // 참여 신청 삭제
+    categoryAffinityCache.evict(user.getId()); // 나간 모임은 카테고리 친화도에서 제외
   }
 }
\ No newline at end of file
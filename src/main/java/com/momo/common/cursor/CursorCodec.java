@@ -0,0 +1,156 @@
+package com.momo.common.cursor;
+
+import com.momo.common.exception.CustomException;
+import com.momo.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록의 마지막 항목 정렬 키를 불투명한 커서 문자열로 변환.
+ * 커서는 "키 값(Base64URL).서명(Base64URL)" 형식이며, 서명에 목록 종류를 포함하므로
+ * 값을 고치거나 다른 목록의 커서를 보내면 INVALID_CURSOR 예외가 발생한다.
+ * 키 값은 원래 정밀도 그대로 담기므로 날짜가 잘려서 같은 모임이 다시 조회되는 일이 없다.
+ */
+@Component
+public class CursorCodec {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int SIGNATURE_LENGTH = 12; // 서명 앞 12바이트만 사용 (커서 길이 절약)
+  private static final String SEPARATOR = ",";
+  private static final String KEY_PURPOSE = "momo-cursor"; // JWT 키에서 커서 키를 파생할 때의 용도 구분
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SecretKeySpec key;
+
+  /**
+   * @param cursorSecret 커서 서명 키 (없으면 JWT 키에서 파생)
+   * @param jwtSecret    JWT 서명 키 (그대로 쓰지 않으므로 커서 서명으로 JWT 키를 추측하거나 재사용할 수 없음)
+   */
+  public CursorCodec(
+      @Value("${cursor.secret:}") String cursorSecret,
+      @Value("${spring.jwt.secret}") String jwtSecret
+  ) {
+    byte[] keyBytes = cursorSecret.isEmpty()
+        ? deriveKey(jwtSecret)
+        : cursorSecret.getBytes(StandardCharsets.UTF_8);
+    this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+  }
+
+  /**
+   * 정렬 키를 커서로 변환
+   *
+   * @param type 목록 종류
+   * @param keys 정렬 키 (type 의 키 순서, 타입과 같아야 하며 null 가능)
+   * @return 커서
+   */
+  public String encode(CursorType type, Object... keys) {
+    List<Class<?>> keyTypes = type.getKeyTypes();
+    if (keys.length != keyTypes.size()) {
+      throw new IllegalArgumentException("커서 키 개수가 맞지 않습니다 : " + type);
+    }
+
+    StringBuilder payload = new StringBuilder();
+    for (int i = 0; i < keys.length; i++) {
+      if (i > 0) {
+        payload.append(SEPARATOR);
+      }
+      if (keys[i] != null) {
+        if (!keyTypes.get(i).isInstance(keys[i])) {
+          throw new IllegalArgumentException("커서 키 타입이 맞지 않습니다 : " + type);
+        }
+        payload.append(keys[i]);
+      }
+    }
+
+    byte[] payloadBytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+    return ENCODER.encodeToString(payloadBytes) + "."
+        + ENCODER.encodeToString(sign(type, payloadBytes));
+  }
+
+  /**
+   * 커서의 서명을 확인하고 정렬 키를 꺼냄
+   *
+   * @param type   목록 종류
+   * @param cursor encode 로 만든 커서
+   * @return 정렬 키
+   */
+  public CursorKeys decode(CursorType type, String cursor) {
+    try {
+      int dot = cursor.indexOf('.');
+      if (dot < 0) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      byte[] payloadBytes = DECODER.decode(cursor.substring(0, dot));
+      byte[] signature = DECODER.decode(cursor.substring(dot + 1));
+      if (!MessageDigest.isEqual(signature, sign(type, payloadBytes))) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+
+      String[] values = new String(payloadBytes, StandardCharsets.UTF_8).split(SEPARATOR, -1);
+      List<Class<?>> keyTypes = type.getKeyTypes();
+      if (values.length != keyTypes.size()) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+
+      List<Object> keys = new ArrayList<>(values.length);
+      for (int i = 0; i < values.length; i++) {
+        keys.add(parse(keyTypes.get(i), values[i]));
+      }
+      return new CursorKeys(keys);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  private byte[] sign(CursorType type, byte[] payloadBytes) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      mac.update(type.name().getBytes(StandardCharsets.UTF_8));
+      mac.update((byte) 0);
+      return Arrays.copyOf(mac.doFinal(payloadBytes), SIGNATURE_LENGTH);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("커서 서명 생성 실패", e);
+    }
+  }
+
+  // HMAC(JWT 키, 용도) 로 커서 전용 키를 만듦
+  private static byte[] deriveKey(String jwtSecret) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+      return mac.doFinal(KEY_PURPOSE.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("커서 서명 키 생성 실패", e);
+    }
+  }
+
+  private static Object parse(Class<?> keyType, String value) {
+    if (value.isEmpty()) {
+      return null;
+    }
+    if (keyType == Long.class) {
+      return Long.valueOf(value);
+    }
+    if (keyType == Double.class) {
+      return Double.valueOf(value);
+    }
+    if (keyType == LocalDateTime.class) {
+      return LocalDateTime.parse(value);
+    }
+    throw new IllegalStateException("지원하지 않는 커서 키 타입 : " + keyType);
+  }
+}
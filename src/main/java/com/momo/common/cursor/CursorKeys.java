@@ -0,0 +1,25 @@
+package com.momo.common.cursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+// 커서에서 꺼낸 정렬 키 (CursorType 의 키 순서, 타입과 같음)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CursorKeys {
+
+  private final List<Object> values;
+
+  public Long getLong(int index) {
+    return (Long) values.get(index);
+  }
+
+  public Double getDouble(int index) {
+    return (Double) values.get(index);
+  }
+
+  public LocalDateTime getDateTime(int index) {
+    return (LocalDateTime) values.get(index);
+  }
+}
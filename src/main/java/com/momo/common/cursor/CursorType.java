@@ -0,0 +1,34 @@
+package com.momo.common.cursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 커서를 사용하는 목록과 커서에 담기는 정렬 키.
+ * 키 순서는 각 목록 쿼리의 seek 조건과 같아야 하며, 다른 목록의 커서는 서명이 맞지 않아 사용할 수 없다.
+ */
+@Getter
+public enum CursorType {
+
+  // 모임 목록 (모임 ID, 거리, 모임 날짜, 조회수 : 정렬 기준에 따라 필요한 키만 사용, 나머지는 null)
+  MEETING(Long.class, Double.class, LocalDateTime.class, Long.class),
+
+  // 개최한 모임 목록 (모임 날짜, 모임 ID 오름차순)
+  CREATED_MEETING(Long.class, LocalDateTime.class),
+
+  // 신청한 모임 목록 (참여 신청 ID 오름차순)
+  APPLIED_MEETING(Long.class),
+
+  // 알림 목록 (알림 ID 내림차순, 최신순)
+  NOTIFICATION(Long.class),
+
+  // 채팅 기록 (채팅 ID 내림차순, 최신 메시지부터 이전 메시지로)
+  CHAT(Long.class);
+
+  private final List<Class<?>> keyTypes;
+
+  CursorType(Class<?>... keyTypes) {
+    this.keyTypes = List.of(keyTypes);
+  }
+}
@@ -0,0 +1,55 @@
+package com.momo.common.cursor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 서명되지 않은 개별 커서 파라미터(lastId 등)로 목록을 조회하는 요청을 표시.
+ * 다음 페이지는 이전 응답의 nextCursor 를 cursor 파라미터로 보내야 조회할 수 있으며, 개별 파라미터는 무시되어 첫 페이지로 응답한다.
+ * 이전 방식의 클라이언트가 바로 실패하지 않도록 유예 기간 동안은 거부하지 않고 Deprecation 헤더와 로그, 지표로 알린다.
+ */
+@Slf4j
+@Component
+public class RawCursorParameterInterceptor implements HandlerInterceptor, MeterBinder {
+
+  private static final List<String> RAW_CURSOR_PARAMETERS =
+      List.of("lastId", "lastDistance", "lastMeetingDateTime", "lastViewCount");
+
+  private final AtomicLong deprecatedRequestCount = new AtomicLong();
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler
+  ) {
+    for (String parameter : RAW_CURSOR_PARAMETERS) {
+      if (request.getParameter(parameter) != null) {
+        deprecatedRequestCount.incrementAndGet();
+        response.setHeader("Deprecation", "true");
+        log.warn("지원 중단된 커서 파라미터 사용 (첫 페이지로 응답) : {} {}, parameter = {}",
+            request.getMethod(), request.getRequestURI(), parameter);
+        break;
+      }
+    }
+    return true;
+  }
+
+  public long getDeprecatedRequestCount() {
+    return deprecatedRequestCount.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cursor.raw-parameter.requests", deprecatedRequestCount,
+            AtomicLong::get)
+        .description("지원 중단된 개별 커서 파라미터로 들어온 목록 조회 수")
+        .register(registry);
+  }
+}
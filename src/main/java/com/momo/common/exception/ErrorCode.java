@@ -15,7 +15,9 @@ public enum ErrorCode {
   OPTIMISTIC_LOCKING_FAILURE(
       "이미 다른 처리가 진행되었습니다. 새로고침 후 다시 시도해 주세요.", 400),
   INVALID_VERIFICATION_CODE("유효하지않은 토큰입니다.",400),
-  LOGIN_FAILED("비밀번호가 일치하지 않습니다.", 400);
+  LOGIN_FAILED("비밀번호가 일치하지 않습니다.", 400),
+  ACCESS_DENIED("접근 권한이 없습니다.", 403),
+  INVALID_CURSOR("유효하지 않은 커서입니다.", 400);
 
   private final String message;
   private final int status;
@@ -0,0 +1,29 @@
+package com.momo.common.util;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class ETagUtils {
+
+  // 저장할 때마다 재검증하도록 함 (Spring Security 의 no-store 기본값 대신 사용)
+  public static final CacheControl REVALIDATE = CacheControl.noCache();
+  public static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
+  // 버전, 수정 시각 같은 값들을 '-' 로 이어 붙인 ETag (값 중 하나라도 바뀌면 ETag 도 바뀜)
+  public static String of(Object... values) {
+    return Arrays.stream(values)
+        .map(String::valueOf)
+        .collect(Collectors.joining("-", "\"", "\""));
+  }
+
+  // If-None-Match 가 일치할 때의 304 응답
+  public static <T> ResponseEntity<T> notModified(String eTag, CacheControl cacheControl) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .cacheControl(cacheControl)
+        .eTag(eTag)
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.momo.common.util;
+
+public class GeoUtils {
+
+  // MySQL ST_Distance_Sphere 의 기본 지구 반지름(m)과 동일한 값을 사용
+  public static final double EARTH_RADIUS_METER = 6370986;
+
+  // 지구 위 두 좌표 사이의 최대 거리(m, 반 둘레)
+  public static final double MAX_DISTANCE_METER = Math.PI * EARTH_RADIUS_METER;
+
+  // 두 좌표 사이의 거리(m)를 haversine 공식으로 계산
+  public static double distance(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  // 반경(m)에 해당하는 위도 차이(도)
+  public static double latitudeDelta(double radius) {
+    return Math.toDegrees(radius / EARTH_RADIUS_METER);
+  }
+
+  // 기준 위도에서 반경(m)에 해당하는 경도 차이(도), 극지방에서는 전체 경도를 반환
+  public static double longitudeDelta(double latitude, double radius) {
+    double cos = Math.cos(Math.toRadians(latitude));
+    if (cos < 1e-6) {
+      return 360;
+    }
+    return Math.min(360, latitudeDelta(radius) / cos);
+  }
+}
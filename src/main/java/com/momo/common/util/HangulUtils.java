@@ -0,0 +1,27 @@
+package com.momo.common.util;
+
+public class HangulUtils {
+
+  private static final char HANGUL_SYLLABLE_BEGIN = '가';
+  private static final char HANGUL_SYLLABLE_END = '힣';
+  private static final int CHOSUNG_INTERVAL = 21 * 28; // 중성 21개 x 종성 28개
+
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  // 완성형 한글 음절을 초성으로 변환 (한글이 아닌 문자는 그대로 유지), 예) 김밥 -> ㄱㅂ
+  public static String toChosung(String text) {
+    StringBuilder chosung = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+        chosung.append(CHOSUNG[(c - HANGUL_SYLLABLE_BEGIN) / CHOSUNG_INTERVAL]);
+      } else {
+        chosung.append(c);
+      }
+    }
+    return chosung.toString();
+  }
+}
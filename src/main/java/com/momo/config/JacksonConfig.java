@@ -0,0 +1,18 @@
+package com.momo.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+  // @JsonFilter 가 붙은 응답(모임 목록 항목)은 fields= 필터가 없으면 모든 필드를 직렬화
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer defaultFilterCustomizer() {
+    return builder -> builder.filters(
+        new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+  }
+}
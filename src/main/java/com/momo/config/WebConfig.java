@@ -1,14 +1,18 @@
 package com.momo.config;
 
+import com.momo.common.cursor.RawCursorParameterInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+  private final RawCursorParameterInterceptor rawCursorParameterInterceptor;
+
   // CORS 설정 추가
   @Override
   public void addCorsMappings(CorsRegistry registry) {
@@ -16,6 +20,15 @@ public class WebConfig implements WebMvcConfigurer {
         .allowedOrigins("http://localhost:5173")
         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
         .allowedHeaders("*")
+        .exposedHeaders("ETag", "Deprecation")
         .allowCredentials(true);
   }
+
+  // 커서 기반 목록은 서명된 cursor 파라미터로만 다음 페이지 조회 (개별 커서 파라미터는 Deprecation 헤더로 알림)
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(rawCursorParameterInterceptor)
+        .addPathPatterns("/api/v1/meetings", "/api/v1/meetings/window",
+            "/api/v1/meetings/search", "/api/v1/meetings/created", "/api/v1/participations");
+  }
 }
@@ -0,0 +1,76 @@
+package com.momo.image.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 요청이 끝난 뒤에도 업로드할 수 있도록 임시 디렉터리에 복사해 둔 이미지.
+ * 요청의 MultipartFile 은 응답 후 삭제되므로 백그라운드 업로드에는 이 파일을 사용하고, 업로드 후 delete 로 지운다.
+ */
+@RequiredArgsConstructor
+public class SpooledImageFile implements MultipartFile {
+
+  private final Path path;
+  private final String name;
+  private final String originalFilename;
+  private final String contentType;
+  private final long size;
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public byte[] getBytes() throws IOException {
+    return Files.readAllBytes(path);
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return Files.newInputStream(path);
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException {
+    Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public void delete() {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      path.toFile().deleteOnExit(); // 주기적인 정리 작업에서도 삭제됨
+    }
+  }
+}
@@ -1,20 +1,37 @@
 package com.momo.image.service;
 
+import com.momo.common.s3.exception.S3ErrorCode;
+import com.momo.common.s3.exception.S3Exception;
+import com.momo.image.file.SpooledImageFile;
 import com.momo.profile.adptor.ImageStorage;
 import com.momo.image.constant.ImageType;
 import com.momo.profile.exception.ProfileErrorCode;
 import com.momo.profile.exception.ProfileException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageService {
 
+  // 백그라운드 업로드 전에 이미지를 복사해 두는 디렉터리
+  private static final Path SPOOL_DIRECTORY =
+      Paths.get(System.getProperty("java.io.tmpdir"), "momo-image-spool");
+
   private final ImageStorage imageStorage;
 
   // 이미지 파일이 존재하면 S3에 저장하고 url을 반환
@@ -25,6 +42,55 @@ public class ImageService {
         .orElse(null);
   }
 
+  /**
+   * 이미지 형식을 검증하고 백그라운드에서 업로드할 수 있도록 임시 파일로 복사
+   *
+   * @param image 요청으로 받은 이미지 (없으면 null 반환)
+   * @return 임시 파일로 복사된 이미지
+   */
+  public SpooledImageFile spoolImage(MultipartFile image) {
+    if (image == null || image.isEmpty()) {
+      return null;
+    }
+    validateImageFormat(image.getContentType(), image.getOriginalFilename());
+
+    try {
+      Files.createDirectories(SPOOL_DIRECTORY);
+      Path path = Files.createTempFile(SPOOL_DIRECTORY, "image-", ".tmp");
+      image.transferTo(path);
+      return new SpooledImageFile(path, image.getName(), image.getOriginalFilename(),
+          image.getContentType(), image.getSize());
+    } catch (IOException e) {
+      throw new S3Exception(S3ErrorCode.INVALID_IO_ERROR);
+    }
+  }
+
+  /**
+   * 업로드되지 못하고 남은 임시 이미지 파일을 삭제 (서버 비정상 종료 등)
+   *
+   * @param maxAge 이 시간보다 오래된 파일을 삭제
+   * @return 삭제한 파일 수
+   */
+  public int deleteStaleSpooledImages(Duration maxAge) {
+    if (!Files.isDirectory(SPOOL_DIRECTORY)) {
+      return 0;
+    }
+
+    Instant threshold = Instant.now().minus(maxAge);
+    int deletedCount = 0;
+    try (Stream<Path> paths = Files.list(SPOOL_DIRECTORY)) {
+      for (Path path : (Iterable<Path>) paths::iterator) {
+        if (Files.getLastModifiedTime(path).toInstant().isBefore(threshold)
+            && Files.deleteIfExists(path)) {
+          deletedCount++;
+        }
+      }
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("임시 이미지 파일 정리 실패 : error = {}", e.getMessage());
+    }
+    return deletedCount;
+  }
+
   public String handleThumbnailUpdate(
       @Nullable String oldThumbnailUrl, @Nullable MultipartFile newThumbnail
   ) {
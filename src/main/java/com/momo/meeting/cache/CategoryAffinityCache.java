@@ -0,0 +1,100 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.index.CategoryAffinity;
+import com.momo.participation.constant.ParticipationStatus;
+import com.momo.participation.repository.ParticipationRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 카테고리 친화도를 미리 계산해 보관하는 캐시.
+ * 처음 조회하거나 보관 시간이 지나면 참여 이력을 DB 에서 다시 집계하고, 그 사이 참여 신청은 증분으로 반영한다.
+ * 참여 취소, 거절처럼 이력이 줄어드는 경우는 해당 회원을 비워 다음 조회 때 다시 집계한다.
+ * 항목 수가 제한되어 가장 오래 사용되지 않은 회원부터 제거된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryAffinityCache {
+
+  private static final int MAX_ENTRY_COUNT = 10000;
+
+  // 친화도 보관 시간 (지나면 DB 에서 다시 집계)
+  @Value("${meeting.recommend.affinity-ttl-ms:600000}")
+  private long ttlMs = 600000;
+
+  private final ParticipationRepository participationRepository;
+
+  // 접근 순서로 정렬하여 가장 오래 사용되지 않은 회원부터 제거 (회원 ID -> 친화도)
+  private final Map<Long, AffinityEntry> entries =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, AffinityEntry> eldest) {
+          return size() > MAX_ENTRY_COUNT;
+        }
+      };
+
+  /**
+   * 회원의 카테고리 친화도를 반환 (없거나 보관 시간이 지났으면 참여 이력으로 계산)
+   *
+   * @param userId 회원 ID
+   * @return 카테고리 친화도
+   */
+  public CategoryAffinity get(Long userId) {
+    long now = System.currentTimeMillis();
+    synchronized (this) {
+      AffinityEntry entry = entries.get(userId);
+      if (entry != null && entry.expiresAt > now) {
+        return entry.affinity;
+      }
+    }
+
+    // DB 조회 중에는 다른 회원의 조회를 막지 않도록 잠금 밖에서 집계
+    CategoryAffinity affinity = CategoryAffinity.of(participationRepository
+        .findCategoryMasksByUserId(userId, ParticipationStatus.REJECTED));
+    synchronized (this) {
+      entries.put(userId, new AffinityEntry(affinity, now + ttlMs));
+    }
+    return affinity;
+  }
+
+  /**
+   * 참여 신청한 모임의 카테고리를 친화도에 반영
+   * 아직 계산되지 않은 회원은 다음 조회 시 DB 에서 이번 참여까지 포함해 계산되므로 반영하지 않는다.
+   *
+   * @param userId       회원 ID
+   * @param categoryMask 참여 신청한 모임의 카테고리 비트마스크
+   */
+  public synchronized void record(Long userId, Integer categoryMask) {
+    if (categoryMask == null) {
+      return;
+    }
+    AffinityEntry entry = entries.get(userId);
+    if (entry != null) {
+      entries.put(userId,
+          new AffinityEntry(entry.affinity.plus(categoryMask), entry.expiresAt));
+    }
+  }
+
+  /**
+   * 참여 이력이 줄어든 회원의 친화도를 비움 (다음 조회 시 DB 에서 다시 집계)
+   *
+   * @param userId 회원 ID
+   */
+  public synchronized void evict(Long userId) {
+    entries.remove(userId);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @RequiredArgsConstructor
+  private static class AffinityEntry {
+
+    private final CategoryAffinity affinity;
+    private final long expiresAt;
+  }
+}
@@ -0,0 +1,222 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 미리 조회해 둔 다음 페이지를 이어보기 토큰으로 보관하는 캐시.
+ * 페이지를 응답할 때 뒤의 몇 페이지를 함께 조회해 저장하고, 다음 페이지 요청이 토큰을 보내면 DB 조회 없이 응답한다.
+ * 토큰은 저장된 페이지에 넣지 않고 응답할 때마다 refresh 로 찾아 보관 시간을 연장하므로, 만료된 토큰을 내주지 않는다.
+ * 항목 수와 보관 시간이 제한되며, 모임이 바뀌면 MeetingFeedCache 와 같은 기준으로 영향을 받는 페이지만 무효화한다.
+ */
+@Slf4j
+@Component
+public class MeetingContinuationCache implements MeterBinder {
+
+  private static final int MAX_ENTRY_COUNT = 2000;
+
+  // 이어보기 페이지 보관 시간
+  @Value("${meeting.feed.continuation-ttl-ms:60000}")
+  private long ttlMs = 60000;
+
+  // 페이지(정렬, 위치, 커서, 페이지 크기)별 토큰
+  private final Map<MeetingFeedCacheKey, String> tokens = new HashMap<>();
+
+  // 접근 순서로 정렬하여 가장 오래 사용되지 않은 페이지부터 제거
+  private final Map<String, ContinuationEntry> entries =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ContinuationEntry> eldest) {
+          if (size() <= MAX_ENTRY_COUNT) {
+            return false;
+          }
+          tokens.remove(eldest.getValue().key, eldest.getKey());
+          return true;
+        }
+      };
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private long version; // 무효화할 때마다 증가, 조회 중 무효화된 결과는 저장하지 않음
+
+  // 미리 조회를 시작하기 전에 호출, put 에 넘겨 조회 중 무효화 여부를 확인
+  public synchronized long currentVersion() {
+    return version;
+  }
+
+  /**
+   * 미리 조회한 페이지를 저장하고 이어보기 토큰을 발급
+   *
+   * @param request     이 페이지를 조회하는 요청 (이전 페이지의 마지막 모임이 커서)
+   * @param response    미리 조회한 페이지 (이어보기 토큰 없이)
+   * @param loadVersion 조회를 시작할 때의 currentVersion
+   * @return 이어보기 토큰 (조회 중 무효화되었으면 null)
+   */
+  public synchronized String put(
+      MeetingsRequest request, MeetingsResponse response, long loadVersion
+  ) {
+    if (version != loadVersion) {
+      return null;
+    }
+    MeetingFeedCacheKey key = MeetingFeedCacheKey.from(request);
+    String token = UUID.randomUUID().toString();
+    String replaced = tokens.put(key, token);
+    if (replaced != null) {
+      entries.remove(replaced);
+    }
+    entries.put(token, new ContinuationEntry(key,
+        new MeetingFeedCacheEntry(request, response), System.currentTimeMillis() + ttlMs));
+    return token;
+  }
+
+  /**
+   * 요청한 페이지가 남아 있으면 보관 시간을 연장하고 토큰을 반환 (이전 페이지를 응답할 때마다 호출)
+   *
+   * @param request 다음 페이지 요청 (응답할 페이지의 마지막 모임이 커서)
+   * @return 이어보기 토큰 (없거나 만료되었으면 null)
+   */
+  public synchronized String refresh(MeetingsRequest request) {
+    String token = tokens.get(MeetingFeedCacheKey.from(request));
+    if (token == null) {
+      return null;
+    }
+    ContinuationEntry entry = entries.get(token);
+    long now = System.currentTimeMillis();
+    if (entry.expiresAt < now) {
+      remove(token, entry);
+      return null;
+    }
+    entry.expiresAt = now + ttlMs;
+    return token;
+  }
+
+  /**
+   * 토큰의 페이지가 요청과 같은 정렬, 위치, 커서, 페이지 크기이면 반환
+   *
+   * @param token   이전 페이지 응답의 이어보기 토큰
+   * @param request 다음 페이지 요청
+   * @return 미리 조회한 페이지 (없거나 만료, 무효화되었거나 요청과 다르면 null)
+   */
+  public MeetingsResponse get(String token, MeetingsRequest request) {
+    MeetingsResponse response = find(token, request);
+    (response == null ? missCount : hitCount).incrementAndGet();
+    return response;
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void handleMeetingEvent(MeetingEvent event) {
+    version++;
+
+    // 생성, 수정된 모임은 새 위치(날짜, 거리)가 들어가는 페이지도 무효화
+    Meeting meeting =
+        event.isRecruiting() && !event.isApprovedCountChanged() ? event.getMeeting() : null;
+    int before = entries.size();
+    removeIf(entry -> entry.page.contains(event.getMeetingId())
+        || (meeting != null && entry.page.covers(meeting)));
+
+    log.debug("이어보기 캐시 무효화 : {} {}건", event.getEventType(), before - entries.size());
+  }
+
+  // 조회수가 바뀐 모임을 포함한 페이지만 무효화 (날짜, 거리 순서는 그대로이므로 구간 검사는 필요 없음)
+  @EventListener
+  public synchronized void handleViewsFlushed(MeetingViewsFlushedEvent event) {
+    version++;
+
+    int before = entries.size();
+    removeIf(entry -> event.getMeetingIds().stream().anyMatch(entry.page::contains));
+
+    log.debug("이어보기 캐시 무효화 : 조회수 반영 {}건", before - entries.size());
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private synchronized MeetingsResponse find(String token, MeetingsRequest request) {
+    ContinuationEntry entry = entries.get(token);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt < System.currentTimeMillis()) {
+      remove(token, entry);
+      return null;
+    }
+    if (!MeetingFeedCacheKey.from(entry.page.getRequest())
+        .equals(MeetingFeedCacheKey.from(request))) {
+      return null;
+    }
+    return entry.page.getResponse();
+  }
+
+  private void remove(String token, ContinuationEntry entry) {
+    entries.remove(token);
+    tokens.remove(entry.key, token);
+  }
+
+  private void removeIf(Predicate<ContinuationEntry> condition) {
+    Iterator<Map.Entry<String, ContinuationEntry>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, ContinuationEntry> entry = iterator.next();
+      if (condition.test(entry.getValue())) {
+        iterator.remove();
+        tokens.remove(entry.getValue().key, entry.getKey());
+      }
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("meeting.feed.continuation", hitCount, AtomicLong::get)
+        .tag("result", "hit")
+        .description("이어보기 캐시 조회 수")
+        .register(registry);
+    FunctionCounter.builder("meeting.feed.continuation", missCount, AtomicLong::get)
+        .tag("result", "miss")
+        .description("이어보기 캐시 조회 수")
+        .register(registry);
+    Gauge.builder("meeting.feed.continuation.size", this, MeetingContinuationCache::size)
+        .description("미리 조회해 둔 모임 목록 페이지 수")
+        .register(registry);
+  }
+
+  private static class ContinuationEntry {
+
+    private final MeetingFeedCacheKey key;
+    private final MeetingFeedCacheEntry page;
+    private long expiresAt;
+
+    private ContinuationEntry(MeetingFeedCacheKey key, MeetingFeedCacheEntry page, long expiresAt) {
+      this.key = key;
+      this.page = page;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
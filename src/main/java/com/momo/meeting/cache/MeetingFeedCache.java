@@ -0,0 +1,133 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 목록 페이지 응답을 보관하는 LRU 캐시.
+ * 모임이 생성, 수정, 모집 완료, 삭제, 만료되거나 참여 인원이 바뀌면 영향을 받는 페이지만 무효화한다.
+ */
+@Slf4j
+@Component
+public class MeetingFeedCache implements MeterBinder {
+
+  private static final int MAX_ENTRY_COUNT = 1000;
+
+  // 접근 순서로 정렬하여 가장 오래 사용되지 않은 페이지부터 제거
+  private final Map<MeetingFeedCacheKey, MeetingFeedCacheEntry> entries =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<MeetingFeedCacheKey, MeetingFeedCacheEntry> eldest
+        ) {
+          return size() > MAX_ENTRY_COUNT;
+        }
+      };
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private long version; // 무효화할 때마다 증가, 조회 중 무효화된 결과는 저장하지 않음
+
+  /**
+   * 캐시된 페이지를 반환하고, 없으면 조회하여 저장
+   *
+   * @param request 모임 목록 조회 요청
+   * @param loader  캐시에 없을 때 실행할 조회 (위치가 셀 중심으로 보정된 요청과 조회 시작 시의 캐시 버전을 받음,
+   *                다른 요청의 조회에 병합한다면 같은 버전의 조회끼리만 병합해야 함)
+   * @return 모임 목록 페이지
+   */
+  public MeetingsResponse get(
+      MeetingsRequest request, BiFunction<MeetingsRequest, Long, MeetingsResponse> loader
+  ) {
+    MeetingFeedCacheKey key = MeetingFeedCacheKey.from(request);
+    long loadVersion;
+
+    synchronized (this) {
+      MeetingFeedCacheEntry entry = entries.get(key);
+      if (entry != null) {
+        hitCount.incrementAndGet();
+        return entry.getResponse();
+      }
+      loadVersion = version;
+    }
+    missCount.incrementAndGet();
+
+    MeetingsRequest cacheRequest = key.toRequest(request);
+    MeetingsResponse response = loader.apply(cacheRequest, loadVersion);
+
+    synchronized (this) {
+      if (version == loadVersion) {
+        entries.put(key, new MeetingFeedCacheEntry(cacheRequest, response));
+      }
+    }
+    return response;
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void handleMeetingEvent(MeetingEvent event) {
+    version++;
+
+    // 생성, 수정된 모임은 새 위치(날짜, 거리)가 들어가는 페이지도 무효화
+    Meeting meeting =
+        event.isRecruiting() && !event.isApprovedCountChanged() ? event.getMeeting() : null;
+    int before = entries.size();
+    entries.values().removeIf(entry -> entry.contains(event.getMeetingId())
+        || (meeting != null && entry.covers(meeting)));
+
+    log.debug("모임 목록 캐시 무효화 : {} {}건", event.getEventType(), before - entries.size());
+  }
+
+  // 조회수가 바뀐 모임을 포함한 페이지만 무효화 (날짜, 거리 순서는 그대로이므로 구간 검사는 필요 없음)
+  @EventListener
+  public synchronized void handleViewsFlushed(MeetingViewsFlushedEvent event) {
+    version++;
+
+    int before = entries.size();
+    entries.values().removeIf(entry -> event.getMeetingIds().stream().anyMatch(entry::contains));
+
+    log.debug("모임 목록 캐시 무효화 : 조회수 반영 {}건", before - entries.size());
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("meeting.feed.cache", hitCount, AtomicLong::get)
+        .tag("result", "hit")
+        .description("모임 목록 캐시 조회 수")
+        .register(registry);
+    FunctionCounter.builder("meeting.feed.cache", missCount, AtomicLong::get)
+        .tag("result", "miss")
+        .description("모임 목록 캐시 조회 수")
+        .register(registry);
+    Gauge.builder("meeting.feed.cache.size", this, MeetingFeedCache::size)
+        .description("캐시된 모임 목록 페이지 수")
+        .register(registry);
+  }
+}
@@ -0,0 +1,62 @@
+package com.momo.meeting.cache;
+
+import com.momo.common.util.GeoUtils;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.entity.Meeting;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * 캐시된 모임 목록 페이지.
+ * 커서 기반 페이지는 (커서, 마지막 항목] 구간으로 정해지므로, 모임이 바뀌면 그 모임을 포함하거나
+ * 새 위치가 구간 안에 들어오는 페이지만 무효화하면 된다.
+ */
+@Getter
+class MeetingFeedCacheEntry {
+
+  private final MeetingsRequest request;
+  private final MeetingsResponse response;
+  private final Set<Long> meetingIds;
+
+  MeetingFeedCacheEntry(MeetingsRequest request, MeetingsResponse response) {
+    this.request = request;
+    this.response = response;
+    this.meetingIds = response.getMeetings().stream()
+        .map(MeetingDto::getId)
+        .collect(Collectors.toSet());
+  }
+
+  boolean contains(Long meetingId) {
+    return meetingIds.contains(meetingId);
+  }
+
+  // 모집 중인 모임이 이 페이지의 구간에 들어오는지 여부 (경계값은 넉넉하게 포함)
+  boolean covers(Meeting meeting) {
+    List<MeetingDto> meetings = response.getMeetings();
+    MeetingDto last = meetings.isEmpty() ? null : meetings.get(meetings.size() - 1);
+
+    if (request.getSortType() == SortType.DATE) {
+      LocalDateTime meetingDateTime = meeting.getMeetingDateTime();
+      if (meetingDateTime.isBefore(request.getCursorMeetingDateTime())) {
+        return false;
+      }
+      // 응답의 모임 날짜는 분 단위로 잘려 있으므로 1분을 더해 비교
+      return !response.isHasNext()
+          || meetingDateTime.isBefore(last.getMeetingDateTime().plusMinutes(1));
+    }
+
+    double distance = GeoUtils.distance(
+        request.getUserLatitude(), request.getUserLongitude(),
+        meeting.getLatitude(), meeting.getLongitude());
+    if (distance > request.getRadius() || distance < request.getCursorDistance()) {
+      return false;
+    }
+    return !response.isHasNext() || distance <= last.getDistance();
+  }
+}
@@ -0,0 +1,53 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingsRequest;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 정렬 기준, 커서, 페이지 크기와 위치 셀로 구분되는 모임 목록 페이지 키
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class MeetingFeedCacheKey {
+
+  private static final double CELL_SIZE_DEGREE = 0.001; // 위도 기준 약 110m
+
+  private final SortType sortType;
+  private final Long latitudeCell; // 날짜순이면 null
+  private final Long longitudeCell;
+  private final Long cursorId;
+  private final Double cursorDistance; // 날짜순이면 null
+  private final LocalDateTime cursorMeetingDateTime; // 거리순이면 null
+  private final int pageSize;
+
+  public static MeetingFeedCacheKey from(MeetingsRequest request) {
+    if (request.getSortType() == SortType.DATE) {
+      // 날짜순 결과는 위치와 무관
+      return new MeetingFeedCacheKey(
+          SortType.DATE, null, null,
+          request.getCursorId(), null, request.getCursorMeetingDateTime(),
+          request.getPageSize());
+    }
+
+    return new MeetingFeedCacheKey(
+        request.getSortType(),
+        Math.round(request.getUserLatitude() / CELL_SIZE_DEGREE),
+        Math.round(request.getUserLongitude() / CELL_SIZE_DEGREE),
+        request.getCursorId(), request.getCursorDistance(), null,
+        request.getPageSize());
+  }
+
+  // 같은 셀의 사용자가 같은 결과를 받도록 위치를 셀 중심으로 맞춘 요청
+  public MeetingsRequest toRequest(MeetingsRequest request) {
+    if (latitudeCell == null) {
+      return request;
+    }
+    return request.toBuilder()
+        .userLatitude(latitudeCell * CELL_SIZE_DEGREE)
+        .userLongitude(longitudeCell * CELL_SIZE_DEGREE)
+        .build();
+  }
+}
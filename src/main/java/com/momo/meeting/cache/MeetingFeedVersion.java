@@ -0,0 +1,38 @@
+package com.momo.meeting.cache;
+
+import com.momo.common.util.ETagUtils;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 목록의 ETag 에 사용하는 버전.
+ * MeetingFeedCache 가 페이지를 무효화하는 모든 모임 이벤트와 조회수 반영마다 증가하므로,
+ * 버전이 같으면 목록 응답도 같다.
+ * 서버 시작 시각을 함께 넣어 재시작 후 같은 번호가 다른 목록을 가리키지 않도록 한다.
+ */
+@Component
+public class MeetingFeedVersion {
+
+  private final long epoch = System.currentTimeMillis();
+  private final AtomicLong version = new AtomicLong();
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    version.incrementAndGet();
+  }
+
+  // 목록 항목의 조회수가 바뀌었으므로 증가
+  @EventListener
+  public void handleViewsFlushed(MeetingViewsFlushedEvent event) {
+    version.incrementAndGet();
+  }
+
+  public String eTag() {
+    return ETagUtils.of("feed", epoch, version.get());
+  }
+}
@@ -0,0 +1,109 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 오늘 작성한 모임 수를 보관하는 카운터.
+ * 회원마다 하루 첫 작성 시에만 DB 에서 개수를 조회하고, 이후에는 메모리에서 확인, 증가시킨다.
+ * 같은 회원의 동시 작성은 잠금 분할(stripe) 단위로 직렬화되어 제한을 넘을 수 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingPostCounter {
+
+  public static final int DAILY_POST_LIMIT = 10;
+  private static final int STRIPE_COUNT = 64;
+
+  private final MeetingRepository meetingRepository;
+
+  private final Object[] stripes = createStripes();
+  private final Map<Long, DailyCount> counts = new ConcurrentHashMap<>(); // 회원 ID -> 작성 수
+
+  /**
+   * 오늘 작성 수가 제한 미만이면 1 증가시킴
+   *
+   * @param userId 회원 ID
+   * @return 작성 가능 여부 (false 이면 증가하지 않음)
+   */
+  public boolean tryIncrement(Long userId) {
+    LocalDate today = LocalDate.now();
+
+    synchronized (stripe(userId)) {
+      DailyCount count = counts.get(userId);
+      if (count == null || !count.date.equals(today)) {
+        count = new DailyCount(today, countToday(userId, today));
+        counts.put(userId, count);
+      }
+
+      if (count.value >= DAILY_POST_LIMIT) {
+        return false;
+      }
+      count.value++;
+      return true;
+    }
+  }
+
+  /**
+   * 모임 저장에 실패한 경우 tryIncrement 로 증가시킨 작성 수를 되돌림
+   *
+   * @param userId 회원 ID
+   */
+  public void decrement(Long userId) {
+    LocalDate today = LocalDate.now();
+
+    synchronized (stripe(userId)) {
+      DailyCount count = counts.get(userId);
+      if (count != null && count.date.equals(today) && count.value > 0) {
+        count.value--;
+      }
+    }
+  }
+
+  // 자정에 지난 날짜의 작성 수를 제거
+  @Scheduled(cron = "0 0 0 * * *")
+  public void rollOver() {
+    LocalDate today = LocalDate.now();
+    int before = counts.size();
+    counts.values().removeIf(count -> count.date.isBefore(today));
+    log.info("모임 작성 수 초기화 : {}명", before - counts.size());
+  }
+
+  public int size() {
+    return counts.size();
+  }
+
+  private int countToday(Long userId, LocalDate today) {
+    LocalDateTime startOfDay = today.atStartOfDay();
+    LocalDateTime endOfDay = startOfDay.plusDays(1);
+    return meetingRepository.countByUser_IdAndCreatedAtBetween(userId, startOfDay, endOfDay);
+  }
+
+  private Object stripe(Long userId) {
+    return stripes[Math.floorMod(userId.hashCode(), STRIPE_COUNT)];
+  }
+
+  private static Object[] createStripes() {
+    Object[] stripes = new Object[STRIPE_COUNT];
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      stripes[i] = new Object();
+    }
+    return stripes;
+  }
+
+  @AllArgsConstructor
+  private static class DailyCount {
+
+    private final LocalDate date;
+    private int value; // stripe 잠금 안에서만 변경
+  }
+}
@@ -0,0 +1,83 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.dto.MeetingsResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시에 들어온 같은 모임 목록 조회를 하나의 DB 조회로 병합 (single-flight).
+ * 먼저 들어온 요청만 조회를 실행하고, 실행 중에 들어온 같은 키의 요청은 그 결과를 함께 받는다.
+ */
+@Component
+public class MeetingQueryCoalescer implements MeterBinder {
+
+  private final ConcurrentMap<MeetingQueryKey, CompletableFuture<MeetingsResponse>> inFlight =
+      new ConcurrentHashMap<>();
+
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong coalescedCount = new AtomicLong();
+
+  public MeetingsResponse execute(MeetingQueryKey key, Supplier<MeetingsResponse> query) {
+    requestCount.incrementAndGet();
+
+    CompletableFuture<MeetingsResponse> future = new CompletableFuture<>();
+    CompletableFuture<MeetingsResponse> running = inFlight.putIfAbsent(key, future);
+    if (running != null) {
+      coalescedCount.incrementAndGet();
+      return await(running);
+    }
+
+    try {
+      MeetingsResponse response = query.get();
+      future.complete(response);
+      return response;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("meeting.query.requests", requestCount, AtomicLong::get)
+        .description("모임 목록 조회 요청 수")
+        .register(registry);
+    FunctionCounter.builder("meeting.query.coalesced", coalescedCount, AtomicLong::get)
+        .description("실행 중인 같은 조회에 병합된 요청 수")
+        .register(registry);
+    Gauge.builder("meeting.query.in-flight", inFlight, ConcurrentMap::size)
+        .description("실행 중인 모임 목록 조회 수")
+        .register(registry);
+  }
+
+  // 먼저 실행된 조회의 예외는 그대로 전달
+  private static MeetingsResponse await(CompletableFuture<MeetingsResponse> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
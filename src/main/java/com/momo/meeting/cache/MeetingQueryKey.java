@@ -0,0 +1,69 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingsRequest;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+
+// 같은 결과를 내는 모임 목록 조회를 구분하는 키 (요청 병합용)
+@EqualsAndHashCode
+@Builder(access = AccessLevel.PRIVATE)
+public class MeetingQueryKey {
+
+  private final boolean search;
+  private final SortType sortType;
+  private final Double latitude;
+  private final Double longitude;
+  private final Double radius;
+  private final Long cursorId;
+  private final Double cursorDistance;
+  private final LocalDateTime cursorMeetingDateTime;
+  private final Long cursorViewCount;
+  private final int pageSize;
+  private final SearchType searchType;
+  private final String keyword;
+  private final int categoryMask;
+  private final Long cacheVersion;
+
+  public static MeetingQueryKey of(MeetingsRequest request) {
+    return from(request).build();
+  }
+
+  // 페이지 캐시에 저장할 조회는 캐시 버전이 같은 조회끼리만 병합
+  // (무효화 이전에 시작한 조회의 결과가 무효화 이후의 버전으로 캐시에 저장되지 않도록 함)
+  public static MeetingQueryKey of(MeetingsRequest request, long cacheVersion) {
+    return from(request).cacheVersion(cacheVersion).build();
+  }
+
+  public static MeetingQueryKey of(
+      MeetingsRequest request, SearchType searchType, String keyword, int categoryMask
+  ) {
+    return from(request)
+        .search(true)
+        .searchType(searchType)
+        .keyword(keyword == null || keyword.isEmpty() ? null : keyword)
+        .categoryMask(categoryMask)
+        .build();
+  }
+
+  private static MeetingQueryKeyBuilder from(MeetingsRequest request) {
+    boolean dateSort = request.getSortType() == SortType.DATE;
+    boolean popularSort = request.getSortType() == SortType.POPULAR;
+    boolean distanceSort = !dateSort && !popularSort;
+
+    // 정렬에 쓰이지 않는 값은 제외하여 같은 결과의 요청이 같은 키를 갖도록 함
+    return MeetingQueryKey.builder()
+        .sortType(request.getSortType())
+        .latitude(distanceSort ? request.getUserLatitude() : null)
+        .longitude(distanceSort ? request.getUserLongitude() : null)
+        .radius(distanceSort ? request.getRadius() : null)
+        .cursorId(request.getCursorId())
+        .cursorDistance(distanceSort ? request.getCursorDistance() : null)
+        .cursorMeetingDateTime(dateSort ? request.getCursorMeetingDateTime() : null)
+        .cursorViewCount(popularSort ? request.getCursorViewCount() : null)
+        .pageSize(request.getPageSize());
+  }
+}
@@ -0,0 +1,138 @@
+package com.momo.meeting.cache;
+
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import com.momo.meeting.index.MeetingPopularityIndex;
+import com.momo.meeting.repository.MeetingRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 조회수를 메모리에 모아두었다가 주기적으로 DB 에 반영하는 카운터 (write-behind).
+ * 조회마다 UPDATE 를 실행하지 않고, 반영 주기마다 증가량이 같은 모임끼리 묶어 한 번에 갱신한다.
+ * 모임별 조회수는 LongAdder 에 모아 같은 모임의 동시 조회가 하나의 락을 두고 경쟁하지 않도록 한다.
+ * 서버가 비정상 종료되면 마지막 반영 이후의 조회수는 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingViewCounter implements MeterBinder {
+
+  private final MeetingRepository meetingRepository;
+  private final MeetingPopularityIndex meetingPopularityIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 모임 ID -> 반영 전 조회수
+  private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+  private final AtomicLong flushedViews = new AtomicLong();
+
+  /**
+   * 모임 조회수를 1 증가 (DB 에는 다음 반영 주기에 반영)
+   *
+   * @param meetingId 모임 ID
+   */
+  public void record(Long meetingId) {
+    // 이미 있는 모임은 락 없이 조회하고, LongAdder 는 스레드별 셀에 나눠 더함
+    LongAdder views = pendingViews.get(meetingId);
+    if (views == null) {
+      views = pendingViews.computeIfAbsent(meetingId, key -> new LongAdder());
+    }
+    views.increment();
+  }
+
+  // 모아둔 조회수를 DB 와 인기순 인덱스에 반영하고, 조회수가 바뀐 모임의 목록 캐시를 무효화
+  @Scheduled(fixedDelayString = "${meeting.view.flush-interval-ms:10000}")
+  public void flush() {
+    Map<Long, List<Long>> meetingIdsByDelta = drain();
+    if (meetingIdsByDelta.isEmpty()) {
+      return;
+    }
+
+    try {
+      transactionTemplate.execute(status -> {
+        meetingIdsByDelta.forEach(
+            (delta, meetingIds) -> meetingRepository.incrementViewCounts(meetingIds, delta));
+        return null;
+      });
+    } catch (RuntimeException e) {
+      // 반영에 실패한 조회수는 다음 주기에 다시 반영
+      meetingIdsByDelta.forEach((delta, meetingIds) -> meetingIds.forEach(meetingId ->
+          pendingViews.computeIfAbsent(meetingId, key -> new LongAdder()).add(delta)));
+      log.error("모임 조회수 반영 실패 : error = {}", e.getMessage());
+      return;
+    }
+
+    long total = 0;
+    Set<Long> flushedMeetingIds = new HashSet<>();
+    for (Map.Entry<Long, List<Long>> entry : meetingIdsByDelta.entrySet()) {
+      for (Long meetingId : entry.getValue()) {
+        meetingPopularityIndex.increment(meetingId, entry.getKey());
+        total += entry.getKey();
+      }
+      flushedMeetingIds.addAll(entry.getValue());
+    }
+    flushedViews.addAndGet(total);
+    eventPublisher.publishEvent(new MeetingViewsFlushedEvent(flushedMeetingIds));
+    log.debug("모임 조회수 반영 : 조회 {}건, UPDATE {}건", total, meetingIdsByDelta.size());
+  }
+
+  // 종료 전에 남은 조회수를 반영
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  public int pendingSize() {
+    return (int) pendingViews.values().stream()
+        .filter(views -> views.sum() > 0)
+        .count();
+  }
+
+  // 모아둔 조회수를 꺼내 증가량별로 묶음 (꺼낸 뒤 들어온 조회는 다음 주기에 반영)
+  private Map<Long, List<Long>> drain() {
+    Map<Long, List<Long>> meetingIdsByDelta = new TreeMap<>();
+    for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+      long delta = entry.getValue().sumThenReset();
+      if (delta > 0) {
+        meetingIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(entry.getKey());
+        continue;
+      }
+      // 한 주기 동안 조회가 없던 모임은 제거 (제거 직후 더해진 조회는 되돌려 놓음)
+      if (pendingViews.remove(entry.getKey(), entry.getValue())) {
+        long late = entry.getValue().sumThenReset();
+        if (late > 0) {
+          pendingViews.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(late);
+        }
+      }
+    }
+    return meetingIdsByDelta;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("meeting.view.pending", this, MeetingViewCounter::pendingSize)
+        .description("조회수 반영을 기다리는 모임 수")
+        .register(registry);
+    FunctionCounter.builder("meeting.view.flushed", flushedViews, AtomicLong::get)
+        .description("DB 에 반영한 누적 조회수")
+        .register(registry);
+  }
+}
@@ -0,0 +1,15 @@
+package com.momo.meeting.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DistanceSearchMode {
+
+  INDEX("인메모리 공간 인덱스"),
+  BOUNDING_BOX("위경도 범위 조건으로 후보 조회 후 애플리케이션에서 거리 계산"),
+  SPHERE("DB 의 ST_Distance_Sphere 로 거리 계산 (MySQL 전용)");
+
+  private final String description;
+}
@@ -0,0 +1,14 @@
+package com.momo.meeting.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 객체 하나
+  CSV("text/csv", "csv");
+
+  private final String contentType;
+  private final String extension;
+}
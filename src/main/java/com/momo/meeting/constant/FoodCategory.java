@@ -2,8 +2,10 @@ package com.momo.meeting.constant;
 
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -16,29 +18,81 @@ public enum FoodCategory {
   JAPANESE("일식"),
   WESTERN("양식"),
   DESSERT("디저트"),
-  OTHER("기타");
+  OTHER("기타"); // 비트마스크는 선언 순서를 사용하므로 새 카테고리는 끝에만 추가
+
+  // 비트마스크별 카테고리 설명 (조회 시 매번 Set 을 만들지 않도록 미리 계산)
+  private static final List<Set<String>> DESCRIPTIONS_BY_MASK = createDescriptionsByMask();
 
   private final String description;
 
-  public static Set<String> convertToFoodCategories(String categoryStr) {
-    if (categoryStr == null || categoryStr.isEmpty()) {
-      return new HashSet<>();
+  public int getMask() {
+    return 1 << ordinal();
+  }
+
+  public static int toMask(Set<FoodCategory> categories) {
+    int mask = 0;
+    if (categories != null) {
+      for (FoodCategory category : categories) {
+        mask |= category.getMask();
+      }
+    }
+    return mask;
+  }
+
+  // 모임의 카테고리가 요청한 카테고리를 모두 포함하는지 여부 (검색, 날짜 구간 조회의 공통 기준)
+  public static boolean containsAll(int mask, int requiredMask) {
+    return (mask & requiredMask) == requiredMask;
+  }
+
+  // 요청한 카테고리를 모두 포함하는 비트마스크 값 목록 (SQL 에서 category_mask IN 조건으로 비교)
+  public static List<Integer> masksContaining(int requiredMask) {
+    List<Integer> masks = new ArrayList<>();
+    for (int mask = 0; mask < DESCRIPTIONS_BY_MASK.size(); mask++) {
+      if (containsAll(mask, requiredMask)) {
+        masks.add(mask);
+      }
+    }
+    return masks;
+  }
+
+  // 비트마스크를 카테고리 설명으로 변환 (변경 불가능한 Set 반환)
+  public static Set<String> toDescriptions(Integer mask) {
+    if (mask == null || mask < 0 || mask >= DESCRIPTIONS_BY_MASK.size()) {
+      return Collections.emptySet();
     }
+    return DESCRIPTIONS_BY_MASK.get(mask);
+  }
 
-    Set<String> foodCategories = new HashSet<>();
-    String[] categorise = categoryStr.split(",");
+  // "KOREAN,JAPANESE" 형식의 카테고리 이름을 비트마스크로 변환
+  public static int convertToMask(String categoryStr) {
+    if (categoryStr == null || categoryStr.isEmpty()) {
+      return 0;
+    }
 
-    for (String category : categorise) {
-      FoodCategory.getFoodCategoryDescription(category).ifPresent(foodCategories::add);
+    int mask = 0;
+    for (String category : categoryStr.split(",")) {
+      try {
+        mask |= FoodCategory.valueOf(category).getMask();
+      } catch (IllegalArgumentException e) {
+        throw new MeetingException(MeetingErrorCode.INVALID_FOOD_CATEGORY);
+      }
     }
-    return foodCategories;
+    return mask;
   }
 
-  private static Optional<String> getFoodCategoryDescription(String category) {
-    try {
-      return Optional.of(FoodCategory.valueOf(category).getDescription());
-    } catch (IllegalArgumentException e) {
-      throw new MeetingException(MeetingErrorCode.INVALID_FOOD_CATEGORY);
+  private static List<Set<String>> createDescriptionsByMask() {
+    FoodCategory[] categories = values();
+    List<Set<String>> descriptionsByMask = new ArrayList<>(1 << categories.length);
+
+    for (int mask = 0; mask < 1 << categories.length; mask++) {
+      Set<String> descriptions = new HashSet<>();
+      for (FoodCategory category : categories) {
+        if ((mask & category.getMask()) != 0) {
+          descriptions.add(category.getDescription());
+        }
+      }
+      descriptionsByMask.add(Collections.unmodifiableSet(descriptions));
     }
+    return descriptionsByMask;
   }
 }
@@ -0,0 +1,18 @@
+package com.momo.meeting.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MeetingEventType {
+
+  CREATED("모임 생성"),
+  UPDATED("모임 수정"),
+  CLOSED("모집 완료"),
+  DELETED("모임 삭제"),
+  EXPIRED("모임 만료"),
+  APPROVED_COUNT_CHANGED("참여 인원 변경");
+
+  private final String description;
+}
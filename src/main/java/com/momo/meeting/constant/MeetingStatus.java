@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 public enum MeetingStatus {
 
   RECRUITING("모집 중"),
-  CLOSED("모집 완료");
+  CLOSED("모집 완료"),
+  EXPIRED("기간 만료"); // 만료되어 삭제 대기 중
 
   // 모집 가능 상태인지 확인하는 메서드
   public boolean isParticipate() {
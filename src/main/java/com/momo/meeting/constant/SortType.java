@@ -2,5 +2,8 @@ package com.momo.meeting.constant;
 
 public enum SortType {
   DISTANCE,
-  DATE
+  NEAREST, // 반경 제한 없이 가까운 순 (k-nearest neighbour)
+  DATE,
+  POPULAR, // 조회수가 많은 순
+  RECOMMENDED // 거리, 날짜, 관심 카테고리, 모집률을 합산한 추천순
 }
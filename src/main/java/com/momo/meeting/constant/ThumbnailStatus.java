@@ -0,0 +1,16 @@
+package com.momo.meeting.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailStatus {
+
+  NONE("썸네일 없음"),
+  PENDING("업로드 중"), // 모임 저장 후 백그라운드에서 업로드 중
+  READY("업로드 완료"),
+  FAILED("업로드 실패"); // 재시도 후에도 실패하여 썸네일 없이 노출
+
+  private final String description;
+}
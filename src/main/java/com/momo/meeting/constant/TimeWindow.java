@@ -0,0 +1,38 @@
+package com.momo.meeting.constant;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+// 모임 날짜 구간 조회의 구간 (시작 시각은 지금 이후로 제한)
+public enum TimeWindow {
+  TODAY, // 지금부터 오늘 자정까지
+  THIS_WEEK, // 지금부터 이번 주 일요일 자정까지
+  THIS_WEEKEND, // 이번 주 토요일 0시(지났으면 지금)부터 일요일 자정까지
+  CUSTOM; // 요청한 from ~ to
+
+  public LocalDateTime startAt(LocalDateTime now, LocalDateTime customFrom) {
+    switch (this) {
+      case THIS_WEEKEND:
+        return latest(now.toLocalDate().with(DayOfWeek.SATURDAY).atStartOfDay(), now);
+      case CUSTOM:
+        return customFrom == null ? now : latest(customFrom, now);
+      default:
+        return now;
+    }
+  }
+
+  public LocalDateTime endAt(LocalDateTime now, LocalDateTime customTo) {
+    switch (this) {
+      case TODAY:
+        return now.toLocalDate().plusDays(1).atStartOfDay();
+      case CUSTOM:
+        return customTo;
+      default:
+        return now.toLocalDate().with(DayOfWeek.SUNDAY).plusDays(1).atStartOfDay();
+    }
+  }
+
+  private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+    return a.isAfter(b) ? a : b;
+  }
+}
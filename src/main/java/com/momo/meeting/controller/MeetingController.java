@@ -1,27 +1,41 @@
 package com.momo.meeting.controller;
 
+import com.momo.common.cursor.CursorCodec;
+import com.momo.common.cursor.CursorKeys;
+import com.momo.common.cursor.CursorType;
+import com.momo.common.util.ETagUtils;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.constant.TimeWindow;
 import com.momo.meeting.dto.MeetingUpdateRequest;
 import com.momo.meeting.dto.MeetingStatusRequest;
 import com.momo.meeting.dto.createdMeeting.CreatedMeetingsResponse;
 import com.momo.meeting.dto.MeetingCreateRequest;
+import com.momo.meeting.dto.MeetingCursor;
+import com.momo.meeting.dto.MeetingFields;
 import com.momo.meeting.dto.MeetingResponse;
 import com.momo.meeting.dto.MeetingsRequest;
 import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.dto.location.MeetingLocationCountResponse;
+import com.momo.meeting.dto.map.MeetingMapResponse;
+import com.momo.meeting.index.MeetingSuggestion;
 import com.momo.meeting.projection.MeetingParticipantProjection;
+import com.momo.meeting.service.MeetingFeedService;
+import com.momo.meeting.service.MeetingLocationCountService;
+import com.momo.meeting.service.MeetingMapService;
 import com.momo.meeting.service.MeetingService;
 import com.momo.user.dto.CustomUserDetails;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,6 +48,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -42,6 +57,10 @@ import org.springframework.web.multipart.MultipartFile;
 public class MeetingController {
 
   private final MeetingService meetingService;
+  private final MeetingMapService meetingMapService;
+  private final MeetingFeedService meetingFeedService;
+  private final MeetingLocationCountService meetingLocationCountService;
+  private final CursorCodec cursorCodec;
 
   /**
    * 모임 생성
@@ -69,46 +88,172 @@ public class MeetingController {
   /**
    * 모집글 목록 조회
    *
+   * @param customUserDetails   회원 정보 (추천순 정렬의 카테고리 친화도에 사용, 비로그인 시 null)
    * @param latitude            사용자의 위도
    * @param longitude           사용자의 경도
-   * @param lastId              마지막으로 조회된 모임 ID
-   * @param lastDistance        마지막으로 조회된 모임 위치 거리
-   * @param lastMeetingDateTime 마지막으로 조회된 모임 날짜
    * @param pageSize            조회할 개수
+   * @param sortType            정렬 기준 (위치 정보가 있을 때 DISTANCE 기본, NEAREST 는 반경 제한 없음,
+   *                            POPULAR 는 조회수가 많은 순, RECOMMENDED 는 추천 점수 상위 한 페이지)
+   * @param continuationToken   이전 페이지 응답의 이어보기 토큰 (미리 조회된 다음 페이지가 있으면 바로 응답)
+   * @param cursor              이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @param fields              응답에 포함할 모임 필드 (쉼표 구분 또는 card, 없으면 모든 필드)
+   * @param webRequest          If-None-Match 확인용 (인기순, 추천순 제외)
    * @return 조회된 모임 정보, 다음 페이지 여부, 다음 페이지 조회에 사용될 커서
    */
   @GetMapping
-  public ResponseEntity<MeetingsResponse> getMeetings(
+  public ResponseEntity<MappingJacksonValue> getMeetings(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
       @RequestParam(required = false) @Range(min = -90, max = 90) Double latitude,
       @RequestParam(required = false) @Range(min = -180, max = 180) Double longitude,
-      @RequestParam(required = false) Long lastId,
-      @RequestParam(required = false) Double lastDistance,
+      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
+      @RequestParam(required = false) SortType sortType,
+      @RequestParam(required = false) String continuationToken,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest
+  ) {
+    MeetingFields meetingFields = MeetingFields.parse(fields);
+    MeetingCursor meetingCursor = resolveCursor(cursor);
+    MeetingsRequest request = MeetingsRequest.createRequest(latitude, longitude,
+        meetingCursor.getId(), meetingCursor.getDistance(), meetingCursor.getMeetingDateTime(),
+        meetingCursor.getViewCount(), pageSize, sortType);
+    // 목록이 바뀌지 않았으면 본문 없이 304 응답 (ETag 는 조회 전에 계산)
+    String eTag = meetingFeedService.getFeedETag(request);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE);
+    }
+    Long userId = customUserDetails == null ? null : customUserDetails.getId();
+    MeetingsResponse response = withNextCursor(
+        meetingFeedService.getMeetings(request, userId, continuationToken));
+    if (eTag == null) {
+      return ResponseEntity.ok(meetingFields.apply(response));
+    }
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE)
+        .eTag(eTag)
+        .body(meetingFields.apply(response));
+  }
+
+  /**
+   * 날짜 구간의 모집글 목록 조회 (날짜순)
+   *
+   * @param timeWindow          조회 구간 (TODAY, THIS_WEEK, THIS_WEEKEND, CUSTOM)
+   * @param from                CUSTOM 구간의 시작 (없으면 지금)
+   * @param to                  CUSTOM 구간의 끝 (최대 31일)
+   * @param foodCategory        음식 카테고리 필터링 ("", "KOREAN", 또는 "KOREAN,JAPANESE": 모두 포함)
+   * @param pageSize            조회할 개수
+   * @param cursor              이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @return 조회된 모임 정보, 다음 페이지 여부, 다음 페이지 조회에 사용될 커서
+   */
+  @GetMapping("/window")
+  public ResponseEntity<MeetingsResponse> getMeetingsInWindow(
+      @RequestParam TimeWindow timeWindow,
       @RequestParam(required = false)
-      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastMeetingDateTime,
-      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(defaultValue = "") String foodCategory,
+      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
+      @RequestParam(required = false) String cursor
+  ) {
+    int categoryMask = FoodCategory.convertToMask(foodCategory);
+    MeetingCursor meetingCursor = resolveCursor(cursor);
+    MeetingsRequest request = MeetingsRequest.createRequest(
+        null, null, meetingCursor.getId(), null, meetingCursor.getMeetingDateTime(), pageSize);
+    return ResponseEntity.ok(withNextCursor(
+        meetingService.getMeetingsInWindow(request, timeWindow, from, to, categoryMask)));
+  }
+
+  /**
+   * 모집글 상세 조회 (조회수 증가)
+   *
+   * @param meetingId  조회할 모임 ID
+   * @param webRequest If-None-Match 확인용
+   * @return 모임 정보 (바뀌지 않았으면 본문 없이 304, 조회수는 증가하지 않음)
+   */
+  @GetMapping("/{meetingId}")
+  public ResponseEntity<MeetingResponse> getMeeting(
+      @PathVariable Long meetingId,
+      WebRequest webRequest
   ) {
-    MeetingsRequest request = MeetingsRequest
-        .createRequest(latitude, longitude, lastId, lastDistance, lastMeetingDateTime, pageSize);
-    return ResponseEntity.ok(meetingService.getMeetings(request));
+    String eTag = meetingService.getMeetingETag(meetingId);
+    if (webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE);
+    }
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE)
+        .eTag(eTag)
+        .body(meetingService.getMeeting(meetingId));
+  }
+
+  /**
+   * 지도 영역의 모집글 조회
+   *
+   * @param minLatitude  지도 영역의 최소 위도
+   * @param maxLatitude  지도 영역의 최대 위도
+   * @param minLongitude 지도 영역의 최소 경도
+   * @param maxLongitude 지도 영역의 최대 경도
+   * @param zoom         지도 줌 레벨 (클수록 확대)
+   * @return 확대된 영역이면 모임 마커, 축소된 영역이면 모임 클러스터
+   */
+  @GetMapping("/map")
+  public ResponseEntity<MeetingMapResponse> getMeetingMap(
+      @RequestParam @Range(min = -90, max = 90) double minLatitude,
+      @RequestParam @Range(min = -90, max = 90) double maxLatitude,
+      @RequestParam @Range(min = -180, max = 180) double minLongitude,
+      @RequestParam @Range(min = -180, max = 180) double maxLongitude,
+      @RequestParam @Range(min = 0, max = 21) int zoom
+  ) {
+    MeetingMapResponse response = meetingMapService.getMeetingMap(
+        minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 지역의 모집 중인 모임 수 조회
+   *
+   * @param locationId 지역 ID
+   * @return 모임 수, 카테고리별 모임 수
+   */
+  @GetMapping("/locations/{locationId}/count")
+  public ResponseEntity<MeetingLocationCountResponse> getLocationCount(
+      @PathVariable Long locationId
+  ) {
+    return ResponseEntity.ok(meetingLocationCountService.getLocationCount(locationId));
   }
 
   /**
    * 주최한 모집글 목록 조회
    *
    * @param customUserDetails 회원 정보
-   * @param lastId            마지막으로 조회된 모임 ID
    * @param pageSize          조회할 모임 수
+   * @param cursor            이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @param fields            응답에 포함할 모임 필드 (content 가 없으면 DB 에서도 조회하지 않음)
    * @return CreatedMeetingsResponse
    */
   @GetMapping("/created")
-  public ResponseEntity<CreatedMeetingsResponse> getCreatedMeetings(
+  public ResponseEntity<MappingJacksonValue> getCreatedMeetings(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
-      @RequestParam(defaultValue = "0") Long lastId,
-      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize
+      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String fields
   ) {
-    CreatedMeetingsResponse response =
-        meetingService.getCreatedMeetings(customUserDetails.getId(), lastId, pageSize);
-    return ResponseEntity.ok(response);
+    MeetingFields meetingFields = MeetingFields.parse(fields);
+    Long lastId = 0L;
+    LocalDateTime lastMeetingDateTime = null;
+    if (cursor != null) {
+      CursorKeys keys = cursorCodec.decode(CursorType.CREATED_MEETING, cursor);
+      lastId = keys.getLong(0);
+      lastMeetingDateTime = keys.getDateTime(1);
+    }
+    CreatedMeetingsResponse response = meetingService.getCreatedMeetings(
+        customUserDetails.getId(), lastId, lastMeetingDateTime, pageSize,
+        meetingFields.includesContent());
+    if (response.getLastId() != null) {
+      response = response.withNextCursor(cursorCodec.encode(CursorType.CREATED_MEETING,
+          response.getLastId(), response.getLastMeetingDateTime()));
+    }
+    return ResponseEntity.ok(meetingFields.apply(response));
   }
 
   /**
@@ -116,17 +261,26 @@ public class MeetingController {
    *
    * @param customUserDetails 회원 정보
    * @param meetingId         모임 ID
+   * @param webRequest        If-None-Match 확인용
    * @return 참여 신정자의 ID, 닉네임, 프로필 사진 URL, 참여 상태를 담은 List 반환
    */
   @GetMapping("/{meetingId}/participants")
   public ResponseEntity<List<MeetingParticipantProjection>> getMeetingParticipant(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
-      @PathVariable Long meetingId
+      @PathVariable Long meetingId,
+      WebRequest webRequest
   ) {
+    String eTag = meetingService.getParticipantsETag(customUserDetails.getId(), meetingId);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE_PRIVATE);
+    }
     List<MeetingParticipantProjection> response =
         meetingService.getParticipants(customUserDetails.getId(), meetingId);
 
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE_PRIVATE)
+        .eTag(eTag)
+        .body(response);
   }
 
   /**
@@ -182,35 +336,69 @@ public class MeetingController {
    *
    * @param latitude            사용자의 위도
    * @param longitude           사용자의 경도
-   * @param lastId              마지막으로 조회된 모임 ID
-   * @param lastDistance        마지막으로 조회된 모임 위치 거리
-   * @param lastMeetingDateTime 마지막으로 조회된 모임 날짜
    * @param pageSize            조회할 개수
-   * @param searchType          검색 옵션 (TITLE, ADDRESS, 또는 CONTENT)
+   * @param searchType          검색 옵션 (TITLE, ADDRESS, 또는 CONTENT, 없으면 모든 필드)
    * @param keyword             검색 키워드
-   * @param foodCategory        음식 카테고리 필터링 ("", "KOREAN", 또는 "KOREAN,JAPANESE")
+   * @param foodCategory        음식 카테고리 필터링 ("", "KOREAN", 또는 "KOREAN,JAPANESE": 모두 포함)
+   * @param sortType            정렬 기준 (위치 정보가 있을 때 DISTANCE 기본, NEAREST 는 반경 제한 없음)
+   * @param cursor              이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @param fields              응답에 포함할 모임 필드 (쉼표 구분 또는 card, 없으면 모든 필드)
    * @return 조회된 모임 정보, 다음 페이지 여부, 다음 페이지 조회에 사용될 커서
    */
   @GetMapping("/search")
-  public ResponseEntity<MeetingsResponse> filterMeetings(
+  public ResponseEntity<MappingJacksonValue> filterMeetings(
       @RequestParam(required = false) @Range(min = -90, max = 90) Double latitude,
       @RequestParam(required = false) @Range(min = -180, max = 180) Double longitude,
-      @RequestParam(required = false) Long lastId,
-      @RequestParam(required = false) Double lastDistance,
-      @RequestParam(required = false)
-      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastMeetingDateTime,
       @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
       @RequestParam(required = false) SearchType searchType,
       @RequestParam(required = false) String keyword,
-      @RequestParam String foodCategory
+      @RequestParam String foodCategory,
+      @RequestParam(required = false) SortType sortType,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String fields
   ) {
-    Set<String> categorySet = (foodCategory != null && !foodCategory.isEmpty())
-        ? FoodCategory.convertToFoodCategories(foodCategory)
-        : null;
+    MeetingFields meetingFields = MeetingFields.parse(fields);
+    int categoryMask = FoodCategory.convertToMask(foodCategory);
+    MeetingCursor meetingCursor = resolveCursor(cursor);
     MeetingsRequest request = MeetingsRequest.createRequest(
-        latitude, longitude, lastId, lastDistance, lastMeetingDateTime, pageSize
+        latitude, longitude, meetingCursor.getId(), meetingCursor.getDistance(),
+        meetingCursor.getMeetingDateTime(), pageSize, sortType
     );
-    return ResponseEntity
-        .ok(meetingService.filterMeetings(request, searchType, keyword, categorySet, pageSize));
+    MeetingsResponse response = withNextCursor(meetingFeedService.filterMeetings(
+        request, searchType, keyword, categoryMask, pageSize));
+    return ResponseEntity.ok(meetingFields.apply(response));
+  }
+
+  /**
+   * 검색어 자동완성 (모임 제목, 주소)
+   *
+   * @param keyword 입력 중인 검색어 (음절 또는 초성, 예: "ㄱㅂ")
+   * @param size    조회할 추천어 수
+   * @return 추천어와 검색 시 사용할 검색 옵션
+   */
+  @GetMapping("/suggest")
+  public ResponseEntity<List<MeetingSuggestion>> getSuggestions(
+      @RequestParam String keyword,
+      @RequestParam(defaultValue = "10") @Range(min = 1, max = 10) int size
+  ) {
+    return ResponseEntity.ok(meetingService.getSuggestions(keyword, size));
+  }
+
+  // cursor 가 있으면 서명을 확인한 커서의 정렬 키를 사용
+  // 커서가 없으면 첫 페이지 (정렬 키의 기본값은 MeetingsRequest 에서 채움, 개별 커서 파라미터는 무시)
+  private MeetingCursor resolveCursor(String cursor) {
+    if (cursor != null) {
+      return MeetingCursor.from(cursorCodec.decode(CursorType.MEETING, cursor));
+    }
+    return MeetingCursor.of(null, null, null, null);
+  }
+
+  private MeetingsResponse withNextCursor(MeetingsResponse response) {
+    MeetingCursor cursor = response.getCursor();
+    if (cursor == null) {
+      return response;
+    }
+    return response.withNextCursor(
+        cursorCodec.encode(CursorType.MEETING, cursor.toCursorKeys()));
   }
 }
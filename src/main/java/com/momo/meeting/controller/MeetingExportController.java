@@ -0,0 +1,69 @@
+package com.momo.meeting.controller;
+
+import com.momo.meeting.constant.ExportFormat;
+import com.momo.meeting.service.MeetingExportService;
+import com.momo.user.dto.CustomUserDetails;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 관리자용 데이터 내보내기 (응답 본문을 쓰면서 DB 커서를 읽으므로 요청 스레드에서 직접 출력)
+@RestController
+@RequestMapping("/api/v1/admin/export")
+@RequiredArgsConstructor
+public class MeetingExportController {
+
+  private final MeetingExportService meetingExportService;
+
+  /**
+   * 모임 전체 내보내기
+   *
+   * @param customUserDetails 회원 정보 (관리자만 허용)
+   * @param format            출력 형식 (NDJSON, CSV)
+   * @param response          응답 (모임 한 건당 한 줄)
+   */
+  @GetMapping("/meetings")
+  public void exportMeetings(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+      HttpServletResponse response
+  ) throws IOException {
+    meetingExportService.validateAdmin(customUserDetails.getId());
+    prepareResponse(response, format, "meetings");
+    meetingExportService.exportMeetings(format, response.getOutputStream());
+  }
+
+  /**
+   * 참여신청 전체 내보내기
+   *
+   * @param customUserDetails 회원 정보 (관리자만 허용)
+   * @param format            출력 형식 (NDJSON, CSV)
+   * @param response          응답 (참여신청 한 건당 한 줄)
+   */
+  @GetMapping("/participations")
+  public void exportParticipations(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+      HttpServletResponse response
+  ) throws IOException {
+    meetingExportService.validateAdmin(customUserDetails.getId());
+    prepareResponse(response, format, "participations");
+    meetingExportService.exportParticipations(format, response.getOutputStream());
+  }
+
+  private static void prepareResponse(
+      HttpServletResponse response, ExportFormat format, String fileName
+  ) {
+    response.setContentType(format.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+  }
+}
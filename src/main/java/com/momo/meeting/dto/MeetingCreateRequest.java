@@ -2,6 +2,7 @@ package com.momo.meeting.dto;
 
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.ThumbnailStatus;
 import com.momo.meeting.entity.Meeting;
 import com.momo.user.entity.User;
 import java.time.LocalDateTime;
@@ -62,10 +63,13 @@ public class MeetingCreateRequest {
         .address(request.getAddress())
         .meetingDateTime(request.getMeetingDateTime())
         .approvedCount(1)
+        .viewCount(0L)
         .maxCount(request.getMaxCount())
         .category(request.getCategory())
+        .categoryMask(FoodCategory.toMask(request.getCategory()))
         .content(request.getContent())
         .thumbnail(thumbnail)
+        .thumbnailStatus(thumbnail == null ? ThumbnailStatus.NONE : ThumbnailStatus.READY)
         .meetingStatus(MeetingStatus.RECRUITING)
         .build();
   }
@@ -1,5 +1,6 @@
 package com.momo.meeting.dto;
 
+import com.momo.common.cursor.CursorKeys;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
@@ -12,25 +13,46 @@ public class MeetingCursor {
   private final Long id;
   private final Double distance;
   private final LocalDateTime meetingDateTime;
+  private final Long viewCount; // 인기순 조회에서만 사용
 
   public static MeetingCursor of(Long id, Double distance, LocalDateTime meetingDateTime) {
+    return of(id, distance, meetingDateTime, null);
+  }
+
+  public static MeetingCursor of(
+      Long id, Double distance, LocalDateTime meetingDateTime, Long viewCount
+  ) {
     return MeetingCursor.builder()
         .id(id)
         .distance(distance)
         .meetingDateTime(meetingDateTime)
+        .viewCount(viewCount)
         .build();
   }
 
+  // 불투명 커서(CursorType.MEETING)에서 꺼낸 정렬 키로 생성
+  public static MeetingCursor from(CursorKeys keys) {
+    return MeetingCursor.of(
+        keys.getLong(0), keys.getDouble(1), keys.getDateTime(2), keys.getLong(3));
+  }
+
+  // 불투명 커서(CursorType.MEETING)에 담을 정렬 키
+  public Object[] toCursorKeys() {
+    return new Object[]{id, distance, meetingDateTime, viewCount};
+  }
+
   public static MeetingCursor createCursor(List<MeetingDto> meetingDtos) {
     if (meetingDtos.isEmpty()) {
       return null;
     }
     MeetingDto lastProjection = meetingDtos.get(meetingDtos.size() - 1);
 
+    // 응답의 meetingDateTime 은 분 단위로 잘려 있어 같은 분의 모임이 다시 조회되므로 원래 값을 사용
     return MeetingCursor.of(
         lastProjection.getId(),
         lastProjection.getDistance(),
-        lastProjection.getMeetingDateTime()
+        lastProjection.getCursorMeetingDateTime(),
+        lastProjection.getViewCount()
     );
   }
 }
@@ -1,5 +1,7 @@
 package com.momo.meeting.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@JsonFilter(MeetingFields.FILTER_ID) // fields= 로 선택한 필드만 직렬화
 @Getter
 @Builder
 @ToString
@@ -26,8 +29,11 @@ public class MeetingDto {
   private Double longitude;
   private String address;
   private LocalDateTime meetingDateTime;
+  @JsonIgnore
+  private LocalDateTime cursorMeetingDateTime; // 커서에 담는 모임 날짜 (분 단위로 자르지 않은 값)
   private Integer maxCount;
   private Integer approvedCount;
+  private Long viewCount;
   private Set<String> category;
   private String content;
   private String thumbnail;
@@ -45,7 +51,7 @@ public class MeetingDto {
   }
 
   public static MeetingDto from(MeetingToMeetingDtoProjection meetingProjection) {
-    Set<String> foodCategories = FoodCategory.convertToFoodCategories(meetingProjection.getCategory());
+    Set<String> foodCategories = FoodCategory.toDescriptions(meetingProjection.getCategoryMask());
     return MeetingDto.builder()
         .id(meetingProjection.getId())
         .authorId(meetingProjection.getAuthorId())
@@ -55,8 +61,10 @@ public class MeetingDto {
         .longitude(meetingProjection.getLongitude())
         .address(meetingProjection.getAddress())
         .meetingDateTime(meetingProjection.getMeetingDateTime().truncatedTo(ChronoUnit.MINUTES))
+        .cursorMeetingDateTime(meetingProjection.getMeetingDateTime())
         .maxCount(meetingProjection.getMaxCount())
         .approvedCount(meetingProjection.getApprovedCount())
+        .viewCount(meetingProjection.getViewCount())
         .category(foodCategories)
         .content(meetingProjection.getContent())
         .thumbnail(meetingProjection.getThumbnail())
@@ -0,0 +1,115 @@
+package com.momo.meeting.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * 모임 목록 응답에 포함할 필드 (fields= 파라미터).
+ * MeetingDto, CreatedMeetingDto, AppliedMeetingDto 의 JSON 필드를 선택한 것만 남기고,
+ * 직접 DB 를 조회하는 목록은 content 가 없으면 SQL 에서도 content 를 가져오지 않는다.
+ * 자주 쓰는 필드 조합(card)과 한 번 사용한 조합은 필터를 미리 만들어 재사용한다.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MeetingFields {
+
+  public static final String FILTER_ID = "meetingFields";
+
+  // 목록 항목을 구분하는 ID 는 항상 포함
+  private static final Set<String> ID_FIELDS = Set.of("id", "meetingId", "participationId");
+
+  private static final Set<String> SELECTABLE_FIELDS = Set.of(
+      "authorId", "userId", "title", "locationId", "latitude", "longitude", "address",
+      "meetingDateTime", "maxCount", "approvedCount", "viewCount", "category", "content",
+      "thumbnail", "distance", "meetingStatus", "participationStatus");
+
+  private static final int MAX_COMPILED_COUNT = 256;
+
+  // 모든 필드 (fields 가 없을 때)
+  public static final MeetingFields ALL = new MeetingFields(null, null);
+
+  // 목록 카드에 필요한 필드
+  private static final Map<String, String> PRESETS = Map.of(
+      "card", "title,meetingDateTime,thumbnail,approvedCount,maxCount,category,distance,"
+          + "meetingStatus,participationStatus");
+
+  // 정렬된 필드 목록 -> 미리 만든 필터
+  private static final Map<String, MeetingFields> COMPILED = new ConcurrentHashMap<>();
+
+  static {
+    PRESETS.forEach((name, fields) -> COMPILED.put(name, compile(fields)));
+  }
+
+  private final Set<String> fields; // null 이면 모든 필드
+  private final FilterProvider filterProvider;
+
+  /**
+   * fields 파라미터를 해석
+   *
+   * @param fields 쉼표로 구분한 필드 이름 또는 미리 정의된 조합 이름 (card), 없으면 모든 필드
+   * @return 포함할 필드
+   */
+  public static MeetingFields parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return ALL;
+    }
+
+    MeetingFields compiled = COMPILED.get(fields);
+    if (compiled != null) {
+      return compiled;
+    }
+
+    MeetingFields meetingFields = compile(fields);
+    if (COMPILED.size() < MAX_COMPILED_COUNT) {
+      COMPILED.putIfAbsent(fields, meetingFields);
+    }
+    return meetingFields;
+  }
+
+  public boolean includes(String field) {
+    return fields == null || fields.contains(field);
+  }
+
+  // 직접 조회하는 목록의 SQL 에서 content 를 가져올지 여부 (가장 큰 컬럼)
+  public boolean includesContent() {
+    return includes("content");
+  }
+
+  // 응답 본문에 필드 필터를 적용 (모든 필드이면 기본 필터로 전체 직렬화)
+  public MappingJacksonValue apply(Object body) {
+    MappingJacksonValue value = new MappingJacksonValue(body);
+    if (filterProvider != null) {
+      value.setFilters(filterProvider);
+    }
+    return value;
+  }
+
+  private static MeetingFields compile(String fields) {
+    Set<String> selected = Arrays.stream(fields.split(","))
+        .map(String::trim)
+        .filter(field -> !field.isEmpty())
+        .collect(Collectors.toCollection(TreeSet::new));
+
+    for (String field : selected) {
+      if (!SELECTABLE_FIELDS.contains(field) && !ID_FIELDS.contains(field)) {
+        throw new MeetingException(MeetingErrorCode.INVALID_FIELDS);
+      }
+    }
+    selected.addAll(ID_FIELDS);
+
+    FilterProvider filterProvider = new SimpleFilterProvider()
+        .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected));
+    return new MeetingFields(Set.copyOf(selected), filterProvider);
+  }
+}
@@ -2,6 +2,7 @@ package com.momo.meeting.dto;
 
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.ThumbnailStatus;
 import com.momo.meeting.entity.Meeting;
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -21,9 +22,11 @@ public class MeetingResponse {
   private LocalDateTime meetingDateTime;
   private Integer maxCount;
   private Integer approvedCount;
+  private Long viewCount;
   private Set<FoodCategory> category;
   private String content;
   private String thumbnail;
+  private ThumbnailStatus thumbnailStatus; // PENDING 이면 썸네일 업로드 중
   private MeetingStatus meetingStatus;
 
   public static MeetingResponse from(Meeting meeting) {
@@ -37,9 +40,11 @@ public class MeetingResponse {
         .meetingDateTime(meeting.getMeetingDateTime())
         .maxCount(meeting.getMaxCount())
         .approvedCount(meeting.getApprovedCount())
+        .viewCount(meeting.getViewCount())
         .category(meeting.getCategory())
         .content(meeting.getContent())
         .thumbnail(meeting.getThumbnail())
+        .thumbnailStatus(meeting.getThumbnailStatus())
         .meetingStatus(meeting.getMeetingStatus())
         .build();
   }
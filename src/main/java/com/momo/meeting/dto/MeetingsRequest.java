@@ -1,18 +1,20 @@
 package com.momo.meeting.dto;
 
+import com.momo.common.util.GeoUtils;
 import com.momo.meeting.constant.SortType;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class MeetingsRequest {
 
   private static final Long DEFAULT_LAST_ID = 0L;
   private static final double DEFAULT_RADIUS = 3000;
   private static final LocalDateTime DEFAULT_LAST_DATETIME =
       LocalDateTime.of(1970, 1, 1, 0, 0);
+  private static final Long DEFAULT_LAST_VIEW_COUNT = Long.MAX_VALUE; // 조회수 내림차순의 시작
 
   private Double userLatitude;
   private Double userLongitude;
@@ -28,6 +30,33 @@ public class MeetingsRequest {
       Double lastDistance,
       LocalDateTime lastMeetingDateTime,
       int pageSize
+  ) {
+    return createRequest(
+        userLatitude, userLongitude, lastId, lastDistance, lastMeetingDateTime, pageSize, null);
+  }
+
+  public static MeetingsRequest createRequest(
+      Double userLatitude,
+      Double userLongitude,
+      Long lastId,
+      Double lastDistance,
+      LocalDateTime lastMeetingDateTime,
+      int pageSize,
+      SortType requestedSortType
+  ) {
+    return createRequest(userLatitude, userLongitude, lastId, lastDistance, lastMeetingDateTime,
+        null, pageSize, requestedSortType);
+  }
+
+  public static MeetingsRequest createRequest(
+      Double userLatitude,
+      Double userLongitude,
+      Long lastId,
+      Double lastDistance,
+      LocalDateTime lastMeetingDateTime,
+      Long lastViewCount,
+      int pageSize,
+      SortType requestedSortType
   ) {
     lastId = lastId == null ? DEFAULT_LAST_ID : lastId;
 
@@ -35,13 +64,19 @@ public class MeetingsRequest {
 
     lastMeetingDateTime = lastMeetingDateTime == null ? DEFAULT_LAST_DATETIME : lastMeetingDateTime;
 
+    lastViewCount = lastViewCount == null ? DEFAULT_LAST_VIEW_COUNT : lastViewCount;
+
+    SortType sortType = determineSortType(userLatitude, userLongitude, requestedSortType);
+
     return MeetingsRequest.builder()
         .userLatitude(userLatitude)
         .userLongitude(userLongitude)
-        .radius(DEFAULT_RADIUS)
-        .meetingCursor(MeetingCursor.of(lastId, lastDistance, lastMeetingDateTime))
+        // 가까운 순은 반경 제한 없음 (모임 수가 적은 지역에서도 가장 가까운 모임부터 반환)
+        .radius(sortType == SortType.NEAREST ? GeoUtils.MAX_DISTANCE_METER : DEFAULT_RADIUS)
+        .meetingCursor(
+            MeetingCursor.of(lastId, lastDistance, lastMeetingDateTime, lastViewCount))
         .pageSize(pageSize)
-        .sortType(determineSortType(userLatitude, userLongitude))
+        .sortType(sortType)
         .build();
   }
 
@@ -57,7 +92,20 @@ public class MeetingsRequest {
     return meetingCursor.getMeetingDateTime();
   }
 
-  private static SortType determineSortType(Double latitude, Double longitude) {
-    return latitude == null || longitude == null ? SortType.DATE : SortType.DISTANCE;
+  public Long getCursorViewCount() {
+    return meetingCursor.getViewCount();
+  }
+
+  // 인기순, 추천순은 위치와 무관, 위치 정보가 없으면 날짜순, 위치 정보만 있으면 거리순, 요청한 정렬이 있으면 해당 정렬
+  private static SortType determineSortType(
+      Double latitude, Double longitude, SortType requestedSortType
+  ) {
+    if (requestedSortType == SortType.POPULAR || requestedSortType == SortType.RECOMMENDED) {
+      return requestedSortType;
+    }
+    if (latitude == null || longitude == null) {
+      return SortType.DATE;
+    }
+    return requestedSortType == null ? SortType.DISTANCE : requestedSortType;
   }
 }
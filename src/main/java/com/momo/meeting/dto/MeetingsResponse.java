@@ -6,12 +6,14 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class MeetingsResponse {
 
   private List<MeetingDto> meetings;
   private boolean hasNext;
   private MeetingCursor cursor;
+  private String nextCursor; // 다음 페이지 조회에 사용될 불투명 커서 (cursor 를 서명한 값)
+  private String continuationToken; // 미리 조회해 둔 다음 페이지의 토큰 (없으면 null)
 
   public static MeetingsResponse of(
       List<MeetingToMeetingDtoProjection> meetingProjections,
@@ -23,6 +25,15 @@ public class MeetingsResponse {
     meetingDtos =
         hasNext ? meetingDtos.subList(0, pageSize) : meetingDtos.subList(0, meetingDtos.size());
 
+    return ofPage(meetingDtos, hasNext, null);
+  }
+
+  // 이미 페이지 크기로 나눈 모임 목록으로 응답 생성
+  public static MeetingsResponse ofPage(
+      List<MeetingDto> meetingDtos,
+      boolean hasNext,
+      String continuationToken
+  ) {
     MeetingCursor cursor = MeetingCursor.createCursor(meetingDtos);
     MeetingCursor nextCursor = hasNext ? cursor : null;
 
@@ -30,6 +41,12 @@ public class MeetingsResponse {
         .meetings(meetingDtos)
         .hasNext(hasNext)
         .cursor(nextCursor)
+        .continuationToken(hasNext ? continuationToken : null)
         .build();
   }
+
+  // 캐시에 보관된 응답은 공유되므로 커서를 넣은 사본을 반환
+  public MeetingsResponse withNextCursor(String nextCursor) {
+    return toBuilder().nextCursor(nextCursor).build();
+  }
 }
@@ -1,7 +1,9 @@
 package com.momo.meeting.dto.createdMeeting;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.dto.MeetingFields;
 import com.momo.meeting.projection.CreatedMeetingProjection;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -11,6 +13,7 @@ import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 
+@JsonFilter(MeetingFields.FILTER_ID) // fields= 로 선택한 필드만 직렬화
 @Getter
 @Builder
 public class CreatedMeetingDto {
@@ -43,8 +46,8 @@ public class CreatedMeetingDto {
   }
 
   public static CreatedMeetingDto from(CreatedMeetingProjection createdMeetingProjection) {
-    Set<String> foodCategories = FoodCategory
-        .convertToFoodCategories(createdMeetingProjection.getCategory());
+    Set<String> foodCategories =
+        FoodCategory.toDescriptions(createdMeetingProjection.getCategoryMask());
 
     return CreatedMeetingDto.builder()
         .userId(createdMeetingProjection.getUserId())
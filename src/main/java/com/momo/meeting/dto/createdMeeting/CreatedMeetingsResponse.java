@@ -1,16 +1,19 @@
 package com.momo.meeting.dto.createdMeeting;
 
 import com.momo.meeting.projection.CreatedMeetingProjection;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CreatedMeetingsResponse {
 
   private List<CreatedMeetingDto> createdMeetingDtos;
   private Long lastId;
+  private LocalDateTime lastMeetingDateTime; // 분 단위로 자르지 않은 값 (같은 분의 모임을 건너뛰지 않도록)
+  private String nextCursor; // 다음 페이지 조회에 사용될 불투명 커서 (lastId, lastMeetingDateTime 을 서명한 값)
   private boolean hasNext;
 
 
@@ -28,11 +31,18 @@ public class CreatedMeetingsResponse {
 
     Long lastId =
         hasNext ? createdMeetingDtos.get(createdMeetingDtos.size() - 1).getMeetingId() : null;
+    LocalDateTime lastMeetingDateTime =
+        hasNext ? createdMeetingProjections.get(pageSize - 1).getMeetingDateTime() : null;
 
     return CreatedMeetingsResponse.builder()
         .lastId(lastId)
+        .lastMeetingDateTime(lastMeetingDateTime)
         .createdMeetingDtos(createdMeetingDtos)
         .hasNext(hasNext)
         .build();
   }
+
+  public CreatedMeetingsResponse withNextCursor(String nextCursor) {
+    return toBuilder().nextCursor(nextCursor).build();
+  }
 }
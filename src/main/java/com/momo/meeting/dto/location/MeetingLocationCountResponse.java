@@ -0,0 +1,15 @@
+package com.momo.meeting.dto.location;
+
+import com.momo.meeting.constant.FoodCategory;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MeetingLocationCountResponse {
+
+  private Long locationId;
+  private int count; // 모집 중인 모임 수
+  private Map<FoodCategory, Integer> categoryCounts; // 카테고리별 모집 중인 모임 수
+}
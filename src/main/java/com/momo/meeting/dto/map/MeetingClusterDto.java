@@ -0,0 +1,32 @@
+package com.momo.meeting.dto.map;
+
+import com.momo.meeting.index.GeoCluster;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MeetingClusterDto {
+
+  private Double latitude;
+  private Double longitude;
+  private Integer count;
+
+  public static List<MeetingClusterDto> convertToMeetingClusterDtos(List<GeoCluster> clusters) {
+    List<MeetingClusterDto> clusterDtos = new ArrayList<>();
+    for (GeoCluster cluster : clusters) {
+      clusterDtos.add(MeetingClusterDto.from(cluster));
+    }
+    return clusterDtos;
+  }
+
+  public static MeetingClusterDto from(GeoCluster cluster) {
+    return MeetingClusterDto.builder()
+        .latitude(cluster.getLatitude())
+        .longitude(cluster.getLongitude())
+        .count(cluster.getCount())
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.momo.meeting.dto.map;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MeetingMapResponse {
+
+  private int zoom;
+  private boolean clustered; // true 면 clusters, false 면 markers 에 결과가 담김
+  private List<MeetingMarkerDto> markers;
+  private List<MeetingClusterDto> clusters;
+
+  public static MeetingMapResponse ofMarkers(int zoom, List<MeetingMarkerDto> markers) {
+    return MeetingMapResponse.builder()
+        .zoom(zoom)
+        .clustered(false)
+        .markers(markers)
+        .clusters(Collections.emptyList())
+        .build();
+  }
+
+  public static MeetingMapResponse ofClusters(int zoom, List<MeetingClusterDto> clusters) {
+    return MeetingMapResponse.builder()
+        .zoom(zoom)
+        .clustered(true)
+        .markers(Collections.emptyList())
+        .clusters(clusters)
+        .build();
+  }
+}
@@ -0,0 +1,42 @@
+package com.momo.meeting.dto.map;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.projection.MeetingMarkerProjection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MeetingMarkerDto {
+
+  private Long id;
+  private Double latitude;
+  private Double longitude;
+  private Set<String> category;
+  private Integer approvedCount;
+  private Integer maxCount;
+
+  public static List<MeetingMarkerDto> convertToMeetingMarkerDtos(
+      List<MeetingMarkerProjection> markerProjections
+  ) {
+    List<MeetingMarkerDto> markerDtos = new ArrayList<>();
+    for (MeetingMarkerProjection markerProjection : markerProjections) {
+      markerDtos.add(MeetingMarkerDto.from(markerProjection));
+    }
+    return markerDtos;
+  }
+
+  public static MeetingMarkerDto from(MeetingMarkerProjection markerProjection) {
+    return MeetingMarkerDto.builder()
+        .id(markerProjection.getId())
+        .latitude(markerProjection.getLatitude())
+        .longitude(markerProjection.getLongitude())
+        .category(FoodCategory.toDescriptions(markerProjection.getCategoryMask()))
+        .approvedCount(markerProjection.getApprovedCount())
+        .maxCount(markerProjection.getMaxCount())
+        .build();
+  }
+}
@@ -3,12 +3,14 @@ package com.momo.meeting.entity;
 import com.momo.common.entity.BaseEntity;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.ThumbnailStatus;
 import com.momo.meeting.dto.MeetingUpdateRequest;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
 import com.momo.user.entity.User;
 import java.time.LocalDateTime;
 import java.util.Set;
+import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
@@ -18,8 +20,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +37,13 @@ import org.hibernate.annotations.OnDeleteAction;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_meeting_status_location", columnList = "meeting_status, latitude, longitude"),
+    // 날짜순 목록, 만료 모임 조회
+    @Index(name = "idx_meeting_status_date_time", columnList = "meeting_status, meeting_date_time, id"),
+    // 개최한 모임 목록
+    @Index(name = "idx_meeting_user_date_time", columnList = "user_id, meeting_date_time, id")
+})
 public class Meeting extends BaseEntity {
 
   @Version
@@ -68,18 +79,34 @@ public class Meeting extends BaseEntity {
   @Column(nullable = false)
   private Integer maxCount;
 
-  @Column(nullable = false)
+  // 좌석 예약 쿼리(MeetingRepository.reserveSeat, releaseSeat)로만 변경하고 엔티티 UPDATE 에서는 제외
+  @Column(nullable = false, updatable = false)
   private Integer approvedCount;
 
+  // 조회수 (MeetingRepository.incrementViewCounts 로 모아서 반영하고 엔티티 UPDATE 에서는 제외)
+  @Column(nullable = false, updatable = false)
+  private Long viewCount;
+
   @ElementCollection // 기본적으로 지연로딩
   @Enumerated(EnumType.STRING)
   private Set<FoodCategory> category;
 
+  @Column(nullable = false)
+  private Integer categoryMask; // 목록 조회용 카테고리 비트마스크 (category 와 함께 갱신)
+
   @Column(nullable = false, length = 600)
   private String content;
 
   private String thumbnail;
 
+  // 비동기 업로드 중이면 PENDING (기존 데이터는 null)
+  @Enumerated(EnumType.STRING)
+  private ThumbnailStatus thumbnailStatus;
+
+  // 진행 중인 비동기 업로드의 토큰 (토큰이 같은 업로드만 결과를 반영할 수 있음)
+  @Column(length = 36)
+  private String thumbnailUploadToken;
+
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
   private MeetingStatus meetingStatus;
@@ -93,14 +120,31 @@ public class Meeting extends BaseEntity {
     this.meetingDateTime = request.getMeetingDateTime();
     this.maxCount = request.getMaxCount();
     this.content = request.getContent();
-    this.thumbnail = newThumbnail;
     this.category = request.getCategory();
+    this.categoryMask = FoodCategory.toMask(request.getCategory());
+
+    // 업로드 중에 새 이미지 없이 수정하면 진행 중인 업로드를 유지
+    if (newThumbnail == null && this.thumbnailStatus == ThumbnailStatus.PENDING) {
+      return;
+    }
+    // 새 이미지로 바꾸면 토큰을 지워 진행 중인 업로드가 결과를 반영하지 못하게 함
+    this.thumbnail = newThumbnail;
+    this.thumbnailStatus = newThumbnail == null ? ThumbnailStatus.NONE : ThumbnailStatus.READY;
+    this.thumbnailUploadToken = null;
+  }
+
+  // 썸네일 업로드를 저장 이후로 미룸 (업로드가 끝나면 MeetingRepository.updateThumbnail 로 반영)
+  public void markThumbnailPending() {
+    this.thumbnail = null;
+    this.thumbnailStatus = ThumbnailStatus.PENDING;
+    this.thumbnailUploadToken = UUID.randomUUID().toString();
   }
 
   public void updateStatus(MeetingStatus newStatus) {
     this.meetingStatus = newStatus;
   }
 
+  // 좌석 예약 쿼리로 DB 에 반영한 뒤 영속성 컨텍스트의 값을 맞춤
   public void incrementApprovedCount() {
     if (isFullCount()) {
       throw new MeetingException(MeetingErrorCode.ALREADY_MAX_COUNT);
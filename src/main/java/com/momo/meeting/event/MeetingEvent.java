@@ -0,0 +1,54 @@
+package com.momo.meeting.event;
+
+import com.momo.meeting.constant.MeetingEventType;
+import com.momo.meeting.entity.Meeting;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임의 생명주기 변경을 알리는 이벤트.
+ * 인메모리 인덱스처럼 모임 상태를 따라가야 하는 컴포넌트들이 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeetingEvent {
+
+  private final MeetingEventType eventType;
+  private final Long meetingId;
+  private final Meeting meeting; // 삭제, 만료 이벤트에서는 null
+
+  public static MeetingEvent created(Meeting meeting) {
+    return new MeetingEvent(MeetingEventType.CREATED, meeting.getId(), meeting);
+  }
+
+  public static MeetingEvent updated(Meeting meeting) {
+    return new MeetingEvent(MeetingEventType.UPDATED, meeting.getId(), meeting);
+  }
+
+  public static MeetingEvent closed(Meeting meeting) {
+    return new MeetingEvent(MeetingEventType.CLOSED, meeting.getId(), meeting);
+  }
+
+  public static MeetingEvent deleted(Long meetingId) {
+    return new MeetingEvent(MeetingEventType.DELETED, meetingId, null);
+  }
+
+  public static MeetingEvent expired(Long meetingId) {
+    return new MeetingEvent(MeetingEventType.EXPIRED, meetingId, null);
+  }
+
+  public static MeetingEvent approvedCountChanged(Meeting meeting) {
+    return new MeetingEvent(MeetingEventType.APPROVED_COUNT_CHANGED, meeting.getId(), meeting);
+  }
+
+  // 참여 인원만 바뀌어 색인 대상(제목, 위치, 날짜 등)은 그대로인지 여부
+  public boolean isApprovedCountChanged() {
+    return eventType == MeetingEventType.APPROVED_COUNT_CHANGED;
+  }
+
+  // 이벤트 이후에도 모집 중인 모임으로 남아있는지 여부
+  public boolean isRecruiting() {
+    return meeting != null && meeting.isRecruiting();
+  }
+}
@@ -0,0 +1,16 @@
+package com.momo.meeting.event;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모아둔 조회수를 DB 에 반영했음을 알리는 이벤트.
+ * 목록 응답에 조회수가 들어가므로, 목록 캐시와 ETag 버전이 이 모임들을 포함한 페이지를 갱신하도록 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MeetingViewsFlushedEvent {
+
+  private final Set<Long> meetingIds;
+}
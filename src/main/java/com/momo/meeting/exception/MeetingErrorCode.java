@@ -24,7 +24,13 @@ public enum MeetingErrorCode {
 
   ALREADY_MAX_COUNT("모임 인원이 가득찼습니다.", HttpStatus.CONFLICT),
 
-  INVALID_MEETING_DATE("모임 날짜는 1년까지 설정 가능합니다.", HttpStatus.BAD_REQUEST)
+  INVALID_MEETING_DATE("모임 날짜는 1년까지 설정 가능합니다.", HttpStatus.BAD_REQUEST),
+
+  INVALID_MAP_AREA("유효한 지도 영역이 아닙니다.", HttpStatus.BAD_REQUEST),
+
+  INVALID_TIME_WINDOW("유효한 조회 기간이 아닙니다.", HttpStatus.BAD_REQUEST),
+
+  INVALID_FIELDS("조회할 수 없는 모임 필드입니다.", HttpStatus.BAD_REQUEST)
   ;
 
   private final String message;
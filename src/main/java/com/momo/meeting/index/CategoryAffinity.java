@@ -0,0 +1,75 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.FoodCategory;
+import java.util.Arrays;
+
+/**
+ * 회원이 참여 신청한 모임의 카테고리별 횟수 (변경 시 새 객체를 만들어 교체).
+ * 모임 카테고리의 친화도는 해당 카테고리들이 전체 참여에서 차지하는 비율이다.
+ */
+public class CategoryAffinity {
+
+  private static final int CATEGORY_COUNT = FoodCategory.values().length;
+
+  public static final CategoryAffinity EMPTY = new CategoryAffinity(new int[CATEGORY_COUNT], 0);
+
+  private final int[] counts; // FoodCategory ordinal -> 참여 횟수
+  private final int total; // 카테고리가 있는 참여 횟수
+
+  private CategoryAffinity(int[] counts, int total) {
+    this.counts = counts;
+    this.total = total;
+  }
+
+  public static CategoryAffinity of(Iterable<Integer> categoryMasks) {
+    CategoryAffinity affinity = EMPTY;
+    for (Integer categoryMask : categoryMasks) {
+      affinity = affinity.plus(categoryMask == null ? 0 : categoryMask);
+    }
+    return affinity;
+  }
+
+  /**
+   * 참여한 모임의 카테고리를 더한 새 친화도를 반환
+   *
+   * @param categoryMask 참여한 모임의 카테고리 비트마스크
+   * @return 카테고리 횟수가 증가된 친화도
+   */
+  public CategoryAffinity plus(int categoryMask) {
+    if (categoryMask == 0) {
+      return this;
+    }
+
+    int[] newCounts = Arrays.copyOf(counts, counts.length);
+    for (int i = 0; i < newCounts.length; i++) {
+      if ((categoryMask & (1 << i)) != 0) {
+        newCounts[i]++;
+      }
+    }
+    return new CategoryAffinity(newCounts, total + 1);
+  }
+
+  /**
+   * 모임 카테고리에 대한 친화도 (0 ~ 1)
+   *
+   * @param categoryMask 모임의 카테고리 비트마스크
+   * @return 모임 카테고리 중 가장 많이 참여한 카테고리의 참여 비율, 참여 이력이 없으면 0
+   */
+  public double score(int categoryMask) {
+    if (total == 0 || categoryMask == 0) {
+      return 0;
+    }
+
+    int maxCount = 0;
+    for (int i = 0; i < counts.length; i++) {
+      if ((categoryMask & (1 << i)) != 0) {
+        maxCount = Math.max(maxCount, counts[i]);
+      }
+    }
+    return (double) maxCount / total;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+}
@@ -0,0 +1,34 @@
+package com.momo.meeting.index;
+
+import lombok.Getter;
+
+// 격자 셀 하나에 모인 모임들의 중심 좌표와 개수
+public class GeoCluster {
+
+  private double latitudeSum;
+  private double longitudeSum;
+
+  @Getter
+  private int count;
+
+  void add(double latitude, double longitude) {
+    latitudeSum += latitude;
+    longitudeSum += longitude;
+    count++;
+  }
+
+  // 이미 합산된 격자 셀 하나를 더함
+  void add(int cellCount, double cellLatitudeSum, double cellLongitudeSum) {
+    latitudeSum += cellLatitudeSum;
+    longitudeSum += cellLongitudeSum;
+    count += cellCount;
+  }
+
+  public double getLatitude() {
+    return latitudeSum / count;
+  }
+
+  public double getLongitude() {
+    return longitudeSum / count;
+  }
+}
@@ -0,0 +1,480 @@
+package com.momo.meeting.index;
+
+import com.momo.common.util.GeoUtils;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingGeoPointProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임의 좌표를 위경도 격자(grid)로 나누어 보관하는 인메모리 공간 인덱스.
+ * 반경 검색 시 반경을 덮는 셀만 확인하므로 전체 모임을 스캔하지 않는다.
+ * 셀마다 모임 수와 좌표 합계를 함께 보관하여, 지도 클러스터링은 영역 안의 셀 단위로 합산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingGeoIndex {
+
+  private static final double CELL_SIZE_DEGREE = 0.01; // 위도 기준 약 1.1km
+  private static final int LATITUDE_CELL_COUNT = (int) Math.round(180 / CELL_SIZE_DEGREE);
+  private static final int LONGITUDE_CELL_COUNT = (int) Math.round(360 / CELL_SIZE_DEGREE);
+  private static final double LATITUDE_CELL_METER =
+      Math.toRadians(CELL_SIZE_DEGREE) * GeoUtils.EARTH_RADIUS_METER;
+
+  private final MeetingRepository meetingRepository;
+
+  private final ConcurrentMap<Long, GeoPoint> points = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, CellSummary> cellSummaries = new ConcurrentHashMap<>();
+
+  // 서버 시작 시 모집 중인 모임의 좌표를 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    List<MeetingGeoPointProjection> geoPoints =
+        meetingRepository.findGeoPointsByMeetingStatus(MeetingStatus.RECRUITING);
+
+    for (MeetingGeoPointProjection geoPoint : geoPoints) {
+      put(geoPoint.getId(), geoPoint.getLatitude(), geoPoint.getLongitude());
+    }
+    log.info("모임 공간 인덱스 적재 완료 : {}건", geoPoints.size());
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      Meeting meeting = event.getMeeting();
+      put(meeting.getId(), meeting.getLatitude(), meeting.getLongitude());
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public synchronized void put(Long meetingId, double latitude, double longitude) {
+    remove(meetingId);
+
+    GeoPoint geoPoint = new GeoPoint(latitude, longitude);
+    points.put(meetingId, geoPoint);
+    cells.computeIfAbsent(geoPoint.cellKey, key -> ConcurrentHashMap.newKeySet()).add(meetingId);
+    summarize(geoPoint.cellKey);
+  }
+
+  public synchronized void remove(Long meetingId) {
+    GeoPoint geoPoint = points.remove(meetingId);
+    if (geoPoint == null) {
+      return;
+    }
+
+    Set<Long> cell = cells.get(geoPoint.cellKey);
+    if (cell != null) {
+      cell.remove(meetingId);
+      if (cell.isEmpty()) {
+        cells.remove(geoPoint.cellKey);
+      }
+    }
+    summarize(geoPoint.cellKey);
+  }
+
+  // 셀의 모임 수와 좌표 합계를 다시 계산 (셀은 약 1km 이므로 셀 안의 모임만 확인)
+  private void summarize(long cellKey) {
+    Set<Long> cell = cells.get(cellKey);
+    if (cell == null) {
+      cellSummaries.remove(cellKey);
+      return;
+    }
+
+    int count = 0;
+    double latitudeSum = 0;
+    double longitudeSum = 0;
+    for (Long meetingId : cell) {
+      GeoPoint geoPoint = points.get(meetingId);
+      if (geoPoint != null) {
+        count++;
+        latitudeSum += geoPoint.latitude;
+        longitudeSum += geoPoint.longitude;
+      }
+    }
+    cellSummaries.put(cellKey, new CellSummary(count, latitudeSum, longitudeSum));
+  }
+
+  public int size() {
+    return points.size();
+  }
+
+  /**
+   * 반경 내 모임을 (거리, ID) 오름차순으로 커서 이후부터 limit 개 반환
+   *
+   * @param latitude     사용자의 위도
+   * @param longitude    사용자의 경도
+   * @param radius       검색 반경(m)
+   * @param lastId       마지막으로 조회된 모임 ID
+   * @param lastDistance 마지막으로 조회된 모임 위치 거리
+   * @param limit        조회할 개수
+   * @return 모임 ID 와 거리
+   */
+  public List<NearbyMeeting> findNearby(
+      double latitude, double longitude, double radius,
+      long lastId, double lastDistance, int limit
+  ) {
+    if (limit <= 0) {
+      return Collections.emptyList();
+    }
+
+    NearbyMeetingCollector collector = new NearbyMeetingCollector(
+        latitude, longitude, radius, lastId, lastDistance, limit);
+    forEachInRadius(latitude, longitude, radius, (meetingId, geoPoint) ->
+        collector.offer(meetingId, geoPoint.latitude, geoPoint.longitude));
+    return collector.toList();
+  }
+
+  /**
+   * 반경 내 모든 모임을 거리와 함께 반환 (정렬하지 않음, 다른 기준으로 순위를 매길 후보 조회용)
+   *
+   * @param latitude  사용자의 위도
+   * @param longitude 사용자의 경도
+   * @param radius    검색 반경(m)
+   * @return 모임 ID 와 거리
+   */
+  public List<NearbyMeeting> findWithin(double latitude, double longitude, double radius) {
+    List<NearbyMeeting> result = new ArrayList<>();
+    forEachInRadius(latitude, longitude, radius, (meetingId, geoPoint) -> {
+      double distance = GeoUtils.distance(
+          latitude, longitude, geoPoint.latitude, geoPoint.longitude);
+      if (distance <= radius) {
+        result.add(new NearbyMeeting(meetingId, distance));
+      }
+    });
+    return result;
+  }
+
+  // 반경을 덮는 셀의 모임을 모두 확인 (반경 밖의 모임도 포함되므로 호출하는 쪽에서 거리로 거름)
+  private void forEachInRadius(
+      double latitude, double longitude, double radius, BiConsumer<Long, GeoPoint> action
+  ) {
+    double latitudeDelta = GeoUtils.latitudeDelta(radius);
+    double longitudeDelta = GeoUtils.longitudeDelta(latitude, radius);
+
+    int minLatitudeIndex = latitudeIndex(Math.max(-90, latitude - latitudeDelta));
+    int maxLatitudeIndex = latitudeIndex(Math.min(90, latitude + latitudeDelta));
+    int minLongitudeIndex = longitudeIndex(longitude - longitudeDelta);
+    int maxLongitudeIndex = longitudeIndex(longitude + longitudeDelta);
+    int longitudeSpan = Math.min(maxLongitudeIndex - minLongitudeIndex, LONGITUDE_CELL_COUNT - 1);
+
+    for (int latIndex = minLatitudeIndex; latIndex <= maxLatitudeIndex; latIndex++) {
+      for (int offset = 0; offset <= longitudeSpan; offset++) {
+        int lonIndex = Math.floorMod(minLongitudeIndex + offset, LONGITUDE_CELL_COUNT);
+        Set<Long> cell = cells.get(cellKey(latIndex, lonIndex));
+        if (cell == null) {
+          continue;
+        }
+
+        for (Long meetingId : cell) {
+          GeoPoint geoPoint = points.get(meetingId);
+          if (geoPoint != null) {
+            action.accept(meetingId, geoPoint);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * 반경 제한 없이 가까운 순으로 커서 이후부터 limit 개 반환 (k-nearest neighbour)
+   * 사용자가 속한 셀에서 시작해 링 단위로 바깥 셀을 확인하며,
+   * 아직 확인하지 않은 셀의 모임이 현재 후보보다 가까울 수 없으면 탐색을 멈춘다.
+   *
+   * @param latitude     사용자의 위도
+   * @param longitude    사용자의 경도
+   * @param maxRadius    최대 탐색 반경(m)
+   * @param lastId       마지막으로 조회된 모임 ID
+   * @param lastDistance 마지막으로 조회된 모임 위치 거리
+   * @param limit        조회할 개수
+   * @return 모임 ID 와 거리
+   */
+  public List<NearbyMeeting> findNearest(
+      double latitude, double longitude, double maxRadius,
+      long lastId, double lastDistance, int limit
+  ) {
+    if (limit <= 0 || points.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    NearbyMeetingCollector collector = new NearbyMeetingCollector(
+        latitude, longitude, maxRadius, lastId, lastDistance, limit);
+
+    int centerLatitudeIndex = latitudeIndex(latitude);
+    int centerLongitudeIndex = longitudeIndex(longitude);
+    int maxRing = LONGITUDE_CELL_COUNT / 2 - 1;
+    int visitedCount = 0;
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      // 링의 셀 수가 모임이 있는 셀 수보다 많으면 남은 모임을 한 번에 확인 (모임이 드문 지역)
+      if (ring > 0 && 8L * ring > cells.size()) {
+        collectOutside(collector, centerLatitudeIndex, centerLongitudeIndex, ring);
+        break;
+      }
+
+      // 링 안의 모든 모임이 커서보다 가까우면 확인할 필요 없음
+      double ringMaxDistance = (ring + 1) * Math.sqrt(2) * LATITUDE_CELL_METER;
+      if (ringMaxDistance >= lastDistance) {
+        visitedCount += collectRing(collector, centerLatitudeIndex, centerLongitudeIndex, ring);
+      }
+
+      // 링 바깥에 있는 모임까지의 최소 거리
+      double outerMinDistance = ring * minCellMeter(latitude, ring);
+      if (collector.isFull() && collector.farthestDistance() <= outerMinDistance) {
+        break;
+      }
+      if (outerMinDistance > maxRadius || visitedCount >= points.size()) {
+        break;
+      }
+    }
+    return collector.toList();
+  }
+
+  // ring 번째 링과 그 바깥에 있는 모든 모임을 후보로 추가
+  private void collectOutside(
+      NearbyMeetingCollector collector, int centerLatitudeIndex, int centerLongitudeIndex, int ring
+  ) {
+    for (Map.Entry<Long, GeoPoint> entry : points.entrySet()) {
+      GeoPoint geoPoint = entry.getValue();
+      int latitudeOffset = Math.abs(latitudeIndex(geoPoint.latitude) - centerLatitudeIndex);
+      int longitudeOffset = Math.floorMod(
+          longitudeIndex(geoPoint.longitude) - centerLongitudeIndex, LONGITUDE_CELL_COUNT);
+      longitudeOffset = Math.min(longitudeOffset, LONGITUDE_CELL_COUNT - longitudeOffset);
+      if (Math.max(latitudeOffset, longitudeOffset) >= ring) {
+        collector.offer(entry.getKey(), geoPoint.latitude, geoPoint.longitude);
+      }
+    }
+  }
+
+  private int collectRing(
+      NearbyMeetingCollector collector, int centerLatitudeIndex, int centerLongitudeIndex, int ring
+  ) {
+    int visitedCount = 0;
+    for (int latIndex = centerLatitudeIndex - ring; latIndex <= centerLatitudeIndex + ring;
+        latIndex++) {
+      if (latIndex < 0 || latIndex >= LATITUDE_CELL_COUNT) {
+        continue;
+      }
+
+      // 링의 위, 아래 행은 전체를, 나머지 행은 양 끝 셀만 확인
+      boolean edgeRow = Math.abs(latIndex - centerLatitudeIndex) == ring;
+      int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+
+      for (int lonOffset = -ring; lonOffset <= ring; lonOffset += step) {
+        int lonIndex = Math.floorMod(centerLongitudeIndex + lonOffset, LONGITUDE_CELL_COUNT);
+        Set<Long> cell = cells.get(cellKey(latIndex, lonIndex));
+        if (cell == null) {
+          continue;
+        }
+
+        for (Long meetingId : cell) {
+          GeoPoint geoPoint = points.get(meetingId);
+          if (geoPoint != null) {
+            collector.offer(meetingId, geoPoint.latitude, geoPoint.longitude);
+            visitedCount++;
+          }
+        }
+      }
+    }
+    return visitedCount;
+  }
+
+  /**
+   * 지도 영역 안의 모임을 clusterSize(도) 크기의 격자로 묶어 반환
+   * 영역과 겹치는 셀만 확인하며, 영역 안에 완전히 들어오는 셀은 모임을 하나씩 보지 않고
+   * 셀의 합계를 그대로 더한다 (클러스터가 셀보다 클 때).
+   *
+   * @param minLatitude  영역의 최소 위도
+   * @param maxLatitude  영역의 최대 위도
+   * @param minLongitude 영역의 최소 경도
+   * @param maxLongitude 영역의 최대 경도
+   * @param clusterSize  클러스터 격자 한 변의 크기(도)
+   * @return 모임 수가 많은 순으로 정렬된 클러스터
+   */
+  public List<GeoCluster> cluster(
+      double minLatitude, double maxLatitude,
+      double minLongitude, double maxLongitude,
+      double clusterSize
+  ) {
+    Map<Long, GeoCluster> clusters = new HashMap<>();
+    Viewport viewport = new Viewport(minLatitude, maxLatitude, minLongitude, maxLongitude);
+
+    long viewportCellCount = (long) (viewport.maxLatitudeIndex - viewport.minLatitudeIndex + 1)
+        * (viewport.maxLongitudeIndex - viewport.minLongitudeIndex + 1);
+    if (viewportCellCount <= cells.size()) {
+      // 영역의 셀이 모임이 있는 셀보다 적으면 영역의 셀을 순회
+      for (int latIndex = viewport.minLatitudeIndex; latIndex <= viewport.maxLatitudeIndex;
+          latIndex++) {
+        for (int lonIndex = viewport.minLongitudeIndex; lonIndex <= viewport.maxLongitudeIndex;
+            lonIndex++) {
+          clusterCell(clusters, viewport, latIndex, lonIndex, clusterSize);
+        }
+      }
+    } else {
+      // 축소된 화면에서는 모임이 있는 셀만 순회
+      for (Long cellKey : cells.keySet()) {
+        int latIndex = (int) (cellKey >> 32);
+        int lonIndex = (int) cellKey.longValue();
+        if (viewport.overlaps(latIndex, lonIndex)) {
+          clusterCell(clusters, viewport, latIndex, lonIndex, clusterSize);
+        }
+      }
+    }
+
+    List<GeoCluster> result = new ArrayList<>(clusters.values());
+    result.sort(Comparator.comparingInt(GeoCluster::getCount).reversed());
+    return result;
+  }
+
+  private void clusterCell(
+      Map<Long, GeoCluster> clusters, Viewport viewport,
+      int latIndex, int lonIndex, double clusterSize
+  ) {
+    long cellKey = cellKey(latIndex, lonIndex);
+
+    // 영역 안에 완전히 들어오고 클러스터보다 작은 셀은 셀 중심이 속한 클러스터에 합계를 더함
+    if (clusterSize >= CELL_SIZE_DEGREE && viewport.containsCell(latIndex, lonIndex)) {
+      CellSummary summary = cellSummaries.get(cellKey);
+      if (summary != null && summary.count > 0) {
+        double centerLatitude = (latIndex + 0.5) * CELL_SIZE_DEGREE - 90;
+        double centerLongitude = (lonIndex + 0.5) * CELL_SIZE_DEGREE - 180;
+        clusters.computeIfAbsent(clusterKey(centerLatitude, centerLongitude, clusterSize),
+                key -> new GeoCluster())
+            .add(summary.count, summary.latitudeSum, summary.longitudeSum);
+      }
+      return;
+    }
+
+    // 영역 경계에 걸친 셀은 모임마다 영역 안인지 확인
+    Set<Long> cell = cells.get(cellKey);
+    if (cell == null) {
+      return;
+    }
+    for (Long meetingId : cell) {
+      GeoPoint geoPoint = points.get(meetingId);
+      if (geoPoint == null || !viewport.containsPoint(geoPoint.latitude, geoPoint.longitude)) {
+        continue;
+      }
+      clusters.computeIfAbsent(
+              clusterKey(geoPoint.latitude, geoPoint.longitude, clusterSize),
+              key -> new GeoCluster())
+          .add(geoPoint.latitude, geoPoint.longitude);
+    }
+  }
+
+  private static long clusterKey(double latitude, double longitude, double clusterSize) {
+    return cellKey(
+        (int) Math.floor(latitude / clusterSize),
+        (int) Math.floor(longitude / clusterSize)
+    );
+  }
+
+  // 링 범위에서 가장 좁은 셀의 한 변 길이(m), 극에 가까울수록 경도 방향 셀이 좁아짐
+  private static double minCellMeter(double latitude, int ring) {
+    double farthestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * CELL_SIZE_DEGREE);
+    return LATITUDE_CELL_METER * Math.cos(Math.toRadians(farthestLatitude));
+  }
+
+  private static int latitudeIndex(double latitude) {
+    return Math.min(LATITUDE_CELL_COUNT - 1, (int) Math.floor((latitude + 90) / CELL_SIZE_DEGREE));
+  }
+
+  private static int longitudeIndex(double longitude) {
+    return (int) Math.floor((longitude + 180) / CELL_SIZE_DEGREE);
+  }
+
+  private static long cellKey(int latitudeIndex, int longitudeIndex) {
+    return ((long) latitudeIndex << 32) | (longitudeIndex & 0xffffffffL);
+  }
+
+  // 지도 영역과 영역에 걸친 셀 번호 범위
+  private static class Viewport {
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+    private final int minLatitudeIndex;
+    private final int maxLatitudeIndex;
+    private final int minLongitudeIndex;
+    private final int maxLongitudeIndex;
+
+    private Viewport(
+        double minLatitude, double maxLatitude, double minLongitude, double maxLongitude
+    ) {
+      this.minLatitude = minLatitude;
+      this.maxLatitude = maxLatitude;
+      this.minLongitude = minLongitude;
+      this.maxLongitude = maxLongitude;
+      this.minLatitudeIndex = latitudeIndex(Math.max(-90, minLatitude));
+      this.maxLatitudeIndex = latitudeIndex(Math.min(90, maxLatitude));
+      this.minLongitudeIndex = Math.max(0, longitudeIndex(minLongitude));
+      this.maxLongitudeIndex = Math.min(LONGITUDE_CELL_COUNT - 1, longitudeIndex(maxLongitude));
+    }
+
+    private boolean overlaps(int latIndex, int lonIndex) {
+      return latIndex >= minLatitudeIndex && latIndex <= maxLatitudeIndex
+          && lonIndex >= minLongitudeIndex && lonIndex <= maxLongitudeIndex;
+    }
+
+    // 경계 셀을 제외한 안쪽 셀은 영역 안에 완전히 들어옴
+    private boolean containsCell(int latIndex, int lonIndex) {
+      return latIndex > minLatitudeIndex && latIndex < maxLatitudeIndex
+          && lonIndex > minLongitudeIndex && lonIndex < maxLongitudeIndex;
+    }
+
+    private boolean containsPoint(double latitude, double longitude) {
+      return latitude >= minLatitude && latitude <= maxLatitude
+          && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+  }
+
+  // 셀 하나의 모임 수와 좌표 합계
+  @RequiredArgsConstructor
+  private static class CellSummary {
+
+    private final int count;
+    private final double latitudeSum;
+    private final double longitudeSum;
+  }
+
+  private static class GeoPoint {
+
+    private final double latitude;
+    private final double longitude;
+    private final long cellKey;
+
+    private GeoPoint(double latitude, double longitude) {
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.cellKey = cellKey(
+          latitudeIndex(latitude),
+          Math.floorMod(longitudeIndex(longitude), LONGITUDE_CELL_COUNT)
+      );
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingViewCountProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임을 조회수 순으로 정렬해 보관하는 인기순 인덱스.
+ * 조회수는 MeetingViewCounter 가 DB 에 반영한 만큼만 증가시키므로 DB 의 조회수와 같은 값을 유지한다.
+ * 커서(조회수, ID) 이후의 모임을 정렬된 집합에서 바로 꺼내므로 인기순 조회에 정렬 쿼리가 필요 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingPopularityIndex {
+
+  private final MeetingRepository meetingRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableSet<PopularMeeting> ranking = new TreeSet<>(PopularMeeting.POPULAR_ORDER);
+  private final Map<Long, PopularMeeting> meetings = new HashMap<>(); // 모임 ID -> 정렬 항목
+
+  // 서버 시작 시 모집 중인 모임의 조회수를 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    List<MeetingViewCountProjection> viewCounts =
+        meetingRepository.findViewCountsByMeetingStatus(MeetingStatus.RECRUITING);
+
+    for (MeetingViewCountProjection viewCount : viewCounts) {
+      put(viewCount.getId(), viewCount.getViewCount());
+    }
+    log.info("모임 인기순 인덱스 적재 완료 : {}건", viewCounts.size());
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      // 수정 이벤트의 엔티티 조회수는 이미 반영된 값보다 작을 수 있으므로 새 모임만 추가
+      Meeting meeting = event.getMeeting();
+      putIfAbsent(meeting.getId(), meeting.getViewCount());
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public void put(Long meetingId, Long viewCount) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(meetingId);
+      addEntry(new PopularMeeting(meetingId, viewCount == null ? 0L : viewCount));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long meetingId) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(meetingId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * DB 에 반영된 조회수 증가분을 인덱스에 반영 (인덱스에 없는 모임은 무시)
+   *
+   * @param meetingId 모임 ID
+   * @param delta     증가한 조회수
+   */
+  public void increment(Long meetingId, long delta) {
+    lock.writeLock().lock();
+    try {
+      PopularMeeting current = removeEntry(meetingId);
+      if (current != null) {
+        addEntry(new PopularMeeting(meetingId, current.getViewCount() + delta));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 커서 이후의 모임을 조회수 내림차순으로 반환
+   *
+   * @param lastViewCount 마지막으로 조회한 모임의 조회수
+   * @param lastId        마지막으로 조회한 모임 ID
+   * @param limit         최대 반환 개수
+   * @return 인기순 모임 목록
+   */
+  public List<PopularMeeting> findPopular(Long lastViewCount, Long lastId, int limit) {
+    lock.readLock().lock();
+    try {
+      List<PopularMeeting> result = new ArrayList<>(limit);
+      for (PopularMeeting meeting
+          : ranking.tailSet(new PopularMeeting(lastId, lastViewCount), false)) {
+        if (result.size() >= limit) {
+          break;
+        }
+        result.add(meeting);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return meetings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void putIfAbsent(Long meetingId, Long viewCount) {
+    lock.writeLock().lock();
+    try {
+      if (!meetings.containsKey(meetingId)) {
+        addEntry(new PopularMeeting(meetingId, viewCount == null ? 0L : viewCount));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void addEntry(PopularMeeting meeting) {
+    meetings.put(meeting.getMeetingId(), meeting);
+    ranking.add(meeting);
+  }
+
+  private PopularMeeting removeEntry(Long meetingId) {
+    PopularMeeting current = meetings.remove(meetingId);
+    if (current != null) {
+      ranking.remove(current);
+    }
+    return current;
+  }
+}
@@ -0,0 +1,211 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임의 추천 점수 계산에 필요한 값(좌표, 날짜, 카테고리, 인원)을 보관하는 추천 인덱스.
+ * 후보 모임의 점수를 계산하면서 크기가 k 인 최소 힙에 상위 k 개만 남기므로 전체 후보를 정렬하지 않는다.
+ * 위치가 있으면 MeetingGeoIndex 에서 반경 안의 모임만 후보로 가져온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingRecommendIndex {
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+  private static final LocalDateTime DEFAULT_LAST_DATETIME =
+      LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  // 점수 가중치 (합계 1)
+  static final double DISTANCE_WEIGHT = 0.35;
+  static final double TIME_WEIGHT = 0.25;
+  static final double AFFINITY_WEIGHT = 0.25;
+  static final double FILL_WEIGHT = 0.15;
+  private static final double TIME_HALF_LIFE_HOURS = 24; // 이 시간 뒤의 모임은 날짜 점수가 절반
+
+  private final MeetingRepository meetingRepository;
+  private final MeetingGeoIndex meetingGeoIndex;
+
+  private final ConcurrentMap<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+  // 서버 시작 시 모집 중인 모임을 날짜순 커서로 나누어 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    long lastId = 0L;
+    LocalDateTime lastDateTime = DEFAULT_LAST_DATETIME;
+    int loadedCount = 0;
+
+    while (true) {
+      List<MeetingToMeetingDtoProjection> meetings =
+          meetingRepository.findOrderByMeetingDateWithCursor(lastId, lastDateTime, LOAD_BATCH_SIZE);
+
+      meetings.forEach(meeting -> put(Candidate.from(meeting)));
+      loadedCount += meetings.size();
+
+      if (meetings.size() < LOAD_BATCH_SIZE) {
+        break;
+      }
+      MeetingToMeetingDtoProjection last = meetings.get(meetings.size() - 1);
+      lastId = last.getId();
+      lastDateTime = last.getMeetingDateTime();
+    }
+    log.info("모임 추천 인덱스 적재 완료 : {}건", loadedCount);
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영), 참여 인원 변경도 모집률 점수에 반영
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isRecruiting()) {
+      put(Candidate.from(event.getMeeting()));
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  void put(Candidate candidate) {
+    candidates.put(candidate.meetingId, candidate);
+  }
+
+  public void remove(Long meetingId) {
+    candidates.remove(meetingId);
+  }
+
+  public int size() {
+    return candidates.size();
+  }
+
+  /**
+   * 후보 모임의 추천 점수를 계산해 상위 k 개를 점수 내림차순으로 반환
+   * 위치 정보가 있으면 반경 안의 모임만 후보로 하고, 지난 모임과 정원이 찬 모임은 제외한다.
+   *
+   * @param latitude  사용자의 위도 (없으면 거리 점수 제외)
+   * @param longitude 사용자의 경도 (없으면 거리 점수 제외)
+   * @param radius    탐색 반경(m)
+   * @param affinity  사용자의 카테고리 친화도
+   * @param now       기준 시각
+   * @param k         최대 반환 개수
+   * @return 추천 모임 목록
+   */
+  public List<RecommendedMeeting> recommend(
+      Double latitude,
+      Double longitude,
+      double radius,
+      CategoryAffinity affinity,
+      LocalDateTime now,
+      int k
+  ) {
+    // 가장 낮은 점수가 루트에 오도록 추천 순서의 역순으로 정렬
+    PriorityQueue<RecommendedMeeting> heap =
+        new PriorityQueue<>(k + 1, RecommendedMeeting.SCORE_ORDER.reversed());
+
+    if (latitude != null && longitude != null) {
+      // 반경을 덮는 격자 셀의 모임만 후보로 확인
+      for (NearbyMeeting nearbyMeeting : meetingGeoIndex.findWithin(latitude, longitude, radius)) {
+        Candidate candidate = candidates.get(nearbyMeeting.getMeetingId());
+        if (candidate != null) {
+          offer(heap, candidate, nearbyMeeting.getDistance(), radius, affinity, now, k);
+        }
+      }
+    } else {
+      for (Candidate candidate : candidates.values()) {
+        offer(heap, candidate, null, radius, affinity, now, k);
+      }
+    }
+
+    // 남은 k 개만 정렬
+    List<RecommendedMeeting> result = new ArrayList<>(heap);
+    result.sort(RecommendedMeeting.SCORE_ORDER);
+    return result;
+  }
+
+  // 지난 모임과 정원이 찬 모임을 제외하고 점수를 계산해 상위 k 개만 유지
+  private static void offer(
+      PriorityQueue<RecommendedMeeting> heap,
+      Candidate candidate,
+      Double distance,
+      double radius,
+      CategoryAffinity affinity,
+      LocalDateTime now,
+      int k
+  ) {
+    if (!candidate.meetingDateTime.isAfter(now) || candidate.isFull()) {
+      return;
+    }
+
+    heap.offer(new RecommendedMeeting(
+        candidate.meetingId, score(candidate, distance, radius, affinity, now), distance));
+    if (heap.size() > k) {
+      heap.poll();
+    }
+  }
+
+  // 거리, 날짜, 카테고리 친화도, 모집률 점수(각 0 ~ 1)의 가중합
+  static double score(
+      Candidate candidate,
+      Double distance,
+      double radius,
+      CategoryAffinity affinity,
+      LocalDateTime now
+  ) {
+    double distanceScore = distance == null ? 0 : 1 - distance / radius;
+    double hours = Duration.between(now, candidate.meetingDateTime).toMinutes() / 60.0;
+    double timeScore = TIME_HALF_LIFE_HOURS / (TIME_HALF_LIFE_HOURS + Math.max(0, hours));
+    double affinityScore = affinity.score(candidate.categoryMask);
+    double fillScore = candidate.maxCount <= 0
+        ? 0 : (double) candidate.approvedCount / candidate.maxCount;
+
+    return DISTANCE_WEIGHT * distanceScore
+        + TIME_WEIGHT * timeScore
+        + AFFINITY_WEIGHT * affinityScore
+        + FILL_WEIGHT * fillScore;
+  }
+
+  @RequiredArgsConstructor
+  static class Candidate {
+
+    private final long meetingId;
+    private final double latitude;
+    private final double longitude;
+    private final LocalDateTime meetingDateTime;
+    private final int categoryMask;
+    private final int approvedCount;
+    private final int maxCount;
+
+    static Candidate from(Meeting meeting) {
+      return new Candidate(meeting.getId(), meeting.getLatitude(), meeting.getLongitude(),
+          meeting.getMeetingDateTime(), nullToZero(meeting.getCategoryMask()),
+          nullToZero(meeting.getApprovedCount()), nullToZero(meeting.getMaxCount()));
+    }
+
+    static Candidate from(MeetingToMeetingDtoProjection projection) {
+      return new Candidate(projection.getId(), projection.getLatitude(),
+          projection.getLongitude(), projection.getMeetingDateTime(),
+          nullToZero(projection.getCategoryMask()), nullToZero(projection.getApprovedCount()),
+          nullToZero(projection.getMaxCount()));
+    }
+
+    boolean isFull() {
+      return approvedCount >= maxCount;
+    }
+
+    private static int nullToZero(Integer value) {
+      return value == null ? 0 : value;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingsRequest;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+// 검색 인덱스 조회 조건 (필터 + 정렬 + 커서)
+@Getter
+@Builder
+public class MeetingSearchCondition {
+
+  private final SearchType searchType; // null 이면 제목, 주소, 내용 모두 검색
+  private final String keyword;
+  private final int categoryMask; // 모두 포함해야 하는 카테고리 비트마스크 (0 이면 필터 없음)
+  private final SortType sortType;
+  private final Double latitude;
+  private final Double longitude;
+  private final double radius;
+  private final long lastId;
+  private final double lastDistance;
+  private final LocalDateTime lastMeetingDateTime;
+  private final int limit;
+
+  public static MeetingSearchCondition of(
+      MeetingsRequest request, SearchType searchType, String keyword, int categoryMask
+  ) {
+    return MeetingSearchCondition.builder()
+        .searchType(searchType)
+        .keyword(keyword)
+        .categoryMask(categoryMask)
+        .sortType(request.getSortType())
+        .latitude(request.getUserLatitude())
+        .longitude(request.getUserLongitude())
+        .radius(request.getRadius())
+        .lastId(request.getCursorId())
+        .lastDistance(request.getCursorDistance())
+        .lastMeetingDateTime(request.getCursorMeetingDateTime())
+        .limit(request.getPageSize() + 1) // 다음 페이지 존재 여부를 알기 위해 + 1
+        .build();
+  }
+
+  public boolean hasKeyword() {
+    return keyword != null && !keyword.isEmpty();
+  }
+
+  public boolean hasCategories() {
+    return categoryMask != 0;
+  }
+
+  public boolean isDistanceSort() {
+    return sortType == SortType.DISTANCE || sortType == SortType.NEAREST;
+  }
+}
@@ -0,0 +1,25 @@
+package com.momo.meeting.index;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MeetingSearchHit {
+
+  // 모임 날짜 오름차순, 날짜가 같으면 ID 오름차순
+  public static final Comparator<MeetingSearchHit> DATE_ORDER =
+      Comparator.comparing(MeetingSearchHit::getMeetingDateTime)
+          .thenComparingLong(MeetingSearchHit::getMeetingId);
+
+  // 거리 오름차순, 거리가 같으면 ID 오름차순
+  public static final Comparator<MeetingSearchHit> DISTANCE_ORDER =
+      Comparator.comparingDouble(MeetingSearchHit::getDistance)
+          .thenComparingLong(MeetingSearchHit::getMeetingId);
+
+  private final long meetingId;
+  private final Double distance; // 날짜순 검색이면 null
+  private final LocalDateTime meetingDateTime;
+}
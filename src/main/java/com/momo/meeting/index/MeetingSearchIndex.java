@@ -0,0 +1,307 @@
+package com.momo.meeting.index;
+
+import com.momo.common.util.GeoUtils;
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임의 제목, 주소, 내용을 bigram 으로 색인한 인메모리 역색인.
+ * 키워드, 카테고리 필터와 정렬, 커서 조건을 인덱스 안에서 모두 적용하므로 페이지가 항상 가득 채워진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndex {
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+  private static final int COMPACTION_THRESHOLD = 1000; // 삭제된 문서가 이 개수를 넘으면 재색인
+  private static final LocalDateTime DEFAULT_LAST_DATETIME =
+      LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final MeetingRepository meetingRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final List<SearchDocument> documents = new ArrayList<>(); // 문서 번호 -> 문서 (삭제 시 null)
+  private final Map<Long, Integer> ordinals = new HashMap<>(); // 모임 ID -> 문서 번호
+  private final Map<SearchType, Map<String, PostingList>> postings = createPostings();
+  private int deletedCount;
+
+  // 서버 시작 시 모집 중인 모임을 날짜순 커서로 나누어 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    long lastId = 0L;
+    LocalDateTime lastDateTime = DEFAULT_LAST_DATETIME;
+    int loadedCount = 0;
+
+    while (true) {
+      List<MeetingToMeetingDtoProjection> meetings =
+          meetingRepository.findOrderByMeetingDateWithCursor(lastId, lastDateTime, LOAD_BATCH_SIZE);
+
+      meetings.forEach(meeting -> put(SearchDocument.from(meeting)));
+      loadedCount += meetings.size();
+
+      if (meetings.size() < LOAD_BATCH_SIZE) {
+        break;
+      }
+      MeetingToMeetingDtoProjection last = meetings.get(meetings.size() - 1);
+      lastId = last.getId();
+      lastDateTime = last.getMeetingDateTime();
+    }
+    log.info("모임 검색 인덱스 적재 완료 : {}건", loadedCount);
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      put(SearchDocument.from(event.getMeeting()));
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public void put(SearchDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getMeetingId());
+
+      int ordinal = documents.size();
+      documents.add(document);
+      ordinals.put(document.getMeetingId(), ordinal);
+
+      for (SearchType searchType : SearchType.values()) {
+        Map<String, PostingList> fieldPostings = postings.get(searchType);
+        for (String gram : NGramTokenizer.tokenize(document.getField(searchType))) {
+          fieldPostings.computeIfAbsent(gram, key -> new PostingList()).add(ordinal);
+        }
+      }
+      // 수정으로 다시 색인된 모임도 이전 문서 번호를 남기므로 삭제와 같은 기준으로 정리
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long meetingId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(meetingId);
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return ordinals.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 삭제된 문서를 포함한 문서 번호 수
+  int documentCount() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 키워드와 카테고리 조건을 만족하는 모임을 정렬 기준에 따라 커서 이후부터 limit 개 반환
+   *
+   * @param condition 검색 조건
+   * @return 모임 ID 와 정렬 값 (거리 또는 모임 날짜)
+   */
+  public List<MeetingSearchHit> search(MeetingSearchCondition condition) {
+    if (condition.getLimit() <= 0) {
+      return Collections.emptyList();
+    }
+
+    Comparator<MeetingSearchHit> order = condition.isDistanceSort()
+        ? MeetingSearchHit.DISTANCE_ORDER : MeetingSearchHit.DATE_ORDER;
+    // 가장 뒤의 항목이 head 에 오는 최대 힙 (limit 개 유지)
+    PriorityQueue<MeetingSearchHit> heap = new PriorityQueue<>(order.reversed());
+
+    lock.readLock().lock();
+    try {
+      BitSet candidates = findCandidates(condition);
+      int ordinal = candidates == null ? 0 : candidates.nextSetBit(0);
+
+      while (ordinal >= 0 && ordinal < documents.size()) {
+        SearchDocument document = documents.get(ordinal);
+        if (document != null) {
+          MeetingSearchHit hit = match(document, condition);
+          if (hit != null) {
+            offer(heap, hit, order, condition.getLimit());
+          }
+        }
+        ordinal = candidates == null ? ordinal + 1 : candidates.nextSetBit(ordinal + 1);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<MeetingSearchHit> hits = new ArrayList<>(heap);
+    hits.sort(order);
+    return hits;
+  }
+
+  // 키워드의 bigram 을 모두 포함하는 문서 번호, 키워드가 없거나 bigram 보다 짧으면 null (전체 문서 확인)
+  private BitSet findCandidates(MeetingSearchCondition condition) {
+    if (!condition.hasKeyword()) {
+      return null;
+    }
+    Set<String> grams = NGramTokenizer.tokenize(condition.getKeyword());
+    if (grams.isEmpty()) {
+      return null;
+    }
+
+    BitSet candidates = new BitSet(documents.size());
+    SearchType searchType = condition.getSearchType();
+    for (SearchType type : SearchType.values()) {
+      if (searchType != null && searchType != type) {
+        continue;
+      }
+
+      PostingList matched = intersect(postings.get(type), grams);
+      for (int i = 0; i < matched.size(); i++) {
+        candidates.set(matched.get(i));
+      }
+    }
+    return candidates;
+  }
+
+  // 짧은 posting list 부터 교집합을 구해 비교 횟수를 줄임
+  private static PostingList intersect(Map<String, PostingList> fieldPostings, Set<String> grams) {
+    List<PostingList> lists = new ArrayList<>(grams.size());
+    for (String gram : grams) {
+      PostingList postingList = fieldPostings.get(gram);
+      if (postingList == null) {
+        return new PostingList();
+      }
+      lists.add(postingList);
+    }
+    lists.sort(Comparator.comparingInt(PostingList::size));
+
+    PostingList result = lists.get(0);
+    for (int i = 1; i < lists.size() && result.size() > 0; i++) {
+      result = PostingList.intersect(result, lists.get(i));
+    }
+    return result;
+  }
+
+  // 필터와 커서 조건을 만족하면 정렬 값을 담은 결과를, 아니면 null 을 반환
+  private static MeetingSearchHit match(SearchDocument document, MeetingSearchCondition condition) {
+    // bigram 은 인접 여부를 보장하지 않으므로 원문에서 다시 확인
+    if (condition.hasKeyword()
+        && !document.contains(condition.getSearchType(), condition.getKeyword())) {
+      return null;
+    }
+    if (condition.hasCategories() && !document.containsCategories(condition.getCategoryMask())) {
+      return null;
+    }
+
+    long meetingId = document.getMeetingId();
+    LocalDateTime meetingDateTime = document.getMeetingDateTime();
+
+    if (!condition.isDistanceSort()) {
+      LocalDateTime lastDateTime = condition.getLastMeetingDateTime();
+      boolean isAfter = meetingDateTime.isAfter(lastDateTime)
+          || (meetingDateTime.isEqual(lastDateTime) && meetingId > condition.getLastId());
+      return isAfter ? new MeetingSearchHit(meetingId, null, meetingDateTime) : null;
+    }
+
+    double distance = GeoUtils.distance(
+        condition.getLatitude(), condition.getLongitude(),
+        document.getLatitude(), document.getLongitude());
+    if (distance > condition.getRadius()) {
+      return null;
+    }
+
+    double lastDistance = condition.getLastDistance();
+    boolean isAfter = distance > lastDistance
+        || (distance == lastDistance && meetingId > condition.getLastId());
+    return isAfter ? new MeetingSearchHit(meetingId, distance, meetingDateTime) : null;
+  }
+
+  private static void offer(
+      PriorityQueue<MeetingSearchHit> heap, MeetingSearchHit hit,
+      Comparator<MeetingSearchHit> order, int limit
+  ) {
+    if (heap.size() < limit) {
+      heap.offer(hit);
+    } else if (order.compare(hit, heap.peek()) < 0) {
+      heap.poll();
+      heap.offer(hit);
+    }
+  }
+
+  // posting list 에는 문서 번호가 남아 있으므로 문서만 비우고, 일정 개수 이상 쌓이면 재색인
+  private void removeDocument(Long meetingId) {
+    Integer ordinal = ordinals.remove(meetingId);
+    if (ordinal != null) {
+      documents.set(ordinal, null);
+      deletedCount++;
+    }
+  }
+
+  private void compactIfNeeded() {
+    if (deletedCount > COMPACTION_THRESHOLD && deletedCount > ordinals.size()) {
+      compact();
+    }
+  }
+
+  private void compact() {
+    List<SearchDocument> liveDocuments = new ArrayList<>(ordinals.size());
+    for (SearchDocument document : documents) {
+      if (document != null) {
+        liveDocuments.add(document);
+      }
+    }
+
+    documents.clear();
+    ordinals.clear();
+    postings.values().forEach(Map::clear);
+    deletedCount = 0;
+
+    liveDocuments.forEach(this::put);
+  }
+
+  private static Map<SearchType, Map<String, PostingList>> createPostings() {
+    Map<SearchType, Map<String, PostingList>> postings = new EnumMap<>(SearchType.class);
+    for (SearchType searchType : SearchType.values()) {
+      postings.put(searchType, new HashMap<>());
+    }
+    return postings;
+  }
+}
@@ -0,0 +1,248 @@
+package com.momo.meeting.index;
+
+import com.momo.common.util.HangulUtils;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingSuggestSourceProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임의 제목과 주소를 음절과 초성으로 색인한 자동완성 trie.
+ * 각 단어의 시작부터 공백을 제거한 키를 색인하므로 "ㄱㅂ", "김밥", "천국" 모두 "강남 김밥천국" 을 찾는다.
+ * 노드마다 하위 트리의 상위 추천어를 캐시하고, 추천어가 바뀌면 해당 키의 경로만 캐시를 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSuggestIndex {
+
+  public static final int MAX_SUGGEST_SIZE = 10;
+  private static final int MAX_KEY_LENGTH = 10; // 이보다 긴 키는 잘라서 색인
+
+  private final MeetingRepository meetingRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final TrieNode root = new TrieNode();
+  private final Map<Long, List<MeetingSuggestion>> meetingSuggestions = new HashMap<>();
+  private final Map<MeetingSuggestion, Integer> suggestionCounts = new HashMap<>(); // 추천어를 가진 모임 수
+
+  // 많이 쓰인 추천어, 짧은 추천어 순
+  private final Comparator<MeetingSuggestion> rankOrder =
+      Comparator.<MeetingSuggestion>comparingInt(
+              suggestion -> -suggestionCounts.getOrDefault(suggestion, 0))
+          .thenComparingInt(suggestion -> suggestion.getKeyword().length())
+          .thenComparing(MeetingSuggestion::getKeyword)
+          .thenComparing(MeetingSuggestion::getSearchType);
+
+  // 서버 시작 시 모집 중인 모임의 제목, 주소를 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    List<MeetingSuggestSourceProjection> sources =
+        meetingRepository.findSuggestSourcesByMeetingStatus(MeetingStatus.RECRUITING);
+
+    for (MeetingSuggestSourceProjection source : sources) {
+      put(source.getId(), source.getTitle(), source.getAddress());
+    }
+    log.info("모임 자동완성 인덱스 적재 완료 : {}건", sources.size());
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      Meeting meeting = event.getMeeting();
+      put(meeting.getId(), meeting.getTitle(), meeting.getAddress());
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public void put(Long meetingId, String title, String address) {
+    List<MeetingSuggestion> suggestions = new ArrayList<>();
+    if (title != null && !title.isBlank()) {
+      suggestions.add(new MeetingSuggestion(title.trim(), SearchType.TITLE));
+    }
+    if (address != null && !address.isBlank()) {
+      suggestions.add(new MeetingSuggestion(address.trim(), SearchType.ADDRESS));
+    }
+
+    lock.writeLock().lock();
+    try {
+      removeSuggestions(meetingId);
+      meetingSuggestions.put(meetingId, suggestions);
+
+      for (MeetingSuggestion suggestion : suggestions) {
+        suggestionCounts.merge(suggestion, 1, Integer::sum);
+        for (String key : createKeys(suggestion.getKeyword())) {
+          addKey(key, suggestion);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long meetingId) {
+    lock.writeLock().lock();
+    try {
+      removeSuggestions(meetingId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 입력값으로 시작하는 단어를 가진 추천어를 많이 쓰인 순으로 반환
+   *
+   * @param keyword 사용자 입력값 (음절 또는 초성)
+   * @param size    조회할 개수 (최대 MAX_SUGGEST_SIZE)
+   * @return 추천어와 검색 유형
+   */
+  public List<MeetingSuggestion> suggest(String keyword, int size) {
+    String query = keyword == null ? "" : normalize(keyword);
+    int limit = Math.min(size, MAX_SUGGEST_SIZE);
+    if (query.isEmpty() || limit <= 0) {
+      return Collections.emptyList();
+    }
+
+    lock.readLock().lock();
+    try {
+      TrieNode node = root;
+      for (int i = 0; i < Math.min(query.length(), MAX_KEY_LENGTH) && node != null; i++) {
+        node = node.children.get(query.charAt(i));
+      }
+      if (node == null) {
+        return Collections.emptyList();
+      }
+
+      List<MeetingSuggestion> suggestions;
+      if (query.length() <= MAX_KEY_LENGTH) {
+        suggestions = topSuggestions(node);
+      } else {
+        // 잘린 키의 끝 노드이므로 원문에서 다시 확인
+        suggestions = node.suggestions.keySet().stream()
+            .filter(suggestion -> matches(suggestion, query))
+            .sorted(rankOrder)
+            .collect(Collectors.toList());
+      }
+      return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void removeSuggestions(Long meetingId) {
+    List<MeetingSuggestion> suggestions = meetingSuggestions.remove(meetingId);
+    if (suggestions == null) {
+      return;
+    }
+
+    for (MeetingSuggestion suggestion : suggestions) {
+      suggestionCounts.computeIfPresent(suggestion, (key, count) -> count > 1 ? count - 1 : null);
+      for (String key : createKeys(suggestion.getKeyword())) {
+        removeKey(root, key, 0, suggestion);
+      }
+    }
+  }
+
+  private void addKey(String key, MeetingSuggestion suggestion) {
+    TrieNode node = root;
+    node.topSuggestions = null;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+      node.topSuggestions = null;
+    }
+    node.suggestions.merge(suggestion, 1, Integer::sum);
+  }
+
+  // 키의 경로 캐시를 비우고, 비어 있는 노드는 제거
+  private boolean removeKey(TrieNode node, String key, int depth, MeetingSuggestion suggestion) {
+    node.topSuggestions = null;
+
+    if (depth == key.length()) {
+      node.suggestions.computeIfPresent(suggestion, (s, count) -> count > 1 ? count - 1 : null);
+    } else {
+      TrieNode child = node.children.get(key.charAt(depth));
+      if (child != null && removeKey(child, key, depth + 1, suggestion)) {
+        node.children.remove(key.charAt(depth));
+      }
+    }
+    return node.suggestions.isEmpty() && node.children.isEmpty();
+  }
+
+  // 자식 노드의 캐시를 합쳐 하위 트리의 상위 추천어를 계산 (읽기 잠금 중에는 트리가 바뀌지 않음)
+  private List<MeetingSuggestion> topSuggestions(TrieNode node) {
+    List<MeetingSuggestion> cached = node.topSuggestions;
+    if (cached != null) {
+      return cached;
+    }
+
+    Set<MeetingSuggestion> candidates = new LinkedHashSet<>(node.suggestions.keySet());
+    for (TrieNode child : node.children.values()) {
+      candidates.addAll(topSuggestions(child));
+    }
+
+    List<MeetingSuggestion> top = candidates.stream()
+        .sorted(rankOrder)
+        .limit(MAX_SUGGEST_SIZE)
+        .collect(Collectors.toList());
+    node.topSuggestions = Collections.unmodifiableList(top);
+    return node.topSuggestions;
+  }
+
+  private static boolean matches(MeetingSuggestion suggestion, String query) {
+    String normalized = normalize(suggestion.getKeyword());
+    return normalized.contains(query) || HangulUtils.toChosung(normalized).contains(query);
+  }
+
+  // 각 단어의 시작부터 끝까지 공백을 제거한 음절 키와 초성 키
+  private static Set<String> createKeys(String text) {
+    Set<String> keys = new LinkedHashSet<>();
+    String[] words = text.trim().split("\\s+");
+
+    for (int i = 0; i < words.length; i++) {
+      String key = normalize(String.join("", List.of(words).subList(i, words.length)));
+      key = key.substring(0, Math.min(key.length(), MAX_KEY_LENGTH));
+      if (!key.isEmpty()) {
+        keys.add(key);
+        keys.add(HangulUtils.toChosung(key));
+      }
+    }
+    return keys;
+  }
+
+  private static String normalize(String text) {
+    return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static class TrieNode {
+
+    private final Map<Character, TrieNode> children = new HashMap<>();
+    private final Map<MeetingSuggestion, Integer> suggestions = new HashMap<>(); // 이 노드에서 끝나는 키의 추천어 -> 키 수
+    private volatile List<MeetingSuggestion> topSuggestions; // 하위 트리의 상위 추천어 캐시
+  }
+}
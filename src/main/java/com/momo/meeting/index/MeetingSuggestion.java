@@ -0,0 +1,16 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.SearchType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 자동완성 추천어 (모임 제목 또는 주소), searchType 은 검색 요청에 그대로 사용
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class MeetingSuggestion {
+
+  private final String keyword;
+  private final SearchType searchType;
+}
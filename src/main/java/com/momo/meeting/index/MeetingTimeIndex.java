@@ -0,0 +1,222 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임을 모임 날짜의 1시간 단위 버킷으로 나누어 보관하는 날짜 구간 인덱스.
+ * "오늘", "이번 주말" 같은 구간 조회는 구간에 걸친 버킷만 확인하므로 지난 모임이나 먼 미래의 모임을 읽지 않는다.
+ * 지난 시간의 버킷은 매 정시에 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingTimeIndex {
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+  private static final LocalDateTime DEFAULT_LAST_DATETIME =
+      LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final MeetingRepository meetingRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // 버킷 시작 시각(정시) -> 해당 1시간 안의 모임 (날짜, ID 순)
+  private final NavigableMap<LocalDateTime, NavigableSet<TimedMeeting>> buckets = new TreeMap<>();
+  private final Map<Long, TimedMeeting> meetings = new HashMap<>(); // 모임 ID -> 버킷 항목
+
+  // 서버 시작 시 모집 중인 모임을 날짜순 커서로 나누어 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    long lastId = 0L;
+    LocalDateTime lastDateTime = DEFAULT_LAST_DATETIME;
+    int loadedCount = 0;
+
+    while (true) {
+      List<MeetingToMeetingDtoProjection> projections =
+          meetingRepository.findOrderByMeetingDateWithCursor(lastId, lastDateTime, LOAD_BATCH_SIZE);
+
+      projections.forEach(projection -> put(projection.getId(),
+          projection.getMeetingDateTime(), projection.getCategoryMask()));
+      loadedCount += projections.size();
+
+      if (projections.size() < LOAD_BATCH_SIZE) {
+        break;
+      }
+      MeetingToMeetingDtoProjection last = projections.get(projections.size() - 1);
+      lastId = last.getId();
+      lastDateTime = last.getMeetingDateTime();
+    }
+    log.info("모임 날짜 구간 인덱스 적재 완료 : {}건", loadedCount);
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      Meeting meeting = event.getMeeting();
+      put(meeting.getId(), meeting.getMeetingDateTime(), meeting.getCategoryMask());
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public void put(Long meetingId, LocalDateTime meetingDateTime, Integer categoryMask) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(meetingId);
+      TimedMeeting meeting = new TimedMeeting(
+          meetingId, meetingDateTime, categoryMask == null ? 0 : categoryMask);
+      meetings.put(meetingId, meeting);
+      buckets.computeIfAbsent(bucketOf(meetingDateTime), bucket -> new TreeSet<>(
+          TimedMeeting.DATE_ORDER)).add(meeting);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long meetingId) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(meetingId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * [from, to) 구간의 모임 중 커서 이후의 모임을 날짜순으로 반환
+   *
+   * @param from         구간 시작 (포함)
+   * @param to           구간 끝 (제외)
+   * @param categoryMask 카테고리 비트마스크 (모두 포함하는 모임만, 0 이면 모든 카테고리)
+   * @param lastDateTime 마지막으로 조회한 모임 날짜
+   * @param lastId       마지막으로 조회한 모임 ID
+   * @param limit        최대 반환 개수
+   * @return 날짜순 모임 목록
+   */
+  public List<TimedMeeting> findInWindow(
+      LocalDateTime from,
+      LocalDateTime to,
+      int categoryMask,
+      LocalDateTime lastDateTime,
+      Long lastId,
+      int limit
+  ) {
+    TimedMeeting cursor = new TimedMeeting(lastId, lastDateTime, 0);
+    LocalDateTime start = lastDateTime.isAfter(from) ? lastDateTime : from;
+
+    lock.readLock().lock();
+    try {
+      List<TimedMeeting> result = new ArrayList<>(limit);
+      // 키가 to 미만인 버킷만 확인 (마지막 버킷은 to 이후의 모임을 포함할 수 있음)
+      for (NavigableSet<TimedMeeting> bucket
+          : buckets.subMap(bucketOf(start), true, to, false).values()) {
+        for (TimedMeeting meeting : bucket.tailSet(cursor, false)) {
+          if (!meeting.getMeetingDateTime().isBefore(to)) {
+            return result;
+          }
+          if (meeting.getMeetingDateTime().isBefore(from)
+              || !meeting.containsCategories(categoryMask)) {
+            continue;
+          }
+          result.add(meeting);
+          if (result.size() >= limit) {
+            return result;
+          }
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 지난 시간의 버킷을 제거 (만료 처리 전의 지난 모임은 구간 조회 대상이 아님)
+  @Scheduled(cron = "0 0 * * * *") // 매 정시에 실행
+  public void evictPastBuckets() {
+    LocalDateTime currentBucket = bucketOf(LocalDateTime.now());
+    int evictedCount = 0;
+
+    lock.writeLock().lock();
+    try {
+      Iterator<NavigableSet<TimedMeeting>> iterator =
+          buckets.headMap(currentBucket, false).values().iterator();
+      while (iterator.hasNext()) {
+        NavigableSet<TimedMeeting> bucket = iterator.next();
+        bucket.forEach(meeting -> meetings.remove(meeting.getMeetingId()));
+        evictedCount += bucket.size();
+        iterator.remove();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    if (evictedCount > 0) {
+      log.info("모임 날짜 구간 인덱스의 지난 모임 제거 : {}건", evictedCount);
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return meetings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int bucketCount() {
+    lock.readLock().lock();
+    try {
+      return buckets.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void removeEntry(Long meetingId) {
+    TimedMeeting current = meetings.remove(meetingId);
+    if (current == null) {
+      return;
+    }
+
+    LocalDateTime bucketKey = bucketOf(current.getMeetingDateTime());
+    NavigableSet<TimedMeeting> bucket = buckets.get(bucketKey);
+    if (bucket != null) {
+      bucket.remove(current);
+      if (bucket.isEmpty()) {
+        buckets.remove(bucketKey);
+      }
+    }
+  }
+
+  private static LocalDateTime bucketOf(LocalDateTime dateTime) {
+    return dateTime.truncatedTo(ChronoUnit.HOURS);
+  }
+}
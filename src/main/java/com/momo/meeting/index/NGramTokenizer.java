@@ -0,0 +1,26 @@
+package com.momo.meeting.index;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 한글처럼 띄어쓰기만으로 단어를 나누기 어려운 텍스트를 위한 bigram 토크나이저.
+ * 음절 단위로 겹치는 두 글자씩 잘라 색인하고, 검색어도 같은 방식으로 잘라 모든 조각을 포함한 문서를 찾는다.
+ */
+public class NGramTokenizer {
+
+  public static final int GRAM_SIZE = 2;
+
+  public static Set<String> tokenize(String text) {
+    if (text == null || text.length() < GRAM_SIZE) {
+      return Collections.emptySet();
+    }
+
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_SIZE));
+    }
+    return grams;
+  }
+}
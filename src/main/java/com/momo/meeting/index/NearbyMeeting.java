@@ -0,0 +1,23 @@
+package com.momo.meeting.index;
+
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class NearbyMeeting {
+
+  // 거리 오름차순, 거리가 같으면 ID 오름차순 (MeetingCursor 의 정렬 기준과 동일)
+  public static final Comparator<NearbyMeeting> DISTANCE_ORDER =
+      Comparator.comparingDouble(NearbyMeeting::getDistance)
+          .thenComparingLong(NearbyMeeting::getMeetingId);
+
+  private final long meetingId;
+  private final double distance;
+
+  // 커서(lastDistance, lastId) 이후에 위치하는지 여부
+  public boolean isAfter(double lastDistance, long lastId) {
+    return distance > lastDistance || (distance == lastDistance && meetingId > lastId);
+  }
+}
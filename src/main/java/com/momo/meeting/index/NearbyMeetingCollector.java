@@ -0,0 +1,77 @@
+package com.momo.meeting.index;
+
+import com.momo.common.util.GeoUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 후보 좌표들의 haversine 거리를 계산해 반경과 커서 조건을 만족하는 모임 중
+ * (거리, ID) 오름차순으로 앞선 limit 개만 유지한다. 전체 정렬 없이 크기 limit 의 힙만 사용한다.
+ */
+public class NearbyMeetingCollector {
+
+  private final double latitude;
+  private final double longitude;
+  private final double radius;
+  private final long lastId;
+  private final double lastDistance;
+  private final int limit;
+
+  // 가장 먼 후보가 맨 앞에 오도록 하여 limit 개만 유지
+  private final PriorityQueue<NearbyMeeting> heap;
+
+  public NearbyMeetingCollector(
+      double latitude, double longitude, double radius,
+      long lastId, double lastDistance, int limit
+  ) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.radius = radius;
+    this.lastId = lastId;
+    this.lastDistance = lastDistance;
+    this.limit = limit;
+    this.heap = new PriorityQueue<>(Math.max(1, limit + 1), NearbyMeeting.DISTANCE_ORDER.reversed());
+  }
+
+  public void offer(long meetingId, double meetingLatitude, double meetingLongitude) {
+    if (limit <= 0) {
+      return;
+    }
+
+    double distance = GeoUtils.distance(latitude, longitude, meetingLatitude, meetingLongitude);
+    if (distance > radius) {
+      return;
+    }
+
+    NearbyMeeting candidate = new NearbyMeeting(meetingId, distance);
+    if (!candidate.isAfter(lastDistance, lastId)) {
+      return;
+    }
+
+    heap.offer(candidate);
+    if (heap.size() > limit) {
+      heap.poll();
+    }
+  }
+
+  public boolean isFull() {
+    return limit > 0 && heap.size() >= limit;
+  }
+
+  // 현재까지 유지 중인 후보 중 가장 먼 거리
+  public double farthestDistance() {
+    NearbyMeeting farthest = heap.peek();
+    return farthest == null ? 0 : farthest.getDistance();
+  }
+
+  public int size() {
+    return heap.size();
+  }
+
+  public List<NearbyMeeting> toList() {
+    List<NearbyMeeting> result = new ArrayList<>(heap);
+    result.sort(NearbyMeeting.DISTANCE_ORDER);
+    return result;
+  }
+}
@@ -0,0 +1,18 @@
+package com.momo.meeting.index;
+
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PopularMeeting {
+
+  // 조회수 내림차순, 조회수가 같으면 ID 오름차순 (MeetingCursor 의 정렬 기준과 동일)
+  public static final Comparator<PopularMeeting> POPULAR_ORDER =
+      Comparator.comparingLong(PopularMeeting::getViewCount).reversed()
+          .thenComparingLong(PopularMeeting::getMeetingId);
+
+  private final long meetingId;
+  private final long viewCount;
+}
@@ -0,0 +1,49 @@
+package com.momo.meeting.index;
+
+import java.util.Arrays;
+
+// 문서 번호(ordinal)를 오름차순으로 보관하는 posting list, 문서 번호는 증가하는 순서로만 추가됨
+class PostingList {
+
+  private int[] ordinals = new int[4];
+  private int size;
+
+  void add(int ordinal) {
+    if (size > 0 && ordinals[size - 1] == ordinal) {
+      return;
+    }
+    if (size == ordinals.length) {
+      ordinals = Arrays.copyOf(ordinals, size * 2);
+    }
+    ordinals[size++] = ordinal;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int get(int index) {
+    return ordinals[index];
+  }
+
+  // 두 posting list 의 교집합
+  static PostingList intersect(PostingList left, PostingList right) {
+    PostingList result = new PostingList();
+    int i = 0;
+    int j = 0;
+    while (i < left.size && j < right.size) {
+      int a = left.ordinals[i];
+      int b = right.ordinals[j];
+      if (a == b) {
+        result.add(a);
+        i++;
+        j++;
+      } else if (a < b) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,19 @@
+package com.momo.meeting.index;
+
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RecommendedMeeting {
+
+  // 점수 내림차순, 점수가 같으면 ID 오름차순
+  public static final Comparator<RecommendedMeeting> SCORE_ORDER =
+      Comparator.comparingDouble(RecommendedMeeting::getScore).reversed()
+          .thenComparingLong(RecommendedMeeting::getMeetingId);
+
+  private final long meetingId;
+  private final double score;
+  private final Double distance; // 위치 정보가 없으면 null
+}
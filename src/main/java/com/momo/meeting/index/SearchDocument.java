@@ -0,0 +1,83 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+// 검색 인덱스에 보관하는 모임 정보
+@Getter
+@Builder
+public class SearchDocument {
+
+  private final long meetingId;
+  private final String title;
+  private final String address;
+  private final String content;
+  private final int categoryMask; // FoodCategory 비트마스크
+  private final double latitude;
+  private final double longitude;
+  private final LocalDateTime meetingDateTime;
+
+  public static SearchDocument from(Meeting meeting) {
+    return SearchDocument.builder()
+        .meetingId(meeting.getId())
+        .title(meeting.getTitle())
+        .address(meeting.getAddress())
+        .content(meeting.getContent())
+        .categoryMask(meeting.getCategoryMask())
+        .latitude(meeting.getLatitude())
+        .longitude(meeting.getLongitude())
+        .meetingDateTime(meeting.getMeetingDateTime())
+        .build();
+  }
+
+  public static SearchDocument from(MeetingToMeetingDtoProjection projection) {
+    return SearchDocument.builder()
+        .meetingId(projection.getId())
+        .title(projection.getTitle())
+        .address(projection.getAddress())
+        .content(projection.getContent())
+        .categoryMask(projection.getCategoryMask())
+        .latitude(projection.getLatitude())
+        .longitude(projection.getLongitude())
+        .meetingDateTime(projection.getMeetingDateTime())
+        .build();
+  }
+
+  // 요청한 카테고리를 모두 포함하는지 여부
+  public boolean containsCategories(int requiredMask) {
+    return FoodCategory.containsAll(categoryMask, requiredMask);
+  }
+
+  public String getField(SearchType searchType) {
+    switch (searchType) {
+      case TITLE:
+        return title;
+      case ADDRESS:
+        return address;
+      case CONTENT:
+        return content;
+      default:
+        return null;
+    }
+  }
+
+  // 검색 유형의 필드가 키워드를 포함하는지 여부, 검색 유형이 없으면 모든 필드를 확인
+  public boolean contains(SearchType searchType, String keyword) {
+    if (searchType != null) {
+      String field = getField(searchType);
+      return field != null && field.contains(keyword);
+    }
+
+    for (SearchType type : SearchType.values()) {
+      if (contains(type, keyword)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
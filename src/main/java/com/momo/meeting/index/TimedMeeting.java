@@ -0,0 +1,26 @@
+package com.momo.meeting.index;
+
+import com.momo.meeting.constant.FoodCategory;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TimedMeeting {
+
+  // 모임 날짜 오름차순, 날짜가 같으면 ID 오름차순 (날짜순 조회의 커서 기준과 동일)
+  public static final Comparator<TimedMeeting> DATE_ORDER =
+      Comparator.comparing(TimedMeeting::getMeetingDateTime)
+          .thenComparingLong(TimedMeeting::getMeetingId);
+
+  private final long meetingId;
+  private final LocalDateTime meetingDateTime;
+  private final int categoryMask;
+
+  // 요청한 카테고리를 모두 포함하는지 여부 (검색의 카테고리 조건과 동일)
+  public boolean containsCategories(int requiredMask) {
+    return FoodCategory.containsAll(categoryMask, requiredMask);
+  }
+}
@@ -27,7 +27,7 @@ public interface CreatedMeetingProjection {
 
   Integer getApprovedCount();
 
-  String getCategory();
+  Integer getCategoryMask(); // FoodCategory 비트마스크
 
   String getContent();
 
@@ -0,0 +1,87 @@
+package com.momo.meeting.projection;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+
+// DB 에서 조회한 모임 정보에 애플리케이션에서 계산한 거리를 덧붙인 projection
+@RequiredArgsConstructor
+public class DistanceAppliedProjection implements MeetingToMeetingDtoProjection {
+
+  private final MeetingToMeetingDtoProjection projection;
+  private final Double distance;
+
+  @Override
+  public Long getId() {
+    return projection.getId();
+  }
+
+  @Override
+  public Long getAuthorId() {
+    return projection.getAuthorId();
+  }
+
+  @Override
+  public String getTitle() {
+    return projection.getTitle();
+  }
+
+  @Override
+  public Long getLocationId() {
+    return projection.getLocationId();
+  }
+
+  @Override
+  public Double getLatitude() {
+    return projection.getLatitude();
+  }
+
+  @Override
+  public Double getLongitude() {
+    return projection.getLongitude();
+  }
+
+  @Override
+  public String getAddress() {
+    return projection.getAddress();
+  }
+
+  @Override
+  public LocalDateTime getMeetingDateTime() {
+    return projection.getMeetingDateTime();
+  }
+
+  @Override
+  public Integer getMaxCount() {
+    return projection.getMaxCount();
+  }
+
+  @Override
+  public Integer getApprovedCount() {
+    return projection.getApprovedCount();
+  }
+
+  @Override
+  public Long getViewCount() {
+    return projection.getViewCount();
+  }
+
+  @Override
+  public Integer getCategoryMask() {
+    return projection.getCategoryMask();
+  }
+
+  @Override
+  public String getContent() {
+    return projection.getContent();
+  }
+
+  @Override
+  public String getThumbnail() {
+    return projection.getThumbnail();
+  }
+
+  @Override
+  public Double getDistance() {
+    return distance;
+  }
+}
@@ -0,0 +1,10 @@
+package com.momo.meeting.projection;
+
+import java.time.LocalDateTime;
+
+public interface MeetingExpirationProjection {
+
+  Long getId();
+
+  LocalDateTime getMeetingDateTime();
+}
@@ -0,0 +1,10 @@
+package com.momo.meeting.projection;
+
+public interface MeetingGeoPointProjection {
+
+  Long getId();
+
+  Double getLatitude();
+
+  Double getLongitude();
+}
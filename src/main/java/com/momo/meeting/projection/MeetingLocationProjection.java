@@ -0,0 +1,10 @@
+package com.momo.meeting.projection;
+
+public interface MeetingLocationProjection {
+
+  Long getId();
+
+  Long getLocationId();
+
+  Integer getCategoryMask();
+}
@@ -0,0 +1,16 @@
+package com.momo.meeting.projection;
+
+public interface MeetingMarkerProjection {
+
+  Long getId();
+
+  Double getLatitude();
+
+  Double getLongitude();
+
+  Integer getMaxCount();
+
+  Integer getApprovedCount();
+
+  Integer getCategoryMask(); // FoodCategory 비트마스크
+}
@@ -0,0 +1,19 @@
+package com.momo.meeting.projection;
+
+import java.time.LocalDateTime;
+
+// 참여 신청자 목록의 변경 여부 확인용 (모임 버전과 상태, 신청 수, 신청과 회원, 프로필의 마지막 수정 시각)
+public interface MeetingParticipantsVersionProjection {
+
+  Long getMeetingVersion();
+
+  String getMeetingStatus();
+
+  Long getParticipantCount();
+
+  LocalDateTime getLastParticipationUpdatedAt();
+
+  LocalDateTime getLastUserUpdatedAt();
+
+  LocalDateTime getLastProfileUpdatedAt();
+}
@@ -0,0 +1,10 @@
+package com.momo.meeting.projection;
+
+public interface MeetingSuggestSourceProjection {
+
+  Long getId();
+
+  String getTitle();
+
+  String getAddress();
+}
@@ -24,7 +24,9 @@ public interface MeetingToMeetingDtoProjection {
 
   Integer getApprovedCount();
 
-  String getCategory();
+  Long getViewCount();
+
+  Integer getCategoryMask(); // FoodCategory 비트마스크
 
   String getContent();
 
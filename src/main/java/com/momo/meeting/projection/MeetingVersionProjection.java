@@ -0,0 +1,11 @@
+package com.momo.meeting.projection;
+
+// 모임 상세의 변경 여부 확인용 (참여 인원, 조회수는 @Version 을 올리지 않는 UPDATE 로 변경됨)
+public interface MeetingVersionProjection {
+
+  Long getVersion();
+
+  Integer getApprovedCount();
+
+  Long getViewCount();
+}
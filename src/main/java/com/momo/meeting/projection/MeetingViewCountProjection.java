@@ -0,0 +1,8 @@
+package com.momo.meeting.projection;
+
+public interface MeetingViewCountProjection {
+
+  Long getId();
+
+  Long getViewCount();
+}
@@ -0,0 +1,17 @@
+package com.momo.meeting.projection;
+
+// DB 에서 조회한 모임 정보의 조회수를 인기순 인덱스의 조회수로 바꾼 projection (커서와 정렬 기준을 맞춤)
+public class ViewCountAppliedProjection extends DistanceAppliedProjection {
+
+  private final Long viewCount;
+
+  public ViewCountAppliedProjection(MeetingToMeetingDtoProjection projection, Long viewCount) {
+    super(projection, projection.getDistance());
+    this.viewCount = viewCount;
+  }
+
+  @Override
+  public Long getViewCount() {
+    return viewCount;
+  }
+}
@@ -1,12 +1,23 @@
 package com.momo.meeting.repository;
 
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.ThumbnailStatus;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.projection.CreatedMeetingProjection;
 import com.momo.meeting.projection.ExpiredMeetingProjection;
+import com.momo.meeting.projection.MeetingExpirationProjection;
+import com.momo.meeting.projection.MeetingGeoPointProjection;
+import com.momo.meeting.projection.MeetingLocationProjection;
+import com.momo.meeting.projection.MeetingMarkerProjection;
+import com.momo.meeting.projection.MeetingParticipantsVersionProjection;
+import com.momo.meeting.projection.MeetingSuggestSourceProjection;
 import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.projection.MeetingVersionProjection;
+import com.momo.meeting.projection.MeetingViewCountProjection;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,8 +31,8 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
       Long userId, LocalDateTime startOfDay, LocalDateTime endOfDay);
 
   // 모집글 목록을 meeting_date_time 을 기준으로 오름차순 정렬하여 반환 (커서 기반)
-  // meeting_date_time이 초단위까지 저장되면 현재 방식에서는 중복데이터가 발생할 수 있음.
-  // lastMeetingDateTime이 분단위까지만 표현하고 있기 때문.
+  // (meeting_status, meeting_date_time, id) 인덱스 범위 조회로 처리되어 정렬, 그룹화가 필요 없음
+  // lastMeetingDateTime 은 nextCursor 에 담긴 분 단위로 자르지 않은 값 (잘린 값이면 같은 분의 모임이 중복 조회됨)
   @Query(value =
       "SELECT "
           + "m.id as id, "
@@ -34,21 +45,16 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
           + "m.meeting_date_time as meetingDateTime, "
           + "m.max_count as maxCount, "
           + "m.approved_count as approvedCount, "
+          + "m.view_count as viewCount, "
           + "m.content as content, "
           + "m.thumbnail as thumbnail, "
-          + "GROUP_CONCAT(mc.category) as category "
+          + "m.category_mask as categoryMask "
           + "FROM meeting m "
-          + "INNER JOIN meeting_category mc ON m.id = mc.meeting_id "
           + "WHERE m.meeting_status = 'RECRUITING' "
           + "AND ("
           + "  m.meeting_date_time > :lastDateTime "
           + "  OR (m.meeting_date_time = :lastDateTime AND m.id > :lastId) "
           + ") "
-          + "GROUP BY "
-          + "  m.id, m.user_id, m.title, "
-          + "  m.location_id, m.latitude, m.longitude, "
-          + "  m.address, m.meeting_date_time, m.max_count, "
-          + "  m.approved_count, m.content, m.thumbnail "
           + "ORDER BY m.meeting_date_time ASC, m.id ASC  "
           + "LIMIT :pageSize",
       nativeQuery = true)
@@ -58,6 +64,46 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
       @Param("pageSize") int pageSize
   );
 
+  // 날짜 구간 [from, to) 안의 모집글 중 카테고리를 모두 포함하는 모임을 날짜순으로 반환 (커서 기반)
+  // 카테고리 조건은 DB 마다 다른 비트 연산자 대신 조건을 만족하는 비트마스크 값 목록과 비교
+  // (FoodCategory.masksContaining, 카테고리가 7개이므로 최대 128개)
+  @Query(value =
+      "SELECT "
+          + "m.id as id, "
+          + "m.user_id as authorId, "
+          + "m.title as title, "
+          + "m.location_id as locationId, "
+          + "m.latitude as latitude, "
+          + "m.longitude as longitude, "
+          + "m.address as address, "
+          + "m.meeting_date_time as meetingDateTime, "
+          + "m.max_count as maxCount, "
+          + "m.approved_count as approvedCount, "
+          + "m.view_count as viewCount, "
+          + "m.content as content, "
+          + "m.thumbnail as thumbnail, "
+          + "m.category_mask as categoryMask "
+          + "FROM meeting m "
+          + "WHERE m.meeting_status = 'RECRUITING' "
+          + "AND m.meeting_date_time >= :from "
+          + "AND m.meeting_date_time < :to "
+          + "AND ("
+          + "  m.meeting_date_time > :lastDateTime "
+          + "  OR (m.meeting_date_time = :lastDateTime AND m.id > :lastId) "
+          + ") "
+          + "AND m.category_mask IN (:categoryMasks) "
+          + "ORDER BY m.meeting_date_time ASC, m.id ASC "
+          + "LIMIT :pageSize",
+      nativeQuery = true)
+  List<MeetingToMeetingDtoProjection> findInWindowWithCursor(
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      @Param("lastId") Long lastId,
+      @Param("lastDateTime") LocalDateTime lastDateTime,
+      @Param("categoryMasks") List<Integer> categoryMasks,
+      @Param("pageSize") int pageSize
+  );
+
   // 모집글 목록을 사용자의 거리와 가까운 순서대로 반환 (커서 기반)
   @Query(value =
       "SELECT "
@@ -71,17 +117,16 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
           + "dm.meeting_date_time as meetingDateTime, "
           + "dm.max_count as maxCount, "
           + "dm.approved_count as approvedCount, "
+          + "dm.view_count as viewCount, "
           + "dm.content as content, "
           + "dm.thumbnail as thumbnail, "
-          + "("
-          + "  SELECT GROUP_CONCAT(mc.category) "
-          + "  FROM meeting_category mc "
-          + "  WHERE mc.meeting_id = dm.id "
-          + ") as category, "
+          + "dm.category_mask as categoryMask, "
           + "dm.distance as distance "
           + "FROM ("
           + "  SELECT m.id, m.user_id, m.title, m.location_id, m.latitude, m.longitude, m.address, "
-          + "  m.meeting_date_time, m.max_count, m.approved_count, m.content, m.thumbnail, "
+          + "  m.meeting_date_time, m.max_count, m.approved_count, m.view_count, "
+          + "  m.content, m.thumbnail, "
+          + "  m.category_mask, "
           + "    ST_Distance_Sphere( "
           + "        POINT(:userLongitude, :userLatitude), "
           + "        POINT(m.longitude, m.latitude) "
@@ -106,7 +151,104 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
       @Param("pageSize") int pageSize
   );
 
-  // 개최한 모임 목록을 생성된 순서대로 반환 (커서 기반)
+  // 모집글 ID 목록에 해당하는 모임 정보를 반환 (정렬은 호출하는 쪽에서 처리)
+  @Query(value =
+      "SELECT "
+          + "m.id as id, "
+          + "m.user_id as authorId, "
+          + "m.title as title, "
+          + "m.location_id as locationId, "
+          + "m.latitude as latitude, "
+          + "m.longitude as longitude, "
+          + "m.address as address, "
+          + "m.meeting_date_time as meetingDateTime, "
+          + "m.max_count as maxCount, "
+          + "m.approved_count as approvedCount, "
+          + "m.view_count as viewCount, "
+          + "m.content as content, "
+          + "m.thumbnail as thumbnail, "
+          + "m.category_mask as categoryMask "
+          + "FROM meeting m "
+          + "WHERE m.id IN (:meetingIds) "
+          + "AND m.meeting_status = 'RECRUITING'",
+      nativeQuery = true)
+  List<MeetingToMeetingDtoProjection> findMeetingsByIds(
+      @Param("meetingIds") List<Long> meetingIds
+  );
+
+  // 공간 인덱스 적재용 모임 좌표 조회
+  @Query("SELECT m.id as id, m.latitude as latitude, m.longitude as longitude "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus")
+  List<MeetingGeoPointProjection> findGeoPointsByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus
+  );
+
+  // 지역별 모임 수 집계용 모임 지역, 카테고리 조회
+  @Query("SELECT m.id as id, m.locationId as locationId, m.categoryMask as categoryMask "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus")
+  List<MeetingLocationProjection> findLocationsByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus
+  );
+
+  // 자동완성 인덱스 적재용 모임 제목, 주소 조회
+  @Query("SELECT m.id as id, m.title as title, m.address as address "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus")
+  List<MeetingSuggestSourceProjection> findSuggestSourcesByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus
+  );
+
+  // 인기순 인덱스 적재용 모임 조회수 조회
+  @Query("SELECT m.id as id, m.viewCount as viewCount "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus")
+  List<MeetingViewCountProjection> findViewCountsByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus
+  );
+
+  // 위경도 범위(bounding box) 안의 모집 중인 모임 좌표 조회
+  // 거리 계산 없이 범위 조건만 사용하므로 (meeting_status, latitude, longitude) 인덱스를 탈 수 있음
+  @Query("SELECT m.id as id, m.latitude as latitude, m.longitude as longitude "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus "
+      + "AND m.latitude BETWEEN :minLatitude AND :maxLatitude "
+      + "AND m.longitude BETWEEN :minLongitude AND :maxLongitude")
+  List<MeetingGeoPointProjection> findGeoPointsInBoundingBox(
+      @Param("meetingStatus") MeetingStatus meetingStatus,
+      @Param("minLatitude") double minLatitude,
+      @Param("maxLatitude") double maxLatitude,
+      @Param("minLongitude") double minLongitude,
+      @Param("maxLongitude") double maxLongitude
+  );
+
+  // 지도 영역 안의 모집 중인 모임을 마커에 필요한 정보만 반환
+  @Query(value =
+      "SELECT "
+          + "m.id as id, "
+          + "m.latitude as latitude, "
+          + "m.longitude as longitude, "
+          + "m.max_count as maxCount, "
+          + "m.approved_count as approvedCount, "
+          + "m.category_mask as categoryMask "
+          + "FROM meeting m "
+          + "WHERE m.meeting_status = 'RECRUITING' "
+          + "AND m.latitude BETWEEN :minLatitude AND :maxLatitude "
+          + "AND m.longitude BETWEEN :minLongitude AND :maxLongitude "
+          + "LIMIT :limit",
+      nativeQuery = true)
+  List<MeetingMarkerProjection> findMeetingMarkersInBoundingBox(
+      @Param("minLatitude") double minLatitude,
+      @Param("maxLatitude") double maxLatitude,
+      @Param("minLongitude") double minLongitude,
+      @Param("maxLongitude") double maxLongitude,
+      @Param("limit") int limit
+  );
+
+  // 개최한 모임 목록을 meeting_date_time, id 오름차순으로 반환 (커서 기반)
+  // 커서가 (모임 날짜, 모임 ID) 이므로 (user_id, meeting_date_time, id) 인덱스 범위 조회 후 바로 끝낼 수 있음
+  // includeContent 가 false 이면 content(가장 큰 컬럼)를 가져오지 않음 (fields= 로 content 제외 시)
   @Query(value = "SELECT "
       + "m.user_id as userId, "
       + "m.id as meetingId, "
@@ -119,23 +261,21 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
       + "m.meeting_date_time as meetingDateTime, "
       + "m.max_count as maxCount, "
       + "m.approved_count as approvedCount, "
-      + "GROUP_CONCAT(mc.category) as category, "
-      + "m.content as content, "
+      + "m.category_mask as categoryMask, "
+      + "CASE WHEN :includeContent = TRUE THEN m.content END as content, "
       + "m.thumbnail as thumbnail "
       + "FROM meeting as m "
-      + "INNER JOIN meeting_category mc ON mc.meeting_id = m.id "
       + "WHERE m.user_id = :userId "
-      + "AND m.id > :lastId "
-      + "GROUP BY m.id, m.user_id, m.meeting_status, m.title, "
-      + "m.location_id, m.latitude, m.longitude, m.address, "
-      + "m.meeting_date_time, m.max_count, m.approved_count, "
-      + "m.content, m.thumbnail "
-      + "ORDER BY m.meeting_date_time ASC, m.id ASC  "
+      + "AND (m.meeting_date_time > :lastMeetingDateTime "
+      + "OR (m.meeting_date_time = :lastMeetingDateTime AND m.id > :lastId)) "
+      + "ORDER BY m.meeting_date_time ASC, m.id ASC "
       + "LIMIT :pageSize",
       nativeQuery = true)
   List<CreatedMeetingProjection> findAllByUser_IdOrderByCreatedAtAsc(
       @Param("userId") Long userId,
       @Param("lastId") Long lastId,
+      @Param("lastMeetingDateTime") LocalDateTime lastMeetingDateTime,
+      @Param("includeContent") boolean includeContent,
       @Param("pageSize") int pageSize
   );
 
@@ -151,6 +291,119 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
       @Param("now") LocalDateTime now
   );
 
+  // 만료 시각이 지난 모임 중 아직 모집 중인 모임만 반환 (만료 예약 후 수정, 모집 완료된 모임 제외)
+  @Query("SELECT DISTINCT "
+      + "m.id as meetingId, "
+      + "m.title as title, "
+      + "m.user as author "
+      + "FROM Meeting m "
+      + "WHERE m.id IN :meetingIds "
+      + "AND m.meetingStatus = :meetingStatus "
+      + "AND m.meetingDateTime < :now")
+  List<ExpiredMeetingProjection> findExpiredMeetingsByIds(
+      @Param("meetingIds") List<Long> meetingIds,
+      @Param("meetingStatus") MeetingStatus meetingStatus,
+      @Param("now") LocalDateTime now
+  );
+
+  // 만료 스케줄러 적재용 모임 날짜 조회
+  @Query("SELECT m.id as id, m.meetingDateTime as meetingDateTime "
+      + "FROM Meeting m "
+      + "WHERE m.meetingStatus = :meetingStatus")
+  List<MeetingExpirationProjection> findExpirationsByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus
+  );
+
+  // 정원이 남아 있을 때만 참여 인원을 1 증가 (0 이면 정원 초과)
+  // 조건부 UPDATE 한 번으로 처리하므로 동시에 승인해도 @Version 충돌 없이 정원까지만 성공
+  @Modifying
+  @Query("UPDATE Meeting m SET m.approvedCount = m.approvedCount + 1 "
+      + "WHERE m.id = :meetingId AND m.approvedCount < m.maxCount")
+  int reserveSeat(@Param("meetingId") Long meetingId);
+
+  // 참여 인원을 1 감소 (0 이면 이미 비어 있음)
+  @Modifying
+  @Query("UPDATE Meeting m SET m.approvedCount = m.approvedCount - 1 "
+      + "WHERE m.id = :meetingId AND m.approvedCount > 0")
+  int releaseSeat(@Param("meetingId") Long meetingId);
+
+  // 비동기 업로드 결과를 반영 (업로드 중에 썸네일이 바뀌었거나 삭제된 모임은 0 반환)
+  @Modifying
+  @Query("UPDATE Meeting m "
+      + "SET m.thumbnail = :thumbnail, m.thumbnailStatus = :newStatus, "
+      + "m.thumbnailUploadToken = NULL, m.version = m.version + 1 "
+      + "WHERE m.id = :meetingId AND m.thumbnailStatus = :currentStatus "
+      + "AND m.thumbnailUploadToken = :uploadToken")
+  int updateThumbnail(
+      @Param("meetingId") Long meetingId,
+      @Param("uploadToken") String uploadToken,
+      @Param("thumbnail") String thumbnail,
+      @Param("currentStatus") ThumbnailStatus currentStatus,
+      @Param("newStatus") ThumbnailStatus newStatus
+  );
+
+  // 서버 재시작 등으로 끝나지 않은 업로드를 실패 처리
+  @Modifying
+  @Query("UPDATE Meeting m SET m.thumbnailStatus = :newStatus, m.version = m.version + 1 "
+      + "WHERE m.thumbnailStatus = :currentStatus AND m.createdAt < :createdBefore")
+  int updateStaleThumbnailStatus(
+      @Param("currentStatus") ThumbnailStatus currentStatus,
+      @Param("newStatus") ThumbnailStatus newStatus,
+      @Param("createdBefore") LocalDateTime createdBefore
+  );
+
+  // 메모리에 모아둔 조회수를 반영 (증가량이 같은 모임끼리 한 번에 갱신)
+  @Modifying
+  @Query("UPDATE Meeting m SET m.viewCount = m.viewCount + :delta WHERE m.id IN :meetingIds")
+  int incrementViewCounts(
+      @Param("meetingIds") List<Long> meetingIds,
+      @Param("delta") long delta
+  );
+
+  // 상태가 currentStatus 인 모임만 newStatus 로 변경 (상세, 참여 신청자 목록 ETag 가 바뀌도록 버전도 증가)
+  @Modifying
+  @Query("UPDATE Meeting m SET m.meetingStatus = :newStatus, m.version = m.version + 1 "
+      + "WHERE m.id IN :meetingIds AND m.meetingStatus = :currentStatus")
+  int updateStatusByIds(
+      @Param("meetingIds") List<Long> meetingIds,
+      @Param("currentStatus") MeetingStatus currentStatus,
+      @Param("newStatus") MeetingStatus newStatus
+  );
+
+  // 모임 상세 ETag 용 (PK 조회로 버전, 참여 인원, 조회수만 조회)
+  @Query("SELECT m.version as version, m.approvedCount as approvedCount, "
+      + "m.viewCount as viewCount FROM Meeting m WHERE m.id = :meetingId")
+  Optional<MeetingVersionProjection> findVersionById(@Param("meetingId") Long meetingId);
+
+  // 참여 신청자 목록 ETag 용 (작성자 본인의 모임이 아니면 빈 값)
+  // 모집 완료, 만료 시의 일괄 변경은 수정 시각을 남기지 않을 수 있으므로 모임의 버전과 상태도 함께 조회
+  @Query(value =
+      "SELECT "
+          + "m.version as meetingVersion, "
+          + "m.meeting_status as meetingStatus, "
+          + "COUNT(mp.id) as participantCount, "
+          + "MAX(mp.updated_at) as lastParticipationUpdatedAt, "
+          + "MAX(u.updated_at) as lastUserUpdatedAt, "
+          + "MAX(p.updated_at) as lastProfileUpdatedAt "
+          + "FROM meeting m "
+          + "LEFT JOIN participation mp ON mp.meeting_id = m.id "
+          + "LEFT JOIN users u ON mp.user_id = u.user_id "
+          + "LEFT JOIN profile p ON u.user_id = p.user_id "
+          + "WHERE m.id = :meetingId AND m.user_id = :userId "
+          + "GROUP BY m.id, m.version, m.meeting_status",
+      nativeQuery = true)
+  Optional<MeetingParticipantsVersionProjection> findParticipantsVersion(
+      @Param("meetingId") Long meetingId,
+      @Param("userId") Long userId
+  );
+
+  // 만료 모임 정리용 ID 조회 (ID 순으로 pageable 크기만큼)
+  @Query("SELECT m.id FROM Meeting m WHERE m.meetingStatus = :meetingStatus ORDER BY m.id ASC")
+  List<Long> findIdsByMeetingStatus(
+      @Param("meetingStatus") MeetingStatus meetingStatus,
+      Pageable pageable
+  );
+
   @Modifying
   @Query("DELETE FROM Meeting m WHERE m.id IN :meetingIds")
   int deleteAllByMeetingIds(@Param("meetingIds") List<Long> meetingIds);
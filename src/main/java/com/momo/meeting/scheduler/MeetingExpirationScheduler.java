@@ -0,0 +1,152 @@
+package com.momo.meeting.scheduler;
+
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingExpirationProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import com.momo.meeting.service.MeetingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 중인 모임을 모임 날짜순 우선순위 큐로 관리하여, 날짜가 지나면 수 초 안에 만료 처리한다.
+ * 모임이 수정되면 새 날짜로 다시 예약하고, 큐에 남은 이전 예약은 꺼낼 때 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingExpirationScheduler implements MeterBinder {
+
+  private static final int EXPIRE_BATCH_SIZE = 500;
+
+  private final MeetingRepository meetingRepository;
+  private final MeetingService meetingService;
+
+  private final PriorityQueue<Expiration> queue = new PriorityQueue<>(
+      Comparator.comparing(Expiration::getMeetingDateTime)
+          .thenComparingLong(Expiration::getMeetingId));
+  private final Map<Long, LocalDateTime> deadlines = new HashMap<>(); // 모임 ID -> 현재 예약된 만료 시각
+
+  // 서버 시작 시 모집 중인 모임의 날짜를 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    List<MeetingExpirationProjection> expirations =
+        meetingRepository.findExpirationsByMeetingStatus(MeetingStatus.RECRUITING);
+
+    for (MeetingExpirationProjection expiration : expirations) {
+      schedule(expiration.getId(), expiration.getMeetingDateTime());
+    }
+    log.info("모임 만료 스케줄러 적재 완료 : {}건", expirations.size());
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      Meeting meeting = event.getMeeting();
+      schedule(meeting.getId(), meeting.getMeetingDateTime());
+    } else {
+      cancel(event.getMeetingId());
+    }
+  }
+
+  public synchronized void schedule(Long meetingId, LocalDateTime meetingDateTime) {
+    LocalDateTime previous = deadlines.put(meetingId, meetingDateTime);
+    if (!meetingDateTime.equals(previous)) {
+      queue.offer(new Expiration(meetingId, meetingDateTime));
+    }
+  }
+
+  public synchronized void cancel(Long meetingId) {
+    deadlines.remove(meetingId);
+  }
+
+  public synchronized int size() {
+    return deadlines.size();
+  }
+
+  // 만료 시각이 지난 모임을 묶어서 만료 처리 (실패한 묶음은 다시 예약하여 다음 주기에 처리)
+  @Scheduled(fixedDelay = 1000)
+  public void expireDueMeetings() {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> meetingIds;
+    while (!(meetingIds = pollDue(now, EXPIRE_BATCH_SIZE)).isEmpty()) {
+      log.info("모임 만료 처리 : {}건", meetingIds.size());
+      try {
+        meetingService.expireMeetings(meetingIds);
+      } catch (RuntimeException e) {
+        log.error("모임 만료 처리 실패, 다음 주기에 재시도 : {}건, error = {}",
+            meetingIds.size(), e.getMessage());
+        retry(meetingIds, now);
+        return;
+      }
+    }
+  }
+
+  // 처리하지 못한 모임을 다시 예약 (그 사이 다른 시각으로 예약된 모임은 그대로 둠)
+  synchronized void retry(List<Long> meetingIds, LocalDateTime dueAt) {
+    for (Long meetingId : meetingIds) {
+      if (deadlines.putIfAbsent(meetingId, dueAt) == null) {
+        queue.offer(new Expiration(meetingId, dueAt));
+      }
+    }
+  }
+
+  /**
+   * 만료 시각이 지난 모임 ID 를 최대 batchSize 개 꺼냄
+   *
+   * @param now       기준 시각
+   * @param batchSize 최대 개수
+   * @return 만료된 모임 ID 목록 (만료 시각 순)
+   */
+  synchronized List<Long> pollDue(LocalDateTime now, int batchSize) {
+    List<Long> meetingIds = new ArrayList<>();
+
+    while (meetingIds.size() < batchSize && !queue.isEmpty()
+        && queue.peek().getMeetingDateTime().isBefore(now)) {
+      Expiration expiration = queue.poll();
+      // 취소되었거나 다른 시각으로 다시 예약된 항목은 버림
+      if (expiration.getMeetingDateTime().equals(deadlines.get(expiration.getMeetingId()))) {
+        deadlines.remove(expiration.getMeetingId());
+        meetingIds.add(expiration.getMeetingId());
+      }
+    }
+    return meetingIds;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("meeting.expiration.scheduled", this, MeetingExpirationScheduler::size)
+        .description("만료 예약된 모임 수")
+        .register(registry);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class Expiration {
+
+    private final Long meetingId;
+    private final LocalDateTime meetingDateTime;
+  }
+}
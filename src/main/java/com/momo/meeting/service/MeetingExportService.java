@@ -0,0 +1,309 @@
+package com.momo.meeting.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.common.exception.CustomException;
+import com.momo.common.exception.ErrorCode;
+import com.momo.meeting.constant.ExportFormat;
+import com.momo.meeting.constant.FoodCategory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+/**
+ * 모임, 참여신청 전체 데이터를 NDJSON 또는 CSV 로 내보내는 관리자용 서비스.
+ * 엔티티나 projection 목록을 만들지 않고 JDBC 커서(forward-only, read-only)에서 읽은 행을 바로 출력하므로
+ * 테이블 크기와 관계없이 fetch size 만큼의 행만 메모리에 올라간다.
+ * MySQL 에서 fetch size 단위로 읽으려면 접속 URL 에 useCursorFetch=true 가 필요하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingExportService {
+
+  private static final String MEETING_EXPORT_QUERY = "SELECT "
+      + "m.id, "
+      + "m.user_id, "
+      + "m.title, "
+      + "m.location_id, "
+      + "m.latitude, "
+      + "m.longitude, "
+      + "m.address, "
+      + "m.meeting_date_time, "
+      + "m.meeting_status, "
+      + "m.max_count, "
+      + "m.approved_count, "
+      + "m.view_count, "
+      + "m.category_mask, "
+      + "(SELECT COUNT(*) FROM participation p WHERE p.meeting_id = m.id), "
+      + "m.created_at "
+      + "FROM meeting m "
+      + "ORDER BY m.id";
+  private static final String[] MEETING_FIELDS = {
+      "id", "authorId", "title", "locationId", "latitude", "longitude", "address",
+      "meetingDateTime", "meetingStatus", "maxCount", "approvedCount", "viewCount",
+      "categories", "participationCount", "createdAt"};
+  private static final int MEETING_CATEGORY_INDEX = 12; // category_mask 는 카테고리 이름 목록으로 출력
+
+  private static final String PARTICIPATION_EXPORT_QUERY = "SELECT "
+      + "p.id, "
+      + "p.meeting_id, "
+      + "p.user_id, "
+      + "p.participation_status, "
+      + "p.created_at "
+      + "FROM participation p "
+      + "ORDER BY p.id";
+  private static final String[] PARTICIPATION_FIELDS = {
+      "id", "meetingId", "userId", "participationStatus", "createdAt"};
+
+  // 한 번에 DB 에서 가져올 행 수
+  @Value("${meeting.export.fetch-size:1000}")
+  private int fetchSize = 1000;
+
+  // 내보내기를 허용할 관리자 회원 ID 목록
+  @Value("${meeting.export.admin-user-ids:}")
+  private Set<Long> adminUserIds = Set.of();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 관리자 회원인지 검증 (응답을 쓰기 시작하기 전에 호출)
+   *
+   * @param userId 회원 ID
+   */
+  public void validateAdmin(Long userId) {
+    if (userId == null || !adminUserIds.contains(userId)) {
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+  }
+
+  /**
+   * 모임 전체를 카테고리, 참여신청 수와 함께 ID 순으로 출력
+   *
+   * @param format       출력 형식
+   * @param outputStream 출력 대상
+   * @return 출력한 행 수
+   */
+  public long exportMeetings(ExportFormat format, OutputStream outputStream) throws IOException {
+    return export("meeting", MEETING_EXPORT_QUERY, MEETING_FIELDS, MEETING_CATEGORY_INDEX,
+        format, outputStream);
+  }
+
+  /**
+   * 참여신청 전체를 ID 순으로 출력
+   *
+   * @param format       출력 형식
+   * @param outputStream 출력 대상
+   * @return 출력한 행 수
+   */
+  public long exportParticipations(ExportFormat format, OutputStream outputStream)
+      throws IOException {
+    return export("participation", PARTICIPATION_EXPORT_QUERY, PARTICIPATION_FIELDS, -1,
+        format, outputStream);
+  }
+
+  private long export(
+      String table,
+      String query,
+      String[] fields,
+      int categoryIndex,
+      ExportFormat format,
+      OutputStream outputStream
+  ) throws IOException {
+    long startNanos = System.nanoTime();
+    AtomicLong rowCount = new AtomicLong();
+    Object[] values = new Object[fields.length]; // 행마다 재사용
+
+    try (RowWriter writer = format == ExportFormat.CSV
+        ? new CsvRowWriter(outputStream, fields)
+        : new NdjsonRowWriter(objectMapper, outputStream, fields)) {
+      writer.writeHeader();
+
+      jdbcTemplate.query(connection -> {
+        PreparedStatement statement = connection.prepareStatement(
+            query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement;
+      }, (RowCallbackHandler) resultSet -> {
+        for (int i = 0; i < fields.length; i++) {
+          values[i] = readValue(resultSet, i + 1, i == categoryIndex);
+        }
+        try {
+          writer.writeRow(values);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e); // 클라이언트 연결이 끊기면 조회를 중단
+        }
+        rowCount.incrementAndGet();
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    log.info("{} 내보내기 완료 : {}건, {}ms", table, rowCount.get(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    return rowCount.get();
+  }
+
+  private static Object readValue(ResultSet resultSet, int columnIndex, boolean categoryMask)
+      throws SQLException {
+    if (categoryMask) {
+      return toCategoryNames(resultSet.getInt(columnIndex));
+    }
+
+    Object value = resultSet.getObject(columnIndex);
+    if (value instanceof Timestamp) {
+      return ((Timestamp) value).toLocalDateTime().toString();
+    }
+    return value;
+  }
+
+  private static List<String> toCategoryNames(int categoryMask) {
+    List<String> names = new ArrayList<>();
+    for (FoodCategory category : FoodCategory.values()) {
+      if ((categoryMask & category.getMask()) != 0) {
+        names.add(category.name());
+      }
+    }
+    return names;
+  }
+
+  private interface RowWriter extends AutoCloseable {
+
+    void writeHeader() throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+  }
+
+  // 행마다 JSON 객체 한 줄 (Jackson 스트리밍 API 로 직접 출력)
+  private static class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final String[] fields;
+
+    private NdjsonRowWriter(ObjectMapper objectMapper, OutputStream outputStream, String[] fields)
+        throws IOException {
+      this.generator = objectMapper.getFactory().createGenerator(outputStream);
+      this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      this.generator.setRootValueSeparator(null);
+      this.fields = fields;
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+      generator.writeStartObject();
+      for (int i = 0; i < fields.length; i++) {
+        generator.writeFieldName(fields[i]);
+        writeValue(values[i]);
+      }
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+
+    private void writeValue(Object value) throws IOException {
+      if (value == null) {
+        generator.writeNull();
+      } else if (value instanceof List) {
+        generator.writeStartArray();
+        for (Object element : (List<?>) value) {
+          generator.writeString(element.toString());
+        }
+        generator.writeEndArray();
+      } else if (value instanceof Long || value instanceof Integer) {
+        generator.writeNumber(((Number) value).longValue());
+      } else if (value instanceof BigDecimal) {
+        generator.writeNumber((BigDecimal) value);
+      } else if (value instanceof Number) {
+        generator.writeNumber(((Number) value).doubleValue());
+      } else if (value instanceof Boolean) {
+        generator.writeBoolean((Boolean) value);
+      } else {
+        generator.writeString(value.toString());
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+
+  // 첫 줄에 필드 이름, 이후 행마다 RFC 4180 형식으로 이스케이프한 값
+  private static class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+    private final String[] fields;
+
+    private CsvRowWriter(OutputStream outputStream, String[] fields) {
+      this.writer = new BufferedWriter(
+          new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      this.fields = fields;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+      writeLine(fields);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+      writeLine(values);
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(escape(values[i]));
+      }
+      writer.write("\r\n");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String escape(Object value) {
+      if (value == null) {
+        return "";
+      }
+      String text = value instanceof List
+          ? String.join(",", (List<String>) value) : value.toString();
+      if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+          && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+        return text;
+      }
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.flush(); // 서블릿 출력 스트림은 닫지 않음
+    }
+  }
+}
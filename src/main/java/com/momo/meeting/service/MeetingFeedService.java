@@ -0,0 +1,130 @@
+package com.momo.meeting.service;
+
+import com.momo.meeting.cache.MeetingContinuationCache;
+import com.momo.meeting.cache.MeetingFeedCache;
+import com.momo.meeting.cache.MeetingFeedVersion;
+import com.momo.meeting.cache.MeetingQueryCoalescer;
+import com.momo.meeting.cache.MeetingQueryKey;
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingCursor;
+import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 모임 목록 조회 앞단에서 페이지 캐시, 다음 페이지 미리 조회와 동시 요청 병합을 적용
+@Service
+@RequiredArgsConstructor
+public class MeetingFeedService {
+
+  // 페이지를 응답할 때 함께 조회해 둘 다음 페이지 수 (0 이면 미리 조회하지 않음)
+  @Value("${meeting.feed.prefetch-pages:2}")
+  private int prefetchPages = 2;
+
+  private final MeetingService meetingService;
+  private final MeetingFeedCache meetingFeedCache;
+  private final MeetingContinuationCache meetingContinuationCache;
+  private final MeetingQueryCoalescer meetingQueryCoalescer;
+  private final MeetingFeedVersion meetingFeedVersion;
+
+  // 목록 ETag (모임 이벤트로만 바뀌는 날짜순, 거리순만, 조회수와 회원별 결과인 인기순, 추천순은 null)
+  public String getFeedETag(MeetingsRequest request) {
+    SortType sortType = request.getSortType();
+    if (sortType == SortType.POPULAR || sortType == SortType.RECOMMENDED) {
+      return null;
+    }
+    return meetingFeedVersion.eTag();
+  }
+
+  public MeetingsResponse getMeetings(
+      MeetingsRequest request, Long userId, String continuationToken
+  ) {
+    // 추천순은 회원마다 결과가 다르므로 캐시와 요청 병합 없이 조회
+    if (request.getSortType() == SortType.RECOMMENDED) {
+      return meetingService.getRecommendedMeetings(request, userId);
+    }
+    return getMeetings(request, continuationToken);
+  }
+
+  public MeetingsResponse getMeetings(MeetingsRequest request, String continuationToken) {
+    // 인기순은 조회수 반영마다 순서가 바뀌므로 페이지 캐시 없이 요청 병합만 적용
+    if (request.getSortType() == SortType.POPULAR) {
+      return meetingQueryCoalescer.execute(
+          MeetingQueryKey.of(request),
+          () -> meetingService.getMeetings(request));
+    }
+
+    // 미리 조회해 둔 페이지가 남아 있으면 DB 조회 없이 응답 (없으면 일반 조회)
+    MeetingsResponse page = continuationToken == null
+        ? null : meetingContinuationCache.get(continuationToken, request);
+
+    // 캐시에 없는 같은 페이지를 같은 캐시 버전에서 동시에 요청하면 한 번만 조회
+    if (page == null) {
+      page = meetingFeedCache.get(request, (cacheRequest, loadVersion) ->
+          meetingQueryCoalescer.execute(
+              MeetingQueryKey.of(cacheRequest, loadVersion),
+              () -> getMeetingsWithPrefetch(cacheRequest)));
+    }
+    return withContinuationToken(request, page);
+  }
+
+  public MeetingsResponse filterMeetings(
+      MeetingsRequest request,
+      SearchType searchType,
+      String keyword,
+      int categoryMask,
+      int pageSize
+  ) {
+    return meetingQueryCoalescer.execute(
+        MeetingQueryKey.of(request, searchType, keyword, categoryMask),
+        () -> meetingService.filterMeetings(request, searchType, keyword, categoryMask, pageSize));
+  }
+
+  // 캐시에는 토큰 없는 페이지만 보관하고, 응답할 때마다 다음 페이지의 토큰을 찾아 보관 시간을 연장
+  private MeetingsResponse withContinuationToken(MeetingsRequest request, MeetingsResponse page) {
+    if (!page.isHasNext()) {
+      return page;
+    }
+    String token = meetingContinuationCache.refresh(
+        request.toBuilder().meetingCursor(page.getCursor()).build());
+    return token == null ? page : page.toBuilder().continuationToken(token).build();
+  }
+
+  // 요청한 페이지와 뒤의 prefetchPages 페이지를 한 번에 조회하고, 뒤 페이지는 이어보기 캐시에 저장
+  private MeetingsResponse getMeetingsWithPrefetch(MeetingsRequest request) {
+    if (prefetchPages <= 0) {
+      return meetingService.getMeetings(request);
+    }
+
+    int pageSize = request.getPageSize();
+    long loadVersion = meetingContinuationCache.currentVersion();
+    MeetingsResponse prefetched = meetingService.getMeetings(
+        request.toBuilder().pageSize(pageSize * (prefetchPages + 1)).build());
+
+    List<MeetingDto> meetings = prefetched.getMeetings();
+    int pageCount = Math.max(1, (meetings.size() + pageSize - 1) / pageSize);
+
+    // 토큰은 응답할 때 withContinuationToken 에서 찾으므로 페이지에는 넣지 않음
+    for (int page = 1; page < pageCount; page++) {
+      MeetingsRequest pageRequest = request.toBuilder()
+          .meetingCursor(MeetingCursor.createCursor(pageOf(meetings, page - 1, pageSize)))
+          .build();
+      MeetingsResponse pageResponse = MeetingsResponse.ofPage(
+          pageOf(meetings, page, pageSize), page < pageCount - 1 || prefetched.isHasNext(), null);
+      meetingContinuationCache.put(pageRequest, pageResponse, loadVersion);
+    }
+
+    return MeetingsResponse.ofPage(
+        pageOf(meetings, 0, pageSize), pageCount > 1 || prefetched.isHasNext(), null);
+  }
+
+  private static List<MeetingDto> pageOf(List<MeetingDto> meetings, int page, int pageSize) {
+    int from = page * pageSize;
+    return new ArrayList<>(meetings.subList(from, Math.min(from + pageSize, meetings.size())));
+  }
+}
@@ -0,0 +1,213 @@
+package com.momo.meeting.service;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.dto.location.MeetingLocationCountResponse;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.MeetingLocationProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지역(locationId)별 모집 중인 모임 수와 카테고리별 모임 수를 메모리에 유지하는 집계 서비스.
+ * 모임 이벤트마다 증분으로 갱신하므로 조회 시 GROUP BY 쿼리가 필요 없고,
+ * 이벤트 유실에 대비해 주기적으로 DB 에서 다시 집계한 값으로 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingLocationCountService {
+
+  private static final FoodCategory[] CATEGORIES = FoodCategory.values();
+
+  private final MeetingRepository meetingRepository;
+
+  private Map<Long, MeetingLocation> meetings = new HashMap<>(); // 모임 ID -> 지역, 카테고리
+  private Map<Long, LocationCount> counts = new HashMap<>(); // 지역 ID -> 모임 수
+  private Map<Long, MeetingLocation> replayEvents; // 재집계 중 반영된 이벤트 (삭제는 null)
+  private final Object reconcileLock = new Object(); // 재집계는 한 번에 하나만 실행
+
+  // 서버 시작 시 모집 중인 모임을 집계
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecruitingMeetings() {
+    reconcile();
+  }
+
+  // 트랜잭션 커밋 이후 반영 (트랜잭션이 없으면 즉시 반영)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleMeetingEvent(MeetingEvent event) {
+    if (event.isApprovedCountChanged()) {
+      return;
+    }
+
+    if (event.isRecruiting()) {
+      Meeting meeting = event.getMeeting();
+      put(meeting.getId(), meeting.getLocationId(), meeting.getCategoryMask());
+    } else {
+      remove(event.getMeetingId());
+    }
+  }
+
+  public synchronized void put(Long meetingId, Long locationId, Integer categoryMask) {
+    MeetingLocation location = locationId == null
+        ? null : new MeetingLocation(locationId, categoryMask == null ? 0 : categoryMask);
+    apply(meetings, counts, meetingId, location);
+    if (replayEvents != null) {
+      replayEvents.put(meetingId, location);
+    }
+  }
+
+  public synchronized void remove(Long meetingId) {
+    apply(meetings, counts, meetingId, null);
+    if (replayEvents != null) {
+      replayEvents.put(meetingId, null);
+    }
+  }
+
+  /**
+   * 지역의 모집 중인 모임 수를 조회
+   *
+   * @param locationId 지역 ID
+   * @return 모임 수, 카테고리별 모임 수
+   */
+  public synchronized MeetingLocationCountResponse getLocationCount(Long locationId) {
+    LocationCount count = counts.getOrDefault(locationId, LocationCount.EMPTY);
+
+    Map<FoodCategory, Integer> categoryCounts = new EnumMap<>(FoodCategory.class);
+    for (FoodCategory category : CATEGORIES) {
+      categoryCounts.put(category, count.categoryCounts[category.ordinal()]);
+    }
+    return MeetingLocationCountResponse.builder()
+        .locationId(locationId)
+        .count(count.total)
+        .categoryCounts(Collections.unmodifiableMap(categoryCounts))
+        .build();
+  }
+
+  /**
+   * DB 에서 모집 중인 모임을 다시 집계하여 교체 (이벤트 유실, 만료 처리 누락 보정)
+   * 조회하는 동안 들어온 이벤트는 기록해 두었다가 새 집계에 다시 반영한다.
+   */
+  @Scheduled(cron = "0 */10 * * * *") // 10분마다 실행
+  public void reconcile() {
+    synchronized (reconcileLock) {
+      synchronized (this) {
+        replayEvents = new HashMap<>();
+      }
+
+      Map<Long, MeetingLocation> newMeetings = new HashMap<>();
+      Map<Long, LocationCount> newCounts = new HashMap<>();
+      try {
+        List<MeetingLocationProjection> locations =
+            meetingRepository.findLocationsByMeetingStatus(MeetingStatus.RECRUITING);
+        for (MeetingLocationProjection location : locations) {
+          if (location.getLocationId() != null) {
+            apply(newMeetings, newCounts, location.getId(), new MeetingLocation(
+                location.getLocationId(),
+                location.getCategoryMask() == null ? 0 : location.getCategoryMask()));
+          }
+        }
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          replayEvents = null;
+        }
+        throw e;
+      }
+
+      synchronized (this) {
+        replayEvents.forEach((meetingId, location) ->
+            apply(newMeetings, newCounts, meetingId, location));
+        replayEvents = null;
+
+        int driftCount = countDrift(counts, newCounts);
+        meetings = newMeetings;
+        counts = newCounts;
+        log.info("지역별 모임 수 집계 완료 : 모임 {}건, 지역 {}곳, 보정된 지역 {}곳",
+            newMeetings.size(), newCounts.size(), driftCount);
+      }
+    }
+  }
+
+  public synchronized int size() {
+    return counts.size();
+  }
+
+  // 모임의 이전 지역 집계를 빼고 새 지역 집계를 더함 (location 이 null 이면 제거)
+  private static void apply(
+      Map<Long, MeetingLocation> meetings,
+      Map<Long, LocationCount> counts,
+      Long meetingId,
+      MeetingLocation location
+  ) {
+    MeetingLocation previous = location == null
+        ? meetings.remove(meetingId) : meetings.put(meetingId, location);
+
+    if (previous != null) {
+      LocationCount count = counts.get(previous.locationId);
+      if (count != null) {
+        count.add(previous.categoryMask, -1);
+        if (count.total <= 0) {
+          counts.remove(previous.locationId);
+        }
+      }
+    }
+    if (location != null) {
+      counts.computeIfAbsent(location.locationId, key -> new LocationCount())
+          .add(location.categoryMask, 1);
+    }
+  }
+
+  // 증분 집계와 재집계 결과가 다른 지역 수
+  private static int countDrift(Map<Long, LocationCount> before, Map<Long, LocationCount> after) {
+    int driftCount = 0;
+    for (Map.Entry<Long, LocationCount> entry : after.entrySet()) {
+      if (!entry.getValue().equals(before.get(entry.getKey()))) {
+        driftCount++;
+      }
+    }
+    for (Long locationId : before.keySet()) {
+      if (!after.containsKey(locationId)) {
+        driftCount++;
+      }
+    }
+    return driftCount;
+  }
+
+  @RequiredArgsConstructor
+  private static class MeetingLocation {
+
+    private final long locationId;
+    private final int categoryMask;
+  }
+
+  @EqualsAndHashCode
+  private static class LocationCount {
+
+    private static final LocationCount EMPTY = new LocationCount();
+
+    private int total;
+    private final int[] categoryCounts = new int[CATEGORIES.length];
+
+    private void add(int categoryMask, int delta) {
+      total += delta;
+      for (int i = 0; i < categoryCounts.length; i++) {
+        if ((categoryMask & (1 << i)) != 0) {
+          categoryCounts[i] += delta;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.momo.meeting.service;
+
+import com.momo.meeting.dto.map.MeetingClusterDto;
+import com.momo.meeting.dto.map.MeetingMapResponse;
+import com.momo.meeting.dto.map.MeetingMarkerDto;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.index.GeoCluster;
+import com.momo.meeting.index.MeetingGeoIndex;
+import com.momo.meeting.projection.MeetingMarkerProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MeetingMapService {
+
+  private static final int MARKER_MIN_ZOOM = 15; // 이 줌 레벨 이상이면 개별 마커로 응답
+  private static final int MAX_MARKER_COUNT = 300; // 마커가 이보다 많으면 클러스터로 응답
+  private static final int CLUSTERS_PER_TILE = 4; // 지도 타일(256px) 한 변에 들어가는 클러스터 수
+
+  private final MeetingRepository meetingRepository;
+  private final MeetingGeoIndex meetingGeoIndex;
+
+  /**
+   * 지도 영역 안의 모집 중인 모임을 마커 또는 클러스터로 반환.
+   * 확대된 화면에서는 마커를, 축소된 화면이나 마커가 너무 많은 경우에는 클러스터를 반환한다.
+   */
+  public MeetingMapResponse getMeetingMap(
+      double minLatitude, double maxLatitude,
+      double minLongitude, double maxLongitude,
+      int zoom
+  ) {
+    validateMapArea(minLatitude, maxLatitude, minLongitude, maxLongitude);
+
+    if (zoom >= MARKER_MIN_ZOOM) {
+      List<MeetingMarkerProjection> markers = meetingRepository.findMeetingMarkersInBoundingBox(
+          minLatitude, maxLatitude, minLongitude, maxLongitude,
+          MAX_MARKER_COUNT + 1 // 마커 수 초과 여부를 알기 위해 + 1
+      );
+
+      if (markers.size() <= MAX_MARKER_COUNT) {
+        return MeetingMapResponse.ofMarkers(
+            zoom, MeetingMarkerDto.convertToMeetingMarkerDtos(markers));
+      }
+    }
+
+    List<GeoCluster> clusters = meetingGeoIndex.cluster(
+        minLatitude, maxLatitude, minLongitude, maxLongitude, clusterSize(zoom));
+    return MeetingMapResponse.ofClusters(
+        zoom, MeetingClusterDto.convertToMeetingClusterDtos(clusters));
+  }
+
+  // 줌 레벨에 따른 클러스터 격자 크기(도), 줌 레벨 z 에서 타일 한 변은 360 / 2^z 도
+  private static double clusterSize(int zoom) {
+    return 360.0 / (1L << zoom) / CLUSTERS_PER_TILE;
+  }
+
+  private static void validateMapArea(
+      double minLatitude, double maxLatitude, double minLongitude, double maxLongitude
+  ) {
+    if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+      throw new MeetingException(MeetingErrorCode.INVALID_MAP_AREA);
+    }
+  }
+}
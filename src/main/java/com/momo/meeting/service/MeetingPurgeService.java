@@ -0,0 +1,263 @@
+package com.momo.meeting.service;
+
+import com.momo.chat.repository.ChatReadStatusRepository;
+import com.momo.chat.repository.ChatRepository;
+import com.momo.chat.repository.ChatRoomRepository;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.ExpiredMeetingProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import com.momo.notification.constant.NotificationType;
+import com.momo.notification.service.NotificationService;
+import com.momo.participation.constant.ParticipationStatus;
+import com.momo.participation.projection.ParticipantProjection;
+import com.momo.participation.repository.ParticipationRepository;
+import com.momo.user.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료된 모임과 채팅, 참여신청 데이터를 일정 개수씩 나누어 삭제하는 정리 작업.
+ * 만료된 모임은 먼저 EXPIRED 상태로 바꿔 두고(체크포인트), 묶음마다 짧은 트랜잭션으로 삭제한다.
+ * 중간에 서버가 종료되어도 EXPIRED 상태로 남은 모임부터 다시 이어서 삭제한다.
+ * 삭제는 전용 스레드에서 실행하여, 묶음 사이 대기 시간이 다른 스케줄 작업을 막지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingPurgeService implements MeterBinder {
+
+  private static final String[] PURGE_TABLES =
+      {"chat_read_status", "chat", "chat_room", "participation", "meeting"};
+
+  // 한 트랜잭션에서 처리할 모임 수
+  @Value("${meeting.purge.chunk-size:100}")
+  private int chunkSize = 100;
+
+  // 묶음 사이 대기 시간 (DB 부하 조절)
+  @Value("${meeting.purge.chunk-delay-ms:200}")
+  private long chunkDelayMs = 200;
+
+  private final MeetingRepository meetingRepository;
+  private final ParticipationRepository participationRepository;
+  private final ChatRoomRepository chatRoomRepository;
+  private final ChatReadStatusRepository chatReadStatusRepository;
+  private final ChatRepository chatRepository;
+  private final NotificationService notificationService;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final Map<String, AtomicLong> deletedCounts = createDeletedCounts(); // 테이블 -> 누적 삭제 건수
+  private final AtomicLong chunkCount = new AtomicLong();
+  private final AtomicLong chunkNanos = new AtomicLong();
+  private final AtomicBoolean purgeRequested = new AtomicBoolean();
+  private ExecutorService purgeExecutor;
+
+  @PostConstruct
+  public void start() {
+    purgeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "meeting-purge");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  // 진행 중인 묶음 사이 대기를 중단 (남은 모임은 다음 실행 시 이어서 삭제)
+  @PreDestroy
+  public void stop() {
+    purgeExecutor.shutdownNow();
+  }
+
+  /**
+   * 만료 대상 모임을 EXPIRED 상태로 변경하고 만료 이벤트를 발행 (목록, 검색에서 바로 제외됨)
+   *
+   * @param meetingIds 만료된 모임 ID 목록
+   */
+  public void markExpired(List<Long> meetingIds) {
+    for (int from = 0; from < meetingIds.size(); from += chunkSize) {
+      List<Long> chunk = meetingIds.subList(from, Math.min(from + chunkSize, meetingIds.size()));
+
+      transactionTemplate.execute(status -> {
+        meetingRepository.updateStatusByIds(
+            chunk, MeetingStatus.RECRUITING, MeetingStatus.EXPIRED);
+        chunk.forEach(meetingId -> eventPublisher.publishEvent(MeetingEvent.expired(meetingId)));
+        return null;
+      });
+    }
+  }
+
+  /**
+   * 정리 작업을 전용 스레드에서 실행하도록 요청 (이미 대기 중인 요청이 있으면 합쳐짐)
+   */
+  public void requestPurge() {
+    if (purgeRequested.compareAndSet(false, true)) {
+      purgeExecutor.execute(() -> {
+        // 실행 중에 들어온 요청은 다음 실행으로 이어지도록 시작 전에 해제
+        purgeRequested.set(false);
+        try {
+          purgeExpiredMeetings();
+        } catch (RuntimeException e) {
+          log.error("만료 모임 정리 실패 : 남은 모임은 다음 정리 작업에서 삭제, error = {}", e.getMessage());
+        }
+      });
+    }
+  }
+
+  /**
+   * EXPIRED 상태인 모임이 없어질 때까지 chunkSize 개씩 삭제하고 알림을 발송
+   *
+   * @return 삭제한 모임 수
+   */
+  public synchronized int purgeExpiredMeetings() {
+    int purgedCount = 0;
+
+    while (true) {
+      List<Long> meetingIds = meetingRepository.findIdsByMeetingStatus(
+          MeetingStatus.EXPIRED, PageRequest.of(0, chunkSize));
+      if (meetingIds.isEmpty()) {
+        break;
+      }
+
+      purgeChunk(meetingIds);
+      purgedCount += meetingIds.size();
+
+      if (meetingIds.size() < chunkSize || !throttle()) {
+        break;
+      }
+    }
+
+    if (purgedCount > 0) {
+      log.info("만료 모임 정리 완료 : 모임 {}건, 누적 삭제 {}", purgedCount, deletedCounts);
+    }
+    return purgedCount;
+  }
+
+  private void purgeChunk(List<Long> meetingIds) {
+    long startNanos = System.nanoTime();
+    Map<String, Integer> counts = new LinkedHashMap<>();
+
+    // 삭제 전에 알림 대상을 조회
+    List<ExpiredMeetingProjection> expiredMeetings = meetingRepository.findExpiredMeetingsByIds(
+        meetingIds, MeetingStatus.EXPIRED, LocalDateTime.now());
+    Map<Long, List<User>> participantsByMeetingId = participationRepository
+        .findParticipantsByMeetingIds(meetingIds, ParticipationStatus.APPROVED).stream()
+        .collect(Collectors.groupingBy(ParticipantProjection::getMeetingId,
+            Collectors.mapping(ParticipantProjection::getUser, Collectors.toList())));
+
+    transactionTemplate.execute(status -> {
+      List<Long> chatRoomIds = chatRoomRepository.findIdsByMeetingIds(meetingIds);
+      if (!chatRoomIds.isEmpty()) {
+        counts.put("chat_read_status",
+            chatReadStatusRepository.deleteAllByChatRoomIds(chatRoomIds));
+        counts.put("chat", chatRepository.deleteAllByChatRoomIds(chatRoomIds));
+      }
+      counts.put("chat_room", chatRoomRepository.deleteAllByMeetingIds(meetingIds));
+      counts.put("participation", participationRepository.deleteAllByMeetingIds(meetingIds));
+      counts.put("meeting", meetingRepository.deleteAllByMeetingIds(meetingIds));
+      return null;
+    });
+
+    long elapsedNanos = System.nanoTime() - startNanos;
+    counts.forEach((table, count) -> deletedCounts.get(table).addAndGet(count));
+    chunkCount.incrementAndGet();
+    chunkNanos.addAndGet(elapsedNanos);
+    log.info("만료 모임 삭제 : 모임 {}건, {}ms, {}",
+        meetingIds.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), counts);
+
+    // 커밋 이후 발송 (발송 전에 서버가 종료되면 해당 묶음의 알림은 발송되지 않음)
+    sendNotifications(expiredMeetings, participantsByMeetingId);
+  }
+
+  // 다음 묶음 전에 대기, 인터럽트되면 false
+  private boolean throttle() {
+    try {
+      Thread.sleep(chunkDelayMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("만료 모임 정리 중단 : 남은 모임은 다음 정리 작업에서 삭제");
+      return false;
+    }
+  }
+
+  private void sendNotifications(
+      List<ExpiredMeetingProjection> expiredMeetings,
+      Map<Long, List<User>> participantsByMeetingId
+  ) {
+    for (ExpiredMeetingProjection expiredMeeting : expiredMeetings) {
+      List<User> recipients = new ArrayList<>();
+      recipients.add(expiredMeeting.getAuthor());  // 주최자 추가
+      recipients.addAll(participantsByMeetingId.getOrDefault(
+          expiredMeeting.getMeetingId(), Collections.emptyList()));  // 해당 모임의 참가자들 추가
+
+      sendNotificationToExpiredMeetingParticipants(recipients, expiredMeeting.getTitle());
+    }
+  }
+
+  private void sendNotificationToExpiredMeetingParticipants(List<User> participants, String title) {
+    participants.forEach(user -> {
+      try {
+        notificationService.sendNotification(
+            user,
+            title + NotificationType.MEETING_EXPIRED.getDescription(),
+            NotificationType.MEETING_EXPIRED
+        );
+        log.info("알림 전송 성공 : user = {}, title = {}", user.getId(), title);
+      } catch (Exception e) {
+        log.error("알림 전송 실패 : user = {}, title = {}, error = {}",
+            user.getId(), title, e.getMessage());
+      }
+    });
+  }
+
+  public Map<String, Long> getDeletedCounts() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    deletedCounts.forEach((table, count) -> counts.put(table, count.get()));
+    return Collections.unmodifiableMap(counts);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    deletedCounts.forEach((table, count) ->
+        FunctionCounter.builder("meeting.purge.deleted", count, AtomicLong::get)
+            .tag("table", table)
+            .description("만료 모임 정리 작업의 테이블별 삭제 건수")
+            .register(registry));
+    FunctionTimer.builder("meeting.purge.chunk", this,
+            purgeService -> purgeService.chunkCount.get(),
+            purgeService -> purgeService.chunkNanos.get(), TimeUnit.NANOSECONDS)
+        .description("만료 모임 정리 작업의 묶음별 소요 시간")
+        .register(registry);
+  }
+
+  private static Map<String, AtomicLong> createDeletedCounts() {
+    Map<String, AtomicLong> counts = new LinkedHashMap<>();
+    for (String table : PURGE_TABLES) {
+      counts.put(table, new AtomicLong());
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,51 @@
+package com.momo.meeting.service;
+
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임의 참여 인원(좌석)을 조건부 UPDATE 로 확보, 반납한다.
+ * 승인이 몰려도 낙관적 락 충돌 없이 정원까지는 성공하고, 그 이후는 정원 초과로 실패한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingSeatService {
+
+  private final MeetingRepository meetingRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 좌석 하나를 확보
+   *
+   * @param meeting 참여할 모임
+   * @throws MeetingException 정원이 모두 찬 경우 (ALREADY_MAX_COUNT)
+   */
+  @Transactional
+  public void reserve(Meeting meeting) {
+    if (meetingRepository.reserveSeat(meeting.getId()) == 0) {
+      throw new MeetingException(MeetingErrorCode.ALREADY_MAX_COUNT);
+    }
+    meeting.incrementApprovedCount();
+    eventPublisher.publishEvent(MeetingEvent.approvedCountChanged(meeting));
+  }
+
+  /**
+   * 좌석 하나를 반납 (모임 퇴장, 강제 퇴장)
+   *
+   * @param meeting 퇴장할 모임
+   */
+  @Transactional
+  public void release(Meeting meeting) {
+    if (meetingRepository.releaseSeat(meeting.getId()) > 0) {
+      meeting.decrementApprovedCount();
+      eventPublisher.publishEvent(MeetingEvent.approvedCountChanged(meeting));
+    }
+  }
+}
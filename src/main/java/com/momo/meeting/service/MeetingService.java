@@ -3,15 +3,19 @@ package com.momo.meeting.service;
 import com.momo.chat.entity.ChatRoom;
 import com.momo.chat.exception.ChatErrorCode;
 import com.momo.chat.exception.ChatException;
-import com.momo.chat.repository.ChatReadStatusRepository;
-import com.momo.chat.repository.ChatRepository;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.chat.service.ChatRoomService;
+import com.momo.common.util.ETagUtils;
+import com.momo.common.util.GeoUtils;
+import com.momo.meeting.cache.CategoryAffinityCache;
+import com.momo.meeting.cache.MeetingPostCounter;
+import com.momo.meeting.cache.MeetingViewCounter;
+import com.momo.meeting.constant.DistanceSearchMode;
+import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
 import com.momo.meeting.constant.SearchType;
 import com.momo.meeting.constant.SortType;
-import com.momo.meeting.dto.MeetingCursor;
-import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.constant.TimeWindow;
 import com.momo.meeting.dto.MeetingUpdateRequest;
 import com.momo.meeting.dto.MeetingStatusRequest;
 import com.momo.meeting.dto.createdMeeting.CreatedMeetingsResponse;
@@ -19,35 +23,56 @@ import com.momo.meeting.dto.MeetingCreateRequest;
 import com.momo.meeting.dto.MeetingResponse;
 import com.momo.meeting.dto.MeetingsRequest;
 import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.event.MeetingEvent;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.index.MeetingGeoIndex;
+import com.momo.meeting.index.CategoryAffinity;
+import com.momo.meeting.index.MeetingPopularityIndex;
+import com.momo.meeting.index.MeetingRecommendIndex;
+import com.momo.meeting.index.MeetingSearchCondition;
+import com.momo.meeting.index.MeetingSearchHit;
+import com.momo.meeting.index.MeetingSearchIndex;
+import com.momo.meeting.index.MeetingSuggestIndex;
+import com.momo.meeting.index.MeetingSuggestion;
+import com.momo.meeting.index.NearbyMeeting;
+import com.momo.meeting.index.NearbyMeetingCollector;
+import com.momo.meeting.index.PopularMeeting;
+import com.momo.meeting.index.RecommendedMeeting;
+import com.momo.meeting.index.MeetingTimeIndex;
+import com.momo.meeting.index.TimedMeeting;
 import com.momo.meeting.projection.CreatedMeetingProjection;
+import com.momo.meeting.projection.DistanceAppliedProjection;
 import com.momo.meeting.projection.ExpiredMeetingProjection;
+import com.momo.meeting.projection.MeetingGeoPointProjection;
 import com.momo.meeting.projection.MeetingParticipantProjection;
 import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.projection.MeetingVersionProjection;
+import com.momo.meeting.projection.ViewCountAppliedProjection;
 import com.momo.notification.constant.NotificationType;
 import com.momo.notification.service.NotificationService;
 import com.momo.participation.constant.ParticipationStatus;
 import com.momo.participation.entity.Participation;
 import com.momo.participation.repository.ParticipationRepository;
+import com.momo.image.file.SpooledImageFile;
 import com.momo.image.service.ImageService;
 import com.momo.user.entity.User;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.repository.MeetingRepository;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -55,21 +80,41 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class MeetingService {
 
-  @Autowired
-  private TransactionTemplate transactionTemplate;
+  private static final double NEAREST_INITIAL_RADIUS = 1000; // 가까운 순 조회의 시작 탐색 반경
+  private static final long MAX_TIME_WINDOW_DAYS = 31; // 날짜 구간 조회의 최대 기간
+  private static final LocalDateTime DEFAULT_LAST_DATETIME =
+      LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  // 거리순 조회 방식 (INDEX, BOUNDING_BOX, SPHERE)
+  @Value("${meeting.distance-search-mode:INDEX}")
+  private DistanceSearchMode distanceSearchMode = DistanceSearchMode.INDEX;
+
+  // 썸네일을 모임 저장 이후 백그라운드에서 업로드할지 여부
+  @Value("${meeting.thumbnail.async-upload:false}")
+  private boolean asyncThumbnailUpload = false;
 
   private final MeetingRepository meetingRepository;
   private final ParticipationRepository participationRepository;
   private final ChatRoomRepository chatRoomRepository;
-  private final ChatReadStatusRepository chatReadStatusRepository;
-  private final ChatRepository chatRepository;
 
   private final ChatRoomService chatRoomService;
   private final NotificationService notificationService;
   private final ImageService imageService;
-
-  //@Scheduled(cron = "0/10 * * * * *") // 10초마다 실행(테스트)
-  @Scheduled(cron = "0 */5 * * * *") // 5분마다 실행
+  private final MeetingGeoIndex meetingGeoIndex;
+  private final MeetingSearchIndex meetingSearchIndex;
+  private final MeetingSuggestIndex meetingSuggestIndex;
+  private final MeetingPopularityIndex meetingPopularityIndex;
+  private final MeetingTimeIndex meetingTimeIndex;
+  private final MeetingRecommendIndex meetingRecommendIndex;
+  private final CategoryAffinityCache categoryAffinityCache;
+  private final MeetingPurgeService meetingPurgeService;
+  private final MeetingPostCounter meetingPostCounter;
+  private final MeetingViewCounter meetingViewCounter;
+  private final MeetingThumbnailUploader meetingThumbnailUploader;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 만료 스케줄러가 놓친 모임(서버 재시작, 삭제 실패 등)을 정리하는 보정 작업
+  @Scheduled(cron = "0 0 * * * *") // 1시간마다 실행
   public void deleteExpiredMeetingsAndNotify() {
     log.info("Scheduled : 만료된 모임, 채팅방, 참여신청 모두 삭제 시도");
 
@@ -79,33 +124,95 @@ public class MeetingService {
 
     if (expiredMeetings.isEmpty()) {
       log.info("No expired meetings found");
-      return;
+    } else {
+      meetingPurgeService.markExpired(extractMeetingIds(expiredMeetings));
     }
+    meetingPurgeService.requestPurge(); // 이전에 중단된 정리 작업도 이어서 삭제
+  }
 
-    List<Long> expiredMeetingIds = extractMeetingIds(expiredMeetings); // Meeting ID 목록 추출
-
-    // 승인된 참가자 목록 조회
-    List<User> approvedParticipants = findApprovedParticipants(expiredMeetingIds);
-
-    deleteExpiredMeetingData(expiredMeetingIds); // 데이터 삭제
-    sendNotifications(expiredMeetings, approvedParticipants); // 알림 발송
+  /**
+   * 만료 시각이 된 모임을 만료 처리하고, 관련 데이터 삭제는 정리 작업 스레드에 맡김
+   * 만료 예약 이후 수정, 모집 완료된 모임은 제외하기 위해 모집 상태와 날짜를 다시 확인한다.
+   *
+   * @param meetingIds 만료 시각이 된 모임 ID 목록
+   */
+  public void expireMeetings(List<Long> meetingIds) {
+    List<ExpiredMeetingProjection> expiredMeetings = meetingRepository.findExpiredMeetingsByIds(
+        meetingIds, MeetingStatus.RECRUITING, LocalDateTime.now());
+
+    if (!expiredMeetings.isEmpty()) {
+      meetingPurgeService.markExpired(extractMeetingIds(expiredMeetings));
+      meetingPurgeService.requestPurge();
+    }
   }
 
   public MeetingResponse createMeeting(
       User user, MeetingCreateRequest request, MultipartFile thumbnail
   ) {
-    validateDailyPostLimit(user.getId()); // 하루 포스팅 제한
-    validateMeetingDate(request.getMeetingDateTime()); // 날짜 검증 (1년 이내)
-
-    String thumbnailUrl = imageService.uploadImageProcess(thumbnail); // 썸네일 업로드
-    Meeting meeting = MeetingCreateRequest.toEntity(request, user, thumbnailUrl);
+    validateDailyPostLimit(user.getId()); // 하루 포스팅 제한 (작성 수를 미리 증가)
+
+    Meeting meeting;
+    SpooledImageFile spooledThumbnail = null;
+    try {
+      validateMeetingDate(request.getMeetingDateTime()); // 날짜 검증 (1년 이내)
+
+      if (asyncThumbnailUpload) {
+        // 썸네일은 임시 파일로 복사해 두고 저장 이후 백그라운드에서 업로드
+        spooledThumbnail = imageService.spoolImage(thumbnail);
+        meeting = MeetingCreateRequest.toEntity(request, user, null);
+        if (spooledThumbnail != null) {
+          meeting.markThumbnailPending();
+        }
+      } else {
+        String thumbnailUrl = imageService.uploadImageProcess(thumbnail); // 썸네일 업로드
+        meeting = MeetingCreateRequest.toEntity(request, user, thumbnailUrl);
+      }
 
-    meetingRepository.save(meeting);
+      meetingRepository.save(meeting);
+    } catch (RuntimeException e) {
+      meetingPostCounter.decrement(user.getId()); // 저장되지 않았으므로 작성 수를 되돌림
+      if (spooledThumbnail != null) {
+        spooledThumbnail.delete();
+      }
+      throw e;
+    }
     chatRoomService.createChatRoom(user, meeting.getId()); // 채팅방 생성
+    eventPublisher.publishEvent(MeetingEvent.created(meeting));
 
+    if (spooledThumbnail != null) {
+      meetingThumbnailUploader.submit(
+          meeting.getId(), meeting.getThumbnailUploadToken(), spooledThumbnail);
+    }
     return MeetingResponse.from(meeting);
   }
 
+  @Transactional(readOnly = true)
+  public MeetingResponse getMeeting(Long meetingId) {
+    Meeting meeting = meetingRepository.findById(meetingId)
+        .orElseThrow(() -> new MeetingException(MeetingErrorCode.MEETING_NOT_FOUND));
+    meetingViewCounter.record(meetingId); // 조회수는 주기적으로 모아서 반영
+
+    return MeetingResponse.from(meeting);
+  }
+
+  // 모임 상세 ETag (버전, 참여 인원, 조회수 기준)
+  public String getMeetingETag(Long meetingId) {
+    MeetingVersionProjection version = meetingRepository.findVersionById(meetingId)
+        .orElseThrow(() -> new MeetingException(MeetingErrorCode.MEETING_NOT_FOUND));
+    return ETagUtils.of("meeting", meetingId,
+        version.getVersion(), version.getApprovedCount(), version.getViewCount());
+  }
+
+  // 참여 신청자 목록 ETag (작성자 본인의 모임이 아니면 null, 조회에서 예외 발생)
+  public String getParticipantsETag(Long userId, Long meetingId) {
+    return meetingRepository.findParticipantsVersion(meetingId, userId)
+        .map(version -> ETagUtils.of("participants", meetingId,
+            version.getMeetingVersion(), version.getMeetingStatus(),
+            version.getParticipantCount(), version.getLastParticipationUpdatedAt(),
+            version.getLastUserUpdatedAt(), version.getLastProfileUpdatedAt()))
+        .orElse(null);
+  }
+
   public List<MeetingParticipantProjection> getParticipants(Long userId, Long meetingId) {
     validateForMeetingAuthor(userId, meetingId);
     return participationRepository.findMeetingParticipantsByMeeting_Id(meetingId);
@@ -122,6 +229,7 @@ public class MeetingService {
     String newThumbnailUrl =
         imageService.handleThumbnailUpdate(meeting.getThumbnail(), newThumbnail);
     meeting.update(request, newThumbnailUrl); // 업데이트
+    eventPublisher.publishEvent(MeetingEvent.updated(meeting));
 
     return MeetingResponse.from(meeting);
   }
@@ -134,6 +242,7 @@ public class MeetingService {
     // 해당 모임에 참여신청한 회원들 중 참여신청의 상태가 'PENDING'인 신청은 'CLOSED'로 변경
     participationRepository.findAllByMeeting_IdAndParticipationStatus(
         meetingId, ParticipationStatus.PENDING, ParticipationStatus.CLOSED);
+    eventPublisher.publishEvent(MeetingEvent.closed(meeting));
   }
 
   @Transactional
@@ -148,6 +257,7 @@ public class MeetingService {
     participationRepository.deleteByMeetingId(meetingId); // 참여신청 삭제
     meetingRepository.delete(meeting); // 모임 삭제
     imageService.deleteImage(meeting.getThumbnail()); // 모임 썸네일 삭제
+    eventPublisher.publishEvent(MeetingEvent.deleted(meetingId));
 
     sendMeetingCanceledNotifications(participations, meeting); // 모든 참여신청자에게 알림 발송
   }
@@ -157,6 +267,12 @@ public class MeetingService {
 
     if (request.getSortType() == SortType.DISTANCE) {
       meetingProjections = getNearbyMeetings(request);
+    } else if (request.getSortType() == SortType.NEAREST) {
+      meetingProjections = getNearestMeetings(request);
+    } else if (request.getSortType() == SortType.POPULAR) {
+      meetingProjections = getPopularMeetings(request);
+    } else if (request.getSortType() == SortType.RECOMMENDED) {
+      return getRecommendedMeetings(request, null); // 회원 정보가 없으면 카테고리 친화도 제외
     } else {
       meetingProjections = getMeetingsByDate(request);
     }
@@ -167,9 +283,96 @@ public class MeetingService {
     );
   }
 
-  public CreatedMeetingsResponse getCreatedMeetings(Long userId, Long lastId, int pageSize) {
-    List<CreatedMeetingProjection> createdMeetings =
-        meetingRepository.findAllByUser_IdOrderByCreatedAtAsc(userId, lastId, pageSize + 1);
+  /**
+   * 추천 점수 상위 pageSize 개의 모임을 조회 (점수가 시간에 따라 바뀌므로 다음 페이지는 제공하지 않음)
+   *
+   * @param request 위치, 조회할 개수
+   * @param userId  회원 ID (없으면 카테고리 친화도 제외)
+   * @return 추천순 모임 목록
+   */
+  public MeetingsResponse getRecommendedMeetings(MeetingsRequest request, Long userId) {
+    CategoryAffinity affinity =
+        userId == null ? CategoryAffinity.EMPTY : categoryAffinityCache.get(userId);
+    List<RecommendedMeeting> recommendedMeetings = meetingRecommendIndex.recommend(
+        request.getUserLatitude(),
+        request.getUserLongitude(),
+        request.getRadius(),
+        affinity,
+        LocalDateTime.now(),
+        request.getPageSize()
+    );
+
+    return MeetingsResponse.of(
+        fillRecommendedMeetings(recommendedMeetings),
+        request.getPageSize()
+    );
+  }
+
+  /**
+   * 날짜 구간(오늘, 이번 주, 이번 주말, 직접 지정) 안의 모집 중인 모임을 날짜순으로 조회
+   *
+   * @param request      커서(마지막 모임 날짜, ID), 조회할 개수
+   * @param timeWindow   조회 구간
+   * @param from         CUSTOM 구간의 시작 (없으면 지금)
+   * @param to           CUSTOM 구간의 끝
+   * @param categoryMask 카테고리 비트마스크 (0 이면 모든 카테고리)
+   * @return 날짜순 모임 목록
+   */
+  public MeetingsResponse getMeetingsInWindow(
+      MeetingsRequest request,
+      TimeWindow timeWindow,
+      LocalDateTime from,
+      LocalDateTime to,
+      int categoryMask
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime start = timeWindow.startAt(now, from);
+    LocalDateTime end = timeWindow.endAt(now, to);
+    validateTimeWindow(start, end);
+
+    List<TimedMeeting> timedMeetings = meetingTimeIndex.findInWindow(
+        start,
+        end,
+        categoryMask,
+        request.getCursorMeetingDateTime(),
+        request.getCursorId(),
+        request.getPageSize() + 1 // 다음 페이지 존재 여부를 알기 위해 + 1
+    );
+    if (timedMeetings.isEmpty()) {
+      return MeetingsResponse.of(Collections.emptyList(), request.getPageSize());
+    }
+
+    Map<Long, MeetingToMeetingDtoProjection> meetingMap = findMeetingMap(
+        timedMeetings.stream().map(TimedMeeting::getMeetingId).collect(Collectors.toList()));
+
+    // 인덱스의 (날짜, ID) 순서를 유지
+    List<MeetingToMeetingDtoProjection> meetings = timedMeetings.stream()
+        .map(timedMeeting -> meetingMap.get(timedMeeting.getMeetingId()))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+
+    // 인덱스에 아직 반영되지 않은 마감, 삭제 모임이 빠져 페이지가 짧아지면 같은 조건으로 DB 에서 조회
+    if (meetings.size() < timedMeetings.size()) {
+      meetings = meetingRepository.findInWindowWithCursor(
+          start,
+          end,
+          request.getCursorId(),
+          request.getCursorMeetingDateTime(),
+          FoodCategory.masksContaining(categoryMask),
+          request.getPageSize() + 1
+      );
+    }
+    return MeetingsResponse.of(meetings, request.getPageSize());
+  }
+
+  public CreatedMeetingsResponse getCreatedMeetings(
+      Long userId, Long lastId, LocalDateTime lastMeetingDateTime, int pageSize,
+      boolean includeContent
+  ) {
+    List<CreatedMeetingProjection> createdMeetings = meetingRepository
+        .findAllByUser_IdOrderByCreatedAtAsc(userId, lastId,
+            lastMeetingDateTime == null ? DEFAULT_LAST_DATETIME : lastMeetingDateTime,
+            includeContent, pageSize + 1);
     // 다음 페이지 존재 여부를 알기 위해 + 1
 
     return CreatedMeetingsResponse.of(
@@ -182,48 +385,21 @@ public class MeetingService {
       MeetingsRequest request,
       SearchType searchType,
       String keyword,
-      Set<String> categorySet,
+      int categoryMask,
       int pageSize
   ) {
-    // 기본 모임 목록 조회
-    MeetingsResponse response = getMeetings(request);
-    Stream<MeetingDto> meetingStream = response.getMeetings().stream();
-
-    // 카테고리 필터링 적용
-    if (categorySet != null && !categorySet.isEmpty()) {
-      meetingStream = meetingStream.filter(
-          meeting -> meeting.getCategory().containsAll(categorySet));
-    }
+    // 키워드, 카테고리 필터와 정렬, 커서를 검색 인덱스 안에서 적용
+    List<MeetingSearchHit> searchHits = meetingSearchIndex.search(
+        MeetingSearchCondition.of(request, searchType, keyword, categoryMask));
 
-    // 검색 유형 및 키워드 필터링 적용
-    if (keyword != null && !keyword.isEmpty()) {
-      switch (searchType) {
-        case TITLE:
-          meetingStream = meetingStream.filter(
-              meeting -> meeting.getTitle() != null && meeting.getTitle().contains(keyword));
-          break;
-        case ADDRESS:
-          meetingStream = meetingStream.filter(
-              meeting -> meeting.getAddress() != null && meeting.getAddress().contains(keyword));
-          break;
-        case CONTENT:
-          meetingStream = meetingStream.filter(
-              meeting -> meeting.getContent() != null && meeting.getContent().contains(keyword));
-          break;
-        default:
-          break; // 유효하지 않은 'kind' 무시
-      }
-    }
-
-    List<MeetingDto> filteredMeetings = meetingStream.collect(Collectors.toList());
-    return processFilteredMeetings(filteredMeetings, pageSize);
+    return MeetingsResponse.of(
+        fillSearchHits(searchHits),
+        pageSize
+    );
   }
 
-  private List<User> findApprovedParticipants(List<Long> expiredMeetingIds) {
-    return participationRepository.findParticipantsByMeetingIds(
-        expiredMeetingIds,
-        ParticipationStatus.APPROVED
-    );
+  public List<MeetingSuggestion> getSuggestions(String keyword, int size) {
+    return meetingSuggestIndex.suggest(keyword, size);
   }
 
   private static List<Long> extractMeetingIds(List<ExpiredMeetingProjection> expiredMeetings) {
@@ -232,65 +408,66 @@ public class MeetingService {
         .collect(Collectors.toList());
   }
 
-  private void deleteExpiredMeetingData(List<Long> expiredMeetingIds) {
-    // Scheduled의 쓰레드에서는 Transaction을 실행할 수 없기 때문에 직접 실행
-    transactionTemplate.execute(status -> {
-      chatReadStatusRepository.deleteAllByChatRoomIds(expiredMeetingIds);
-      chatRepository.deleteAllByChatRoomIds(expiredMeetingIds);
-      int deleteChatRoomCount = chatRoomRepository.deleteAllByMeetingIds(expiredMeetingIds);
-      int deleteParticipationCount =
-          participationRepository.deleteAllByMeetingIds(expiredMeetingIds);
-      int deleteMeetingCount = meetingRepository.deleteAllByMeetingIds(expiredMeetingIds);
-
-      log.info("채팅방 삭제: {}, 참여신청 삭제: {}, 모임 삭제: {}",
-          deleteChatRoomCount, deleteParticipationCount, deleteMeetingCount);
-      return null;
-    });
-  }
-
-  private void sendNotifications(
-      List<ExpiredMeetingProjection> expiredMeetings,
-      List<User> participants
-  ) {
-    for (ExpiredMeetingProjection expiredMeeting : expiredMeetings) {
-      List<User> recipients = new ArrayList<>();
-      recipients.add(expiredMeeting.getAuthor());  // 주최자 추가
-      recipients.addAll(participants);  // 참가자들 추가
-
-      sendNotificationToExpiredMeetingParticipants(recipients, expiredMeeting.getTitle());
+  private void validateDailyPostLimit(Long userId) {
+    if (!meetingPostCounter.tryIncrement(userId)) {
+      throw new MeetingException(MeetingErrorCode.DAILY_POSTING_LIMIT_EXCEEDED);
     }
   }
 
-  private void sendNotificationToExpiredMeetingParticipants(List<User> participants, String title) {
-    participants.forEach(user -> {
-      try {
-        notificationService.sendNotification(
-            user,
-            title + NotificationType.MEETING_EXPIRED.getDescription(),
-            NotificationType.MEETING_EXPIRED
+  private List<MeetingToMeetingDtoProjection> getNearbyMeetings(MeetingsRequest request) {
+    switch (distanceSearchMode) {
+      case SPHERE:
+        return meetingRepository.findNearbyMeetingsWithCursor(
+            request.getUserLatitude(),
+            request.getUserLongitude(),
+            request.getRadius(),
+            request.getCursorId(),
+            request.getCursorDistance(),
+            request.getPageSize() + 1 // 다음 페이지 존재 여부를 알기 위해 + 1
         );
-        log.info("알림 전송 성공 : user = {}, title = {}", user.getId(), title);
-      } catch (Exception e) {
-        log.error("알림 전송 실패 : user = {}, title = {}, error = {}",
-            user.getId(), title, e.getMessage());
-      }
-    });
+      case BOUNDING_BOX:
+        return fillMeetingsWithDistance(findNearbyInBoundingBox(request, request.getRadius()));
+      default:
+        return fillMeetingsWithDistance(findNearbyInIndex(request));
+    }
   }
 
-  private void validateDailyPostLimit(Long userId) {
-    LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-    LocalDateTime endOfDay = startOfDay.plusDays(1);
+  // 반경 제한 없이 가까운 순으로 조회 (SPHERE 방식은 지구 전체를 반경으로 거리순 조회)
+  private List<MeetingToMeetingDtoProjection> getNearestMeetings(MeetingsRequest request) {
+    switch (distanceSearchMode) {
+      case SPHERE:
+        return getNearbyMeetings(request);
+      case BOUNDING_BOX:
+        return fillMeetingsWithDistance(findNearestInBoundingBox(request));
+      default:
+        return fillMeetingsWithDistance(meetingGeoIndex.findNearest(
+            request.getUserLatitude(),
+            request.getUserLongitude(),
+            request.getRadius(),
+            request.getCursorId(),
+            request.getCursorDistance(),
+            request.getPageSize() + 1 // 다음 페이지 존재 여부를 알기 위해 + 1
+        ));
+    }
+  }
 
-    int todayPostCount =
-        meetingRepository.countByUser_IdAndCreatedAtBetween(userId, startOfDay, endOfDay);
+  // 커서 거리부터 시작해 페이지를 채우거나 지구 전체를 덮을 때까지 탐색 반경을 두 배씩 넓힘
+  private List<NearbyMeeting> findNearestInBoundingBox(MeetingsRequest request) {
+    double radius = Math.min(
+        request.getRadius(), Math.max(0, request.getCursorDistance()) + NEAREST_INITIAL_RADIUS);
 
-    if (todayPostCount >= 10) {
-      throw new MeetingException(MeetingErrorCode.DAILY_POSTING_LIMIT_EXCEEDED);
+    while (true) {
+      List<NearbyMeeting> nearestMeetings = findNearbyInBoundingBox(request, radius);
+      if (nearestMeetings.size() > request.getPageSize() || radius >= request.getRadius()) {
+        return nearestMeetings;
+      }
+      radius = Math.min(request.getRadius(), radius * 2);
     }
   }
 
-  private List<MeetingToMeetingDtoProjection> getNearbyMeetings(MeetingsRequest request) {
-    return meetingRepository.findNearbyMeetingsWithCursor(
+  // 공간 인덱스에서 페이지에 해당하는 모임 ID 를 조회
+  private List<NearbyMeeting> findNearbyInIndex(MeetingsRequest request) {
+    return meetingGeoIndex.findNearby(
         request.getUserLatitude(),
         request.getUserLongitude(),
         request.getRadius(),
@@ -300,6 +477,127 @@ public class MeetingService {
     );
   }
 
+  // 위경도 범위 조건으로 후보 좌표만 조회한 뒤, 거리 계산과 (거리, ID) 정렬은 애플리케이션에서 처리
+  private List<NearbyMeeting> findNearbyInBoundingBox(MeetingsRequest request, double radius) {
+    double latitude = request.getUserLatitude();
+    double longitude = request.getUserLongitude();
+
+    double latitudeDelta = GeoUtils.latitudeDelta(radius);
+    double longitudeDelta = GeoUtils.longitudeDelta(latitude, radius);
+    double minLatitude = Math.max(-90, latitude - latitudeDelta);
+    double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+    // 날짜 변경선을 넘는 경우 경도 조건을 전체 범위로 확장
+    boolean crossesDateLine =
+        longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180;
+    double minLongitude = crossesDateLine ? -180 : longitude - longitudeDelta;
+    double maxLongitude = crossesDateLine ? 180 : longitude + longitudeDelta;
+
+    List<MeetingGeoPointProjection> candidates = meetingRepository.findGeoPointsInBoundingBox(
+        MeetingStatus.RECRUITING,
+        minLatitude,
+        maxLatitude,
+        minLongitude,
+        maxLongitude
+    );
+
+    NearbyMeetingCollector collector = new NearbyMeetingCollector(
+        latitude,
+        longitude,
+        radius,
+        request.getCursorId(),
+        request.getCursorDistance(),
+        request.getPageSize() + 1 // 다음 페이지 존재 여부를 알기 위해 + 1
+    );
+    for (MeetingGeoPointProjection candidate : candidates) {
+      collector.offer(candidate.getId(), candidate.getLatitude(), candidate.getLongitude());
+    }
+    return collector.toList();
+  }
+
+  private List<MeetingToMeetingDtoProjection> fillMeetingsWithDistance(
+      List<NearbyMeeting> nearbyMeetings
+  ) {
+    if (nearbyMeetings.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, MeetingToMeetingDtoProjection> meetingMap = findMeetingMap(
+        nearbyMeetings.stream().map(NearbyMeeting::getMeetingId).collect(Collectors.toList()));
+
+    // 인덱스의 (거리, ID) 순서를 유지
+    return nearbyMeetings.stream()
+        .filter(nearbyMeeting -> meetingMap.containsKey(nearbyMeeting.getMeetingId()))
+        .map(nearbyMeeting -> new DistanceAppliedProjection(
+            meetingMap.get(nearbyMeeting.getMeetingId()), nearbyMeeting.getDistance()))
+        .collect(Collectors.toList());
+  }
+
+  // 인기순 인덱스에서 커서 이후의 모임 ID 를 꺼내 상세 정보를 채움
+  private List<MeetingToMeetingDtoProjection> getPopularMeetings(MeetingsRequest request) {
+    List<PopularMeeting> popularMeetings = meetingPopularityIndex.findPopular(
+        request.getCursorViewCount(),
+        request.getCursorId(),
+        request.getPageSize() + 1 // 다음 페이지 존재 여부를 알기 위해 + 1
+    );
+    if (popularMeetings.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, MeetingToMeetingDtoProjection> meetingMap = findMeetingMap(
+        popularMeetings.stream().map(PopularMeeting::getMeetingId).collect(Collectors.toList()));
+
+    // 인덱스의 (조회수, ID) 순서와 조회수를 유지
+    return popularMeetings.stream()
+        .filter(popularMeeting -> meetingMap.containsKey(popularMeeting.getMeetingId()))
+        .map(popularMeeting -> new ViewCountAppliedProjection(
+            meetingMap.get(popularMeeting.getMeetingId()), popularMeeting.getViewCount()))
+        .collect(Collectors.toList());
+  }
+
+  private List<MeetingToMeetingDtoProjection> fillRecommendedMeetings(
+      List<RecommendedMeeting> recommendedMeetings
+  ) {
+    if (recommendedMeetings.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, MeetingToMeetingDtoProjection> meetingMap = findMeetingMap(recommendedMeetings
+        .stream().map(RecommendedMeeting::getMeetingId).collect(Collectors.toList()));
+
+    // 추천 점수 순서를 유지 (위치 정보가 없으면 거리 없음)
+    return recommendedMeetings.stream()
+        .filter(recommended -> meetingMap.containsKey(recommended.getMeetingId()))
+        .map(recommended -> recommended.getDistance() == null
+            ? meetingMap.get(recommended.getMeetingId())
+            : new DistanceAppliedProjection(
+                meetingMap.get(recommended.getMeetingId()), recommended.getDistance()))
+        .collect(Collectors.toList());
+  }
+
+  private List<MeetingToMeetingDtoProjection> fillSearchHits(List<MeetingSearchHit> searchHits) {
+    if (searchHits.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, MeetingToMeetingDtoProjection> meetingMap = findMeetingMap(
+        searchHits.stream().map(MeetingSearchHit::getMeetingId).collect(Collectors.toList()));
+
+    // 검색 인덱스의 정렬 순서를 유지 (날짜순이면 거리 없음)
+    return searchHits.stream()
+        .filter(searchHit -> meetingMap.containsKey(searchHit.getMeetingId()))
+        .map(searchHit -> searchHit.getDistance() == null
+            ? meetingMap.get(searchHit.getMeetingId())
+            : new DistanceAppliedProjection(
+                meetingMap.get(searchHit.getMeetingId()), searchHit.getDistance()))
+        .collect(Collectors.toList());
+  }
+
+  private Map<Long, MeetingToMeetingDtoProjection> findMeetingMap(List<Long> meetingIds) {
+    return meetingRepository.findMeetingsByIds(meetingIds).stream()
+        .collect(Collectors.toMap(MeetingToMeetingDtoProjection::getId, Function.identity()));
+  }
+
   private List<MeetingToMeetingDtoProjection> getMeetingsByDate(MeetingsRequest request) {
     return meetingRepository.findOrderByMeetingDateWithCursor(
         request.getCursorId(),
@@ -318,18 +616,10 @@ public class MeetingService {
     return meeting;
   }
 
-  private MeetingsResponse processFilteredMeetings(
-      List<MeetingDto> filteredMeetings, int pageSize
-  ) {
-    boolean hasNext = filteredMeetings.size() > pageSize;
-    filteredMeetings = hasNext ? filteredMeetings.subList(0, pageSize) : filteredMeetings;
-    MeetingCursor nextCursor = hasNext ? MeetingCursor.createCursor(filteredMeetings) : null;
-
-    return MeetingsResponse.builder()
-        .meetings(filteredMeetings)
-        .hasNext(hasNext)
-        .cursor(nextCursor)
-        .build();
+  private static void validateTimeWindow(LocalDateTime start, LocalDateTime end) {
+    if (end == null || !end.isAfter(start) || end.isAfter(start.plusDays(MAX_TIME_WINDOW_DAYS))) {
+      throw new MeetingException(MeetingErrorCode.INVALID_TIME_WINDOW);
+    }
   }
 
   private static void validateMeetingDate(LocalDateTime meetingDateTime) {
@@ -0,0 +1,180 @@
+package com.momo.meeting.service;
+
+import com.momo.image.file.SpooledImageFile;
+import com.momo.image.service.ImageService;
+import com.momo.meeting.constant.ThumbnailStatus;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.repository.MeetingRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 썸네일을 저장 이후 백그라운드에서 업로드하는 파이프라인.
+ * 고정 크기 스레드와 크기가 제한된 대기열을 사용하고, 대기열이 가득 차면 요청 스레드에서 직접 업로드한다.
+ * 실패하면 지수 백오프로 재시도하고, 끝내 실패한 모임은 FAILED 로 표시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingThumbnailUploader implements MeterBinder {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final long RETRY_BASE_DELAY_MS = 1000; // 1초, 2초 간격으로 재시도
+  private static final Duration STALE_UPLOAD_AGE = Duration.ofMinutes(30);
+
+  // 업로드 스레드 수
+  @Value("${meeting.thumbnail.upload-threads:2}")
+  private int uploadThreads = 2;
+
+  // 업로드 대기열 크기 (임시 파일 디스크 사용량의 상한)
+  @Value("${meeting.thumbnail.upload-queue-capacity:50}")
+  private int uploadQueueCapacity = 50;
+
+  private final ImageService imageService;
+  private final MeetingRepository meetingRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final AtomicLong uploadedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private ThreadPoolExecutor uploadExecutor;
+  private ScheduledExecutorService retryScheduler;
+
+  @PostConstruct
+  public void start() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    uploadExecutor = new ThreadPoolExecutor(
+        uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(uploadQueueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "thumbnail-upload-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "thumbnail-upload-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  // 대기 중인 업로드는 버리고 임시 파일은 정리 작업에서 삭제 (모임은 보정 작업에서 FAILED 처리)
+  @PreDestroy
+  public void stop() {
+    retryScheduler.shutdownNow();
+    uploadExecutor.shutdown();
+  }
+
+  /**
+   * 썸네일 업로드를 대기열에 추가
+   *
+   * @param meetingId   썸네일을 반영할 모임 ID (thumbnailStatus 가 PENDING 이어야 함)
+   * @param uploadToken 모임의 thumbnailUploadToken (업로드 중에 썸네일이 바뀌면 반영하지 않음)
+   * @param thumbnail   임시 파일로 복사된 썸네일 (업로드가 끝나면 삭제)
+   */
+  public void submit(Long meetingId, String uploadToken, SpooledImageFile thumbnail) {
+    uploadExecutor.execute(() -> upload(meetingId, uploadToken, thumbnail, 1));
+  }
+
+  public int queueSize() {
+    return uploadExecutor.getQueue().size();
+  }
+
+  void upload(Long meetingId, String uploadToken, SpooledImageFile thumbnail, int attempt) {
+    String thumbnailUrl;
+    try {
+      thumbnailUrl = imageService.uploadImageProcess(thumbnail);
+    } catch (RuntimeException e) {
+      if (attempt < MAX_ATTEMPTS && !retryScheduler.isShutdown()) {
+        long delayMs = RETRY_BASE_DELAY_MS << (attempt - 1);
+        log.warn("썸네일 업로드 실패, {}ms 후 재시도 : meetingId = {}, attempt = {}, error = {}",
+            delayMs, meetingId, attempt, e.getMessage());
+        retryScheduler.schedule(() -> uploadExecutor.execute(
+            () -> upload(meetingId, uploadToken, thumbnail, attempt + 1)),
+            delayMs, TimeUnit.MILLISECONDS);
+        return;
+      }
+
+      log.error("썸네일 업로드 최종 실패 : meetingId = {}, error = {}", meetingId, e.getMessage());
+      thumbnail.delete();
+      complete(meetingId, uploadToken, null, ThumbnailStatus.FAILED);
+      failedCount.incrementAndGet();
+      return;
+    }
+
+    thumbnail.delete();
+    if (complete(meetingId, uploadToken, thumbnailUrl, ThumbnailStatus.READY)) {
+      uploadedCount.incrementAndGet();
+    } else {
+      // 업로드 중에 모임이 삭제되었거나 새 썸네일로 바뀐 경우
+      imageService.deleteImage(thumbnailUrl);
+      log.info("반영되지 않은 썸네일 삭제 : meetingId = {}", meetingId);
+    }
+  }
+
+  // 업로드 결과를 반영하고 수정 이벤트를 발행 (목록 캐시, 인덱스 갱신)
+  private boolean complete(
+      Long meetingId, String uploadToken, String thumbnailUrl, ThumbnailStatus newStatus
+  ) {
+    Boolean updated = transactionTemplate.execute(status -> {
+      int updatedCount = meetingRepository.updateThumbnail(
+          meetingId, uploadToken, thumbnailUrl, ThumbnailStatus.PENDING, newStatus);
+      if (updatedCount == 0) {
+        return false;
+      }
+      meetingRepository.findById(meetingId)
+          .ifPresent(meeting -> eventPublisher.publishEvent(MeetingEvent.updated(meeting)));
+      return true;
+    });
+    return Boolean.TRUE.equals(updated);
+  }
+
+  // 서버 재시작 등으로 끝나지 않은 업로드를 실패 처리하고 남은 임시 파일을 삭제
+  @Scheduled(cron = "0 */10 * * * *") // 10분마다 실행
+  public void cleanUpStaleUploads() {
+    Integer failedMeetings = transactionTemplate.execute(status ->
+        meetingRepository.updateStaleThumbnailStatus(ThumbnailStatus.PENDING,
+            ThumbnailStatus.FAILED, LocalDateTime.now().minus(STALE_UPLOAD_AGE)));
+    int deletedFiles = imageService.deleteStaleSpooledImages(STALE_UPLOAD_AGE);
+
+    if ((failedMeetings != null && failedMeetings > 0) || deletedFiles > 0) {
+      log.info("썸네일 업로드 정리 : 실패 처리 {}건, 임시 파일 삭제 {}건", failedMeetings, deletedFiles);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("meeting.thumbnail.queue", this, MeetingThumbnailUploader::queueSize)
+        .description("업로드를 기다리는 썸네일 수")
+        .register(registry);
+    FunctionCounter.builder("meeting.thumbnail.upload", uploadedCount, AtomicLong::get)
+        .tag("result", "success")
+        .description("백그라운드 썸네일 업로드 결과")
+        .register(registry);
+    FunctionCounter.builder("meeting.thumbnail.upload", failedCount, AtomicLong::get)
+        .tag("result", "failure")
+        .description("백그라운드 썸네일 업로드 결과")
+        .register(registry);
+  }
+}
@@ -1,10 +1,12 @@
 package com.momo.notification.controller;
 
-import com.momo.notification.dto.NotificationResponse;
+import com.momo.common.cursor.CursorCodec;
+import com.momo.common.cursor.CursorType;
+import com.momo.notification.dto.NotificationsResponse;
 import com.momo.notification.service.NotificationService;
 import com.momo.user.dto.CustomUserDetails;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Range;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -21,6 +24,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController {
 
   private final NotificationService notificationService;
+  private final CursorCodec cursorCodec;
 
 
   /**
@@ -35,18 +39,27 @@ public class NotificationController {
   }
 
   /**
-   * 알림 목록 조회
+   * 알림 목록 조회 (최신순)
    *
    * @param customUserDetails 회원 정보
-   * @return 알림 목록
+   * @param pageSize          조회할 개수
+   * @param cursor            이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @return 알림 목록, 다음 페이지 여부, 다음 페이지 조회에 사용될 커서
    */
-  // TODO: 정렬기준 정하고 커서 기반으로 수정
   @GetMapping
-  public ResponseEntity<List<NotificationResponse>> getNotifications(
-      @AuthenticationPrincipal CustomUserDetails customUserDetails
+  public ResponseEntity<NotificationsResponse> getNotifications(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
+      @RequestParam(required = false) String cursor
   ) {
-    List<NotificationResponse> notifications =
-        notificationService.getNotifications(customUserDetails.getId());
+    Long lastId = cursor == null
+        ? null : cursorCodec.decode(CursorType.NOTIFICATION, cursor).getLong(0);
+    NotificationsResponse notifications =
+        notificationService.getNotifications(customUserDetails.getId(), lastId, pageSize);
+    if (notifications.getLastId() != null) {
+      notifications = notifications.withNextCursor(
+          cursorCodec.encode(CursorType.NOTIFICATION, notifications.getLastId()));
+    }
     return ResponseEntity.ok(notifications);
   }
 
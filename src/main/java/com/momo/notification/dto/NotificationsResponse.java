@@ -0,0 +1,38 @@
+package com.momo.notification.dto;
+
+import com.momo.notification.entity.Notification;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class NotificationsResponse {
+
+  private List<NotificationResponse> notifications;
+  private Long lastId;
+  private boolean hasNext;
+  private String nextCursor; // 다음 페이지 조회에 사용될 불투명 커서 (lastId 를 서명한 값)
+
+  public static NotificationsResponse of(List<Notification> notifications, int pageSize) {
+    boolean hasNext = notifications.size() > pageSize;
+
+    List<NotificationResponse> responses = notifications.stream()
+        .limit(pageSize)
+        .map(NotificationResponse::from)
+        .collect(Collectors.toList());
+
+    Long lastId = hasNext ? responses.get(responses.size() - 1).getId() : null;
+
+    return NotificationsResponse.builder()
+        .notifications(responses)
+        .lastId(lastId)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  public NotificationsResponse withNextCursor(String nextCursor) {
+    return toBuilder().nextCursor(nextCursor).build();
+  }
+}
@@ -2,13 +2,16 @@ package com.momo.notification.repository;
 
 import com.momo.notification.entity.Notification;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  List<Notification> findAllByUser_Id(Long userId);
+  // 알림 목록을 최신순으로 반환 (커서 기반, (user_id, id) 인덱스 범위 조회)
+  List<Notification> findByUser_IdAndIdLessThanOrderByIdDesc(
+      Long userId, Long lastId, Pageable pageable);
 
   void deleteByIdAndUser_Id(Long notificationId, Long userId);
 
@@ -2,15 +2,15 @@ package com.momo.notification.service;
 
 import com.momo.notification.sseemitter.SseEmitterManager;
 import com.momo.notification.constant.NotificationType;
-import com.momo.notification.dto.NotificationResponse;
+import com.momo.notification.dto.NotificationsResponse;
 import com.momo.notification.entity.Notification;
 import com.momo.notification.repository.NotificationRepository;
 import com.momo.user.entity.User;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -60,11 +60,13 @@ public class NotificationService {
     tryNotifyNotificationStatus(user.getId(), hasNotifications);
   }
 
-  public List<NotificationResponse> getNotifications(Long userId) {
-    return notificationRepository.findAllByUser_Id(userId)
-        .stream()
-        .map(NotificationResponse::from)
-        .collect(Collectors.toList());
+  public NotificationsResponse getNotifications(Long userId, Long lastId, int pageSize) {
+    List<Notification> notifications =
+        notificationRepository.findByUser_IdAndIdLessThanOrderByIdDesc(
+            userId, lastId == null ? Long.MAX_VALUE : lastId, PageRequest.of(0, pageSize + 1));
+    // 다음 페이지 존재 여부를 알기 위해 + 1
+
+    return NotificationsResponse.of(notifications, pageSize);
   }
 
   @Transactional
@@ -1,5 +1,8 @@
 package com.momo.participation.controller;
 
+import com.momo.common.cursor.CursorCodec;
+import com.momo.common.cursor.CursorType;
+import com.momo.meeting.dto.MeetingFields;
 import com.momo.participation.dto.AppliedMeetingsResponse;
 import com.momo.participation.service.ParticipationService;
 import com.momo.user.dto.CustomUserDetails;
@@ -7,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ParticipationController {
 
   private final ParticipationService participationService;
+  private final CursorCodec cursorCodec;
 
   /**
    * 모임 참여 신청
@@ -47,20 +52,31 @@ public class ParticipationController {
    * 신청한 모임 목록 조회
    *
    * @param customUserDetails 회원 정보
-   * @param lastId            마지막으로 조회된 모임 ID
    * @param pageSize          조회할 개수
+   * @param cursor            이전 페이지 응답의 nextCursor (없으면 첫 페이지)
+   * @param fields            응답에 포함할 모임 필드 (content 가 없으면 DB 에서도 조회하지 않음)
    * @return 조회된 모임, 마지막으로 조회된 모임 ID, 다음 페이지 여부
    */
   @GetMapping
-  public ResponseEntity<AppliedMeetingsResponse> getAppliedMeetings(
+  public ResponseEntity<MappingJacksonValue> getAppliedMeetings(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
-      @RequestParam(defaultValue = "0") Long lastId,
-      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize
+      @RequestParam(defaultValue = "20") @Range(min = 1, max = 100) int pageSize,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String fields
   ) {
-    AppliedMeetingsResponse response =
-        participationService.getAppliedMeetings(customUserDetails.getId(), lastId, pageSize);
+    MeetingFields meetingFields = MeetingFields.parse(fields);
+    Long lastId = 0L;
+    if (cursor != null) {
+      lastId = cursorCodec.decode(CursorType.APPLIED_MEETING, cursor).getLong(0);
+    }
+    AppliedMeetingsResponse response = participationService.getAppliedMeetings(
+        customUserDetails.getId(), lastId, pageSize, meetingFields.includesContent());
+    if (response.getLastId() != null) {
+      response = response.withNextCursor(
+          cursorCodec.encode(CursorType.APPLIED_MEETING, response.getLastId()));
+    }
 
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok(meetingFields.apply(response));
   }
 
   /**
@@ -1,6 +1,8 @@
 package com.momo.participation.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.dto.MeetingFields;
 import com.momo.participation.constant.ParticipationStatus;
 import com.momo.participation.projection.AppliedMeetingProjection;
 import java.time.LocalDateTime;
@@ -11,6 +13,7 @@ import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 
+@JsonFilter(MeetingFields.FILTER_ID) // fields= 로 선택한 필드만 직렬화
 @Getter
 @Builder
 public class AppliedMeetingDto {
@@ -44,7 +47,7 @@ public class AppliedMeetingDto {
   }
 
   public static AppliedMeetingDto from(AppliedMeetingProjection appliedMeeting) {
-    Set<String> foodCategories = FoodCategory.convertToFoodCategories(appliedMeeting.getCategory());
+    Set<String> foodCategories = FoodCategory.toDescriptions(appliedMeeting.getCategoryMask());
 
     return AppliedMeetingDto.builder()
         .participationId(appliedMeeting.getId())
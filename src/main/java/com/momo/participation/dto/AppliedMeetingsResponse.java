@@ -6,11 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class AppliedMeetingsResponse {
 
   private List<AppliedMeetingDto> appliedMeetings;
   private Long lastId;
+  private String nextCursor; // 다음 페이지 조회에 사용될 불투명 커서 (lastId 를 서명한 값)
   private boolean hasNext;
 
 
@@ -34,4 +35,8 @@ public class AppliedMeetingsResponse {
         .hasNext(hasNext)
         .build();
   }
+
+  public AppliedMeetingsResponse withNextCursor(String nextCursor) {
+    return toBuilder().nextCursor(nextCursor).build();
+  }
 }
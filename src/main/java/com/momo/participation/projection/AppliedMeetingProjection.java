@@ -29,7 +29,7 @@ public interface AppliedMeetingProjection {
 
   Integer getApprovedCount();
 
-  String getCategory();
+  Integer getCategoryMask(); // FoodCategory 비트마스크
 
   String getContent();
 
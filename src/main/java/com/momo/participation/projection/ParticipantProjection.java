@@ -0,0 +1,10 @@
+package com.momo.participation.projection;
+
+import com.momo.user.entity.User;
+
+public interface ParticipantProjection {
+
+  Long getMeetingId();
+
+  User getUser();
+}
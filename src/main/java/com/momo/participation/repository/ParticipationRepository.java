@@ -4,7 +4,7 @@ import com.momo.meeting.projection.MeetingParticipantProjection;
 import com.momo.participation.constant.ParticipationStatus;
 import com.momo.participation.entity.Participation;
 import com.momo.participation.projection.AppliedMeetingProjection;
-import com.momo.user.entity.User;
+import com.momo.participation.projection.ParticipantProjection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,7 +18,17 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
 
   boolean existsByUser_IdAndMeeting_Id(Long userId, Long id);
 
-  // 신청한 모임 목록 조회
+  Optional<Participation> findByUser_IdAndMeeting_Id(Long userId, Long meetingId);
+
+  // 회원이 참여 신청한 모임들의 카테고리 조회 (추천순 카테고리 친화도 계산용, 거절된 신청은 제외)
+  @Query("SELECT m.categoryMask FROM Participation p JOIN p.meeting m "
+      + "WHERE p.user.id = :userId AND p.participationStatus <> :excludedStatus")
+  List<Integer> findCategoryMasksByUserId(
+      @Param("userId") Long userId,
+      @Param("excludedStatus") ParticipationStatus excludedStatus
+  );
+
+  // 신청한 모임 목록 조회 (includeContent 가 false 이면 content 를 가져오지 않음)
   @Query(value =
       "SELECT "
           + "p.id as id, "
@@ -33,16 +43,11 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
           + "m.meeting_date_time as meetingDateTime, "
           + "m.max_count as maxCount, "
           + "m.approved_count as approvedCount, "
-          + "categories.categories as category, "
-          + "m.content as content, "
+          + "m.category_mask as categoryMask, "
+          + "CASE WHEN :includeContent = TRUE THEN m.content END as content, "
           + "m.thumbnail as thumbnail "
           + "FROM participation p "
           + "INNER JOIN meeting m ON p.meeting_id = m.id "
-          + "INNER JOIN ("
-          + "    SELECT meeting_id, GROUP_CONCAT(category) as categories "
-          + "    FROM meeting_category "
-          + "    GROUP BY meeting_id"
-          + ") categories ON m.id = categories.meeting_id "
           + "WHERE p.user_id = :userId "
           + "AND p.id > :lastId "
           + "ORDER BY p.id ASC "
@@ -51,6 +56,7 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
   List<AppliedMeetingProjection> findAppliedMeetingsWithLastId(
       @Param("userId") Long userId,
       @Param("lastId") Long lastId,
+      @Param("includeContent") boolean includeContent,
       @Param("pageSize") int pageSize
   );
 
@@ -76,10 +82,11 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
 
   Optional<Participation> findByUser_Id(Long id);
 
-  @Query("SELECT p.user FROM Participation p " +
+  // 모임별 참여자 조회 (만료 알림을 모임마다 해당 참여자에게만 보내기 위해 모임 ID 를 함께 조회)
+  @Query("SELECT p.meeting.id as meetingId, p.user as user FROM Participation p " +
       "WHERE p.meeting.id IN :meetingIds " +
       "  AND p.participationStatus = :participationStatus")
-  List<User> findParticipantsByMeetingIds(
+  List<ParticipantProjection> findParticipantsByMeetingIds(
       @Param("meetingIds") List<Long> meetingIds,
       @Param("participationStatus") ParticipationStatus participationStatus
   );
@@ -96,8 +103,10 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
   void deleteByMeetingId(Long meetingId);
 
 
+  // 일괄 변경은 @LastModifiedDate 가 적용되지 않으므로 수정 시각을 직접 갱신 (참여 신청자 목록 ETag 기준)
   @Modifying
-  @Query("UPDATE Participation p SET p.participationStatus = :newStatus "
+  @Query("UPDATE Participation p "
+      + "SET p.participationStatus = :newStatus, p.updatedAt = CURRENT_TIMESTAMP "
       + "WHERE p.meeting.id = :meetingId AND p.participationStatus  = :currentStatus")
   void findAllByMeeting_IdAndParticipationStatus(
       @Param("meetingId") Long meetingID,
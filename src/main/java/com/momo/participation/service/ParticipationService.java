@@ -5,10 +5,12 @@ import com.momo.chat.exception.ChatErrorCode;
 import com.momo.chat.exception.ChatException;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.chat.service.ChatRoomService;
+import com.momo.meeting.cache.CategoryAffinityCache;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
 import com.momo.meeting.repository.MeetingRepository;
+import com.momo.meeting.service.MeetingSeatService;
 import com.momo.notification.constant.NotificationType;
 import com.momo.notification.service.NotificationService;
 import com.momo.participation.constant.ParticipationStatus;
@@ -33,20 +35,26 @@ public class ParticipationService {
   private final ChatRoomRepository chatRoomRepository;
   private final ChatRoomService chatRoomService;
   private final NotificationService notificationService;
+  private final MeetingSeatService meetingSeatService;
+  private final CategoryAffinityCache categoryAffinityCache;
 
   public void createParticipation(User user, Long meetingId) {
     Meeting meeting = validateForParticipate(user.getId(), meetingId);
 
     Participation participation = Participation.createMeetingParticipant(user, meeting);
     participationRepository.save(participation);
+    // 추천순 정렬에 쓰이는 카테고리 친화도에 반영
+    categoryAffinityCache.record(user.getId(), meeting.getCategoryMask());
 
     // 모임 주최자에게 새로운 참여 알림 발송
     sendNotificationToAuthor(user);
   }
 
-  public AppliedMeetingsResponse getAppliedMeetings(Long userId, Long lastId, int pageSize) {
-    List<AppliedMeetingProjection> appliedMeetingsProjections =
-        participationRepository.findAppliedMeetingsWithLastId(userId, lastId, pageSize + 1);
+  public AppliedMeetingsResponse getAppliedMeetings(
+      Long userId, Long lastId, int pageSize, boolean includeContent
+  ) {
+    List<AppliedMeetingProjection> appliedMeetingsProjections = participationRepository
+        .findAppliedMeetingsWithLastId(userId, lastId, includeContent, pageSize + 1);
     // 다음 페이지 존재 여부를 알기 위해 + 1
 
     return AppliedMeetingsResponse.of(
@@ -66,6 +74,8 @@ public class ParticipationService {
 
   public void rejectParticipation(Long authorId, Long participationId) {
     Participation participation = updateRejectParticipation(authorId, participationId);
+    // 거절된 신청은 카테고리 친화도에서 제외
+    categoryAffinityCache.evict(participation.getUser().getId());
 
     // 참여 신청을 보낸 회원에게 알림 발송
     sendNotificationToAppliedUser(participation, NotificationType.PARTICIPANT_REJECTED);
@@ -74,6 +84,7 @@ public class ParticipationService {
   public void deleteParticipation(Long userId, Long participationId) {
     Participation participation = validateForDeleteParticipation(userId, participationId);
     participationRepository.delete(participation);
+    categoryAffinityCache.evict(userId); // 취소된 신청은 카테고리 친화도에서 제외
   }
 
   @Transactional
@@ -82,10 +93,9 @@ public class ParticipationService {
     Meeting meeting = participation.getMeeting();
 
     validatePossibleParticipant(participation, meeting); // 검증
+    meetingSeatService.reserve(meeting); // 현재 인원 증가 (정원 초과 시 예외)
     participation.updateStatus(ParticipationStatus.APPROVED); // 참여 신청 상태를 APPROVED로 변경
 
-    meeting.incrementApprovedCount(); // 현재 인원 증가
-
     return participation;
   }
 
@@ -1,5 +1,6 @@
 package com.momo.user.controller;
 
+import com.momo.common.util.ETagUtils;
 import com.momo.user.dto.EmailRequest;
 import com.momo.user.dto.OtherUserInfoResponse;
 import com.momo.user.dto.PasswordResetRequest;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -67,10 +69,18 @@ public class UserController {
 
   // 본인 회원정보 조회 (일반 로그인 회원 및 카카오 로그인 회원 모두 처리)
   @GetMapping("/me")
-  public ResponseEntity<UserInfoResponse> getUserInfo() {
+  public ResponseEntity<UserInfoResponse> getUserInfo(WebRequest webRequest) {
     String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    // 회원 정보가 바뀌지 않았으면 본문 없이 304 응답
+    String eTag = userService.getUserInfoETag(email);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE_PRIVATE);
+    }
     UserInfoResponse userInfo = userService.getUserInfoByEmail(email);
-    return ResponseEntity.ok(userInfo);
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE_PRIVATE)
+        .eTag(eTag)
+        .body(userInfo);
   }
 
   @PutMapping("/me")
@@ -83,9 +93,19 @@ public class UserController {
   }
 
   @GetMapping("/{userId}")
-  public ResponseEntity<OtherUserInfoResponse> getOtherUserProfile(@PathVariable Long userId) {
+  public ResponseEntity<OtherUserInfoResponse> getOtherUserProfile(
+      @PathVariable Long userId,
+      WebRequest webRequest
+  ) {
+    String eTag = userService.getOtherUserProfileETag(userId);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ETagUtils.notModified(eTag, ETagUtils.REVALIDATE_PRIVATE);
+    }
     OtherUserInfoResponse userProfile = userService.getOtherUserProfile(userId);
-    return ResponseEntity.ok(userProfile);
+    return ResponseEntity.ok()
+        .cacheControl(ETagUtils.REVALIDATE_PRIVATE)
+        .eTag(eTag)
+        .body(userProfile);
   }
 
 }
@@ -0,0 +1,10 @@
+package com.momo.user.dto;
+
+import java.time.LocalDateTime;
+
+// 회원 정보의 변경 여부 확인용 프로젝션
+public interface UserVersionProjection {
+  Long getUserId();
+  LocalDateTime getUserUpdatedAt();     // 수정한 적 없으면 null
+  LocalDateTime getProfileUpdatedAt();
+}
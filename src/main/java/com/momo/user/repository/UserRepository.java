@@ -2,6 +2,7 @@ package com.momo.user.repository;
 
 import com.momo.user.dto.OtherUserInfoProjection;
 import com.momo.user.dto.UserInfoProjection;
+import com.momo.user.dto.UserVersionProjection;
 import com.momo.user.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -34,5 +35,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
       "WHERE u.id = :userId")
   Optional<OtherUserInfoProjection> findOtherUserProfileById(Long userId);
 
-}
+  // 회원 정보 ETag 용 - 회원과 프로필의 수정 시각만 조회
+  @Query("SELECT u.id as userId, u.updatedAt as userUpdatedAt, p.updatedAt as profileUpdatedAt " +
+      "FROM User u JOIN Profile p ON u.id = p.user.id " +
+      "WHERE u.email = :email")
+  Optional<UserVersionProjection> findVersionByEmail(String email);
 
+  @Query("SELECT u.id as userId, u.updatedAt as userUpdatedAt, p.updatedAt as profileUpdatedAt " +
+      "FROM User u JOIN Profile p ON u.id = p.user.id " +
+      "WHERE u.id = :userId")
+  Optional<UserVersionProjection> findVersionById(Long userId);
+
+}
@@ -9,11 +9,13 @@ import com.momo.chat.repository.ChatReadStatusRepository;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.common.exception.CustomException;
 import com.momo.common.exception.ErrorCode;
+import com.momo.common.util.ETagUtils;
 import com.momo.config.JWTUtil;
 import com.momo.config.token.entity.RefreshToken;
 import com.momo.config.token.repository.RefreshTokenRepository;
 import com.momo.image.service.ImageService;
 import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
 import com.momo.meeting.repository.MeetingRepository;
 import com.momo.notification.repository.NotificationRepository;
 import com.momo.participation.entity.Participation;
@@ -28,6 +30,7 @@ import com.momo.user.dto.OtherUserInfoResponse;
 import com.momo.user.dto.UserInfoProjection;
 import com.momo.user.dto.UserInfoResponse;
 import com.momo.user.dto.UserUpdateRequest;
+import com.momo.user.dto.UserVersionProjection;
 import com.momo.user.entity.User;
 import com.momo.user.repository.UserRepository;
 import java.util.ArrayList;
@@ -40,6 +43,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -63,6 +67,7 @@ public class UserService {
   private final ImageService imageService;
   private final ParticipationRepository participationRepository;
   private final NotificationRepository notificationRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   private final HashMap<String, String> passwordResetTokens = new HashMap<>();
 
@@ -123,6 +128,8 @@ public class UserService {
         // 해당 채팅방 삭제
         chatRoomRepository.delete(chatRoom);
       }
+
+      eventPublisher.publishEvent(MeetingEvent.deleted(meeting.getId()));
     }
 
     // 탈퇴하려는 사용자가 참여자일 경우 (참여자 정보 삭제)
@@ -270,6 +277,13 @@ public class UserService {
   }
 
 
+  // 본인 정보 ETag (회원, 프로필 수정 시각 기준, 회원이 없으면 null)
+  public String getUserInfoETag(String email) {
+    return userRepository.findVersionByEmail(email)
+        .map(UserService::toETag)
+        .orElse(null);
+  }
+
   // 본인 정보 조회
   public UserInfoResponse getUserInfoByEmail(String email) {
     UserInfoProjection projection = userRepository.findUserInfoByEmail(email)
@@ -334,6 +348,13 @@ public class UserService {
     log.debug("User and Profile updated successfully for email: {}", email);
   }
 
+  // 다른 사용자 프로필 ETag (회원이 없으면 null)
+  public String getOtherUserProfileETag(Long userId) {
+    return userRepository.findVersionById(userId)
+        .map(UserService::toETag)
+        .orElse(null);
+  }
+
   // 다른 사용자 프로필 조회
   @Transactional
   public OtherUserInfoResponse getOtherUserProfile(Long userId) {
@@ -350,5 +371,8 @@ public class UserService {
         .build();
   }
 
-
-}
\ No newline at end of file
+  private static String toETag(UserVersionProjection version) {
+    return ETagUtils.of("user", version.getUserId(),
+        version.getUserUpdatedAt(), version.getProfileUpdatedAt());
+  }
+}
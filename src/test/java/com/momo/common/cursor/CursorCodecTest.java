@@ -0,0 +1,82 @@
+package com.momo.common.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.momo.common.exception.CustomException;
+import com.momo.common.exception.ErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+  private final CursorCodec cursorCodec = new CursorCodec("test-secret", "jwt-secret");
+
+  @Test
+  @DisplayName("커서 변환 - 초단위 이하 날짜와 null 키도 그대로 복원")
+  void encodeDecode_Success() {
+    // given
+    LocalDateTime meetingDateTime = LocalDateTime.of(2030, 1, 1, 12, 30, 15, 123_000_000);
+    String cursor = cursorCodec.encode(CursorType.MEETING, 10L, null, meetingDateTime, null);
+
+    // when
+    CursorKeys keys = cursorCodec.decode(CursorType.MEETING, cursor);
+
+    // then
+    assertThat(keys.getLong(0)).isEqualTo(10L);
+    assertThat(keys.getDouble(1)).isNull();
+    assertThat(keys.getDateTime(2)).isEqualTo(meetingDateTime);
+    assertThat(keys.getLong(3)).isNull();
+  }
+
+  @Test
+  @DisplayName("커서 변환 - 값을 고친 커서는 예외 발생")
+  void decode_Tampered() {
+    // given
+    String cursor = cursorCodec.encode(CursorType.NOTIFICATION, 10L);
+    String forged = cursorCodec.encode(CursorType.NOTIFICATION, 99L);
+    String tampered = forged.substring(0, forged.indexOf('.'))
+        + cursor.substring(cursor.indexOf('.'));
+
+    // when
+    // then
+    assertThatThrownBy(() -> cursorCodec.decode(CursorType.NOTIFICATION, tampered))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    assertThatThrownBy(() -> cursorCodec.decode(CursorType.NOTIFICATION, "not-a-cursor"))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+  }
+
+  @Test
+  @DisplayName("커서 변환 - 다른 목록의 커서는 예외 발생")
+  void decode_OtherType() {
+    // given
+    String cursor = cursorCodec.encode(CursorType.CREATED_MEETING, 10L, LocalDateTime.now());
+
+    // when
+    // then
+    assertThatThrownBy(() -> cursorCodec.decode(CursorType.APPLIED_MEETING, cursor))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+  }
+
+  @Test
+  @DisplayName("커서 서명 키 - cursor.secret 이 없으면 JWT 키를 그대로 쓰지 않고 파생한 키 사용")
+  void constructor_WithoutCursorSecret_DerivedKey() {
+    // given
+    CursorCodec derived = new CursorCodec("", "jwt-secret");
+    CursorCodec jwtKey = new CursorCodec("jwt-secret", "jwt-secret");
+    String cursor = derived.encode(CursorType.NOTIFICATION, 10L);
+
+    // when
+    CursorKeys keys = new CursorCodec("", "jwt-secret").decode(CursorType.NOTIFICATION, cursor);
+
+    // then
+    assertThat(keys.getLong(0)).isEqualTo(10L);
+    assertThatThrownBy(() -> jwtKey.decode(CursorType.NOTIFICATION, cursor))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+  }
+}
@@ -0,0 +1,47 @@
+package com.momo.common.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RawCursorParameterInterceptorTest {
+
+  private final RawCursorParameterInterceptor interceptor = new RawCursorParameterInterceptor();
+
+  @Test
+  @DisplayName("개별 커서 파라미터 - 거부하지 않고 Deprecation 헤더를 붙여 첫 페이지로 응답")
+  void preHandle_RawParameter_Deprecated() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/meetings");
+    request.setParameter("lastId", "10");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    boolean proceed = interceptor.preHandle(request, response, null);
+
+    // then
+    assertThat(proceed).isTrue();
+    assertThat(response.getHeader("Deprecation")).isEqualTo("true");
+    assertThat(interceptor.getDeprecatedRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("서명된 커서 - 헤더 없이 그대로 처리")
+  void preHandle_SignedCursor_Passed() {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/meetings");
+    request.setParameter("cursor", "signed-cursor");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    boolean proceed = interceptor.preHandle(request, response, null);
+
+    // then
+    assertThat(proceed).isTrue();
+    assertThat(response.getHeader("Deprecation")).isNull();
+    assertThat(interceptor.getDeprecatedRequestCount()).isZero();
+  }
+}
@@ -0,0 +1,66 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.index.CategoryAffinity;
+import com.momo.participation.constant.ParticipationStatus;
+import com.momo.participation.repository.ParticipationRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryAffinityCacheTest {
+
+  @Mock
+  private ParticipationRepository participationRepository;
+
+  @InjectMocks
+  private CategoryAffinityCache categoryAffinityCache;
+
+  @Test
+  @DisplayName("처음 조회할 때만 집계하고 이후 참여 신청은 증분으로 반영 - 성공")
+  void get_CachedWithRecord_Success() {
+    // given
+    given(participationRepository.findCategoryMasksByUserId(1L, ParticipationStatus.REJECTED))
+        .willReturn(List.of(FoodCategory.KOREAN.getMask()));
+
+    // when
+    categoryAffinityCache.get(1L);
+    categoryAffinityCache.record(1L, FoodCategory.JAPANESE.getMask());
+    CategoryAffinity affinity = categoryAffinityCache.get(1L);
+
+    // then
+    assertThat(affinity.getTotal()).isEqualTo(2);
+    verify(participationRepository, times(1))
+        .findCategoryMasksByUserId(1L, ParticipationStatus.REJECTED);
+  }
+
+  @Test
+  @DisplayName("보관 시간이 지나거나 비워진 회원은 다시 집계 - 성공")
+  void get_ExpiredOrEvicted_Reloaded() {
+    // given
+    given(participationRepository.findCategoryMasksByUserId(1L, ParticipationStatus.REJECTED))
+        .willReturn(List.of(FoodCategory.KOREAN.getMask()));
+    categoryAffinityCache.get(1L);
+
+    // when
+    categoryAffinityCache.evict(1L);
+    ReflectionTestUtils.setField(categoryAffinityCache, "ttlMs", -1L); // 저장 즉시 만료
+    categoryAffinityCache.get(1L);
+    categoryAffinityCache.get(1L);
+
+    // then
+    verify(participationRepository, times(3))
+        .findCategoryMasksByUserId(1L, ParticipationStatus.REJECTED);
+  }
+}
@@ -0,0 +1,171 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.dto.MeetingCursor;
+import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MeetingContinuationCacheTest {
+
+  private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+  private MeetingContinuationCache meetingContinuationCache;
+
+  @BeforeEach
+  void setUp() {
+    meetingContinuationCache = new MeetingContinuationCache();
+  }
+
+  @Test
+  @DisplayName("토큰과 같은 커서의 요청이면 미리 조회한 페이지 반환 - 성공")
+  void get_Hit_Success() {
+    // given
+    MeetingsResponse page = createPage();
+    String token = meetingContinuationCache.put(
+        createDateRequest(1L, 1), page, meetingContinuationCache.currentVersion());
+
+    // when
+    MeetingsResponse response = meetingContinuationCache.get(token, createDateRequest(1L, 1));
+
+    // then
+    assertThat(response).isSameAs(page);
+    assertThat(meetingContinuationCache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("커서가 다른 요청이나 없는 토큰이면 null - 실패")
+  void get_Mismatch_Miss() {
+    // given
+    String token = meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+
+    // when
+    // then
+    assertThat(meetingContinuationCache.get(token, createDateRequest(2L, 2))).isNull();
+    assertThat(meetingContinuationCache.get("unknown", createDateRequest(1L, 1))).isNull();
+    assertThat(meetingContinuationCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("보관 시간이 지나면 null - 실패")
+  void get_Expired_Miss() {
+    // given
+    ReflectionTestUtils.setField(meetingContinuationCache, "ttlMs", -1L);
+    String token = meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+
+    // when
+    // then
+    assertThat(meetingContinuationCache.get(token, createDateRequest(1L, 1))).isNull();
+    assertThat(meetingContinuationCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("남아 있는 페이지는 토큰을 반환하고 보관 시간을 연장 - 성공")
+  void refresh_Alive_Extended() {
+    // given
+    ReflectionTestUtils.setField(meetingContinuationCache, "ttlMs", -1L);
+    String token = meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+    String expiredToken = meetingContinuationCache.refresh(createDateRequest(1L, 1));
+
+    ReflectionTestUtils.setField(meetingContinuationCache, "ttlMs", 60000L);
+    String aliveToken = meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+
+    // when
+    String refreshed = meetingContinuationCache.refresh(createDateRequest(1L, 1));
+
+    // then
+    assertThat(expiredToken).isNull();
+    assertThat(refreshed).isEqualTo(aliveToken).isNotEqualTo(token);
+    assertThat(meetingContinuationCache.get(refreshed, createDateRequest(1L, 1))).isNotNull();
+    assertThat(meetingContinuationCache.refresh(createDateRequest(2L, 2))).isNull();
+  }
+
+  @Test
+  @DisplayName("무효화된 페이지는 토큰을 반환하지 않음 - 성공")
+  void refresh_Invalidated_Null() {
+    // given
+    meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+    meetingContinuationCache.handleMeetingEvent(MeetingEvent.deleted(3L));
+
+    // when
+    // then
+    assertThat(meetingContinuationCache.refresh(createDateRequest(1L, 1))).isNull();
+  }
+
+  @Test
+  @DisplayName("페이지에 포함된 모임이 바뀌면 무효화 - 성공")
+  void handleMeetingEvent_ContainedMeeting_Evicted() {
+    // given
+    meetingContinuationCache.put(
+        createDateRequest(1L, 1), createPage(), meetingContinuationCache.currentVersion());
+
+    // when
+    meetingContinuationCache.handleMeetingEvent(MeetingEvent.deleted(3L));
+
+    // then
+    assertThat(meetingContinuationCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("조회 중에 무효화되면 저장하지 않음 - 성공")
+  void put_InvalidatedDuringLoad_NotStored() {
+    // given
+    long loadVersion = meetingContinuationCache.currentVersion();
+    meetingContinuationCache.handleMeetingEvent(
+        MeetingEvent.approvedCountChanged(createMeeting(9L, 9)));
+
+    // when
+    String token =
+        meetingContinuationCache.put(createDateRequest(1L, 1), createPage(), loadVersion);
+
+    // then
+    assertThat(token).isNull();
+    assertThat(meetingContinuationCache.size()).isZero();
+  }
+
+  // 1번 모임(1일 뒤) 이후의 페이지 요청
+  private static MeetingsRequest createDateRequest(Long lastId, int plusDays) {
+    return MeetingsRequest.createRequest(null, null, null, null, null, 2).toBuilder()
+        .meetingCursor(MeetingCursor.of(lastId, null, BASE_DATE_TIME.plusDays(plusDays)))
+        .build();
+  }
+
+  // 3, 4번 모임이 담긴 페이지 (다음 페이지 있음)
+  private static MeetingsResponse createPage() {
+    return MeetingsResponse.ofPage(
+        List.of(createMeetingDto(3L, 3), createMeetingDto(4L, 4)), true, null);
+  }
+
+  private static MeetingDto createMeetingDto(Long id, int plusDays) {
+    return MeetingDto.builder()
+        .id(id)
+        .meetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .cursorMeetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .build();
+  }
+
+  private static Meeting createMeeting(Long id, int plusDays) {
+    return Meeting.builder()
+        .id(id)
+        .latitude(37.5)
+        .longitude(127.0)
+        .meetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .meetingStatus(MeetingStatus.RECRUITING)
+        .build();
+  }
+}
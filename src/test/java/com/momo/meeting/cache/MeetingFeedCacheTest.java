@@ -0,0 +1,121 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeetingFeedCacheTest {
+
+  private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+  private MeetingFeedCache meetingFeedCache;
+  private AtomicInteger loadCount;
+  private BiFunction<MeetingsRequest, Long, MeetingsResponse> loader;
+
+  @BeforeEach
+  void setUp() {
+    meetingFeedCache = new MeetingFeedCache();
+    loadCount = new AtomicInteger();
+    // 1, 2번 모임이 담긴 첫 페이지 (다음 페이지 있음)
+    loader = (request, loadVersion) -> {
+      loadCount.incrementAndGet();
+      return MeetingsResponse.builder()
+          .meetings(List.of(createMeetingDto(1L, 1), createMeetingDto(2L, 2)))
+          .hasNext(true)
+          .build();
+    };
+  }
+
+  @Test
+  @DisplayName("같은 요청은 캐시된 페이지 반환 - 성공")
+  void get_Hit_Success() {
+    // when
+    MeetingsResponse first = meetingFeedCache.get(createDateRequest(), loader);
+    MeetingsResponse second = meetingFeedCache.get(createDateRequest(), loader);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(meetingFeedCache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("페이지에 포함된 모임의 참여 인원이 바뀌면 무효화 - 성공")
+  void handleMeetingEvent_ContainedMeeting_Evicted() {
+    // given
+    meetingFeedCache.get(createDateRequest(), loader);
+
+    // when
+    meetingFeedCache.handleMeetingEvent(MeetingEvent.approvedCountChanged(createMeeting(2L, 2)));
+
+    // then
+    assertThat(meetingFeedCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("새 모임이 페이지 구간에 들어오는 경우에만 무효화 - 성공")
+  void handleMeetingEvent_CreatedMeeting_EvictedOnlyInRange() {
+    // given
+    meetingFeedCache.get(createDateRequest(), loader);
+
+    // when
+    meetingFeedCache.handleMeetingEvent(MeetingEvent.created(createMeeting(3L, 5)));
+    int sizeAfterOutOfRange = meetingFeedCache.size();
+    meetingFeedCache.handleMeetingEvent(MeetingEvent.created(createMeeting(4L, 1)));
+
+    // then
+    assertThat(sizeAfterOutOfRange).isEqualTo(1);
+    assertThat(meetingFeedCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("페이지에 포함된 모임의 조회수가 반영되면 무효화 - 성공")
+  void handleViewsFlushed_ContainedMeeting_Evicted() {
+    // given
+    meetingFeedCache.get(createDateRequest(), loader);
+
+    // when
+    meetingFeedCache.handleViewsFlushed(new MeetingViewsFlushedEvent(Set.of(5L)));
+    int sizeAfterOtherMeeting = meetingFeedCache.size();
+    meetingFeedCache.handleViewsFlushed(new MeetingViewsFlushedEvent(Set.of(2L)));
+
+    // then
+    assertThat(sizeAfterOtherMeeting).isEqualTo(1);
+    assertThat(meetingFeedCache.size()).isZero();
+  }
+
+  private static MeetingsRequest createDateRequest() {
+    return MeetingsRequest.createRequest(null, null, null, null, null, 2);
+  }
+
+  private static MeetingDto createMeetingDto(Long id, int plusDays) {
+    return MeetingDto.builder()
+        .id(id)
+        .meetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .build();
+  }
+
+  private static Meeting createMeeting(Long id, int plusDays) {
+    return Meeting.builder()
+        .id(id)
+        .latitude(37.5)
+        .longitude(127.0)
+        .meetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .meetingStatus(MeetingStatus.RECRUITING)
+        .build();
+  }
+}
@@ -0,0 +1,102 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingPostCounterTest {
+
+  private static final Long USER_ID = 1L;
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingPostCounter meetingPostCounter;
+
+  @BeforeEach
+  void setUp() {
+    meetingPostCounter = new MeetingPostCounter(meetingRepository);
+  }
+
+  @Test
+  @DisplayName("오늘 작성 수는 처음 한 번만 DB 에서 조회 - 성공")
+  void tryIncrement_SeedOnce() {
+    // given
+    given(meetingRepository.countByUser_IdAndCreatedAtBetween(eq(USER_ID), any(), any()))
+        .willReturn(8);
+
+    // when
+    boolean first = meetingPostCounter.tryIncrement(USER_ID);
+    boolean second = meetingPostCounter.tryIncrement(USER_ID);
+    boolean third = meetingPostCounter.tryIncrement(USER_ID);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+    verify(meetingRepository, times(1))
+        .countByUser_IdAndCreatedAtBetween(eq(USER_ID), any(), any());
+  }
+
+  @Test
+  @DisplayName("저장 실패로 되돌린 작성 수는 다시 사용 가능 - 성공")
+  void decrement_Success() {
+    // given
+    given(meetingRepository.countByUser_IdAndCreatedAtBetween(eq(USER_ID), any(), any()))
+        .willReturn(MeetingPostCounter.DAILY_POST_LIMIT - 1);
+    meetingPostCounter.tryIncrement(USER_ID);
+
+    // when
+    meetingPostCounter.decrement(USER_ID);
+
+    // then
+    assertThat(meetingPostCounter.tryIncrement(USER_ID)).isTrue();
+    assertThat(meetingPostCounter.tryIncrement(USER_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("동시에 작성해도 하루 제한을 넘지 않음 - 성공")
+  void tryIncrement_Concurrent() throws Exception {
+    // given
+    given(meetingRepository.countByUser_IdAndCreatedAtBetween(eq(USER_ID), any(), any()))
+        .willReturn(0);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Callable<Boolean>> tasks = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      tasks.add(() -> meetingPostCounter.tryIncrement(USER_ID));
+    }
+
+    // when
+    int acceptedCount = 0;
+    try {
+      for (Future<Boolean> future : executor.invokeAll(tasks)) {
+        if (future.get()) {
+          acceptedCount++;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(acceptedCount).isEqualTo(MeetingPostCounter.DAILY_POST_LIMIT);
+  }
+}
@@ -0,0 +1,108 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeetingQueryCoalescerTest {
+
+  private final MeetingQueryCoalescer meetingQueryCoalescer = new MeetingQueryCoalescer();
+
+  @Test
+  @DisplayName("실행 중인 같은 조회에 병합 - 성공")
+  void execute_Coalesced_Success() throws Exception {
+    // given
+    MeetingQueryKey key = MeetingQueryKey.of(createRequest());
+    MeetingsResponse expected = MeetingsResponse.builder().meetings(List.of()).build();
+    AtomicInteger queryCount = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    // when
+    CompletableFuture<MeetingsResponse> first = CompletableFuture.supplyAsync(
+        () -> meetingQueryCoalescer.execute(key, () -> {
+          queryCount.incrementAndGet();
+          started.countDown();
+          await(release);
+          return expected;
+        }), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<MeetingsResponse> second = CompletableFuture.supplyAsync(
+        () -> meetingQueryCoalescer.execute(MeetingQueryKey.of(createRequest()), () -> {
+          queryCount.incrementAndGet();
+          return MeetingsResponse.builder().build();
+        }), executor);
+    while (meetingQueryCoalescer.getCoalescedCount() == 0) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    // then
+    assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+    assertThat(queryCount.get()).isEqualTo(1);
+    assertThat(meetingQueryCoalescer.getRequestCount()).isEqualTo(2);
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("조회가 끝난 뒤의 같은 요청은 다시 실행 - 성공")
+  void execute_AfterCompletion_ExecutedAgain() {
+    // given
+    MeetingQueryKey key = MeetingQueryKey.of(createRequest());
+    AtomicInteger queryCount = new AtomicInteger();
+
+    // when
+    meetingQueryCoalescer.execute(key, () -> {
+      queryCount.incrementAndGet();
+      return MeetingsResponse.builder().build();
+    });
+    meetingQueryCoalescer.execute(key, () -> {
+      queryCount.incrementAndGet();
+      return MeetingsResponse.builder().build();
+    });
+
+    // then
+    assertThat(queryCount.get()).isEqualTo(2);
+    assertThat(meetingQueryCoalescer.getCoalescedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("조회 예외는 호출자에게 그대로 전달 - 실패")
+  void execute_Exception_Propagated() {
+    // given
+    MeetingQueryKey key = MeetingQueryKey.of(createRequest());
+
+    // when & then
+    assertThatThrownBy(() -> meetingQueryCoalescer.execute(key, () -> {
+      throw new MeetingException(MeetingErrorCode.MEETING_NOT_FOUND);
+    })).isInstanceOf(MeetingException.class);
+  }
+
+  private static MeetingsRequest createRequest() {
+    return MeetingsRequest.createRequest(37.5, 127.0, null, null, null, 20);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.momo.meeting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.event.MeetingViewsFlushedEvent;
+import com.momo.meeting.index.MeetingPopularityIndex;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingViewCounterTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private MeetingPopularityIndex meetingPopularityIndex;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private MeetingViewCounter meetingViewCounter;
+
+  @Test
+  @DisplayName("조회수 반영 - 증가량이 같은 모임끼리 한 번에 갱신")
+  void flush_GroupByDelta_Success() {
+    // given
+    given(transactionTemplate.execute(any())).willAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    meetingViewCounter.record(1L);
+    meetingViewCounter.record(2L);
+    meetingViewCounter.record(3L);
+    meetingViewCounter.record(3L);
+
+    // when
+    meetingViewCounter.flush();
+
+    // then
+    verify(meetingRepository).incrementViewCounts(
+        argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1L));
+    verify(meetingRepository).incrementViewCounts(List.of(3L), 2L);
+    verify(meetingPopularityIndex).increment(3L, 2L);
+    ArgumentCaptor<MeetingViewsFlushedEvent> eventCaptor =
+        ArgumentCaptor.forClass(MeetingViewsFlushedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getValue().getMeetingIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    assertThat(meetingViewCounter.pendingSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("조회수 반영 실패 - 다음 반영 주기까지 조회수 유지")
+  void flush_Failure_KeepPendingViews() {
+    // given
+    given(transactionTemplate.execute(any())).willThrow(new IllegalStateException("DB 오류"));
+    meetingViewCounter.record(1L);
+    meetingViewCounter.record(1L);
+
+    // when
+    meetingViewCounter.flush();
+
+    // then
+    assertThat(meetingViewCounter.pendingSize()).isEqualTo(1);
+    verify(meetingPopularityIndex, never()).increment(any(), anyLong());
+    verify(eventPublisher, never()).publishEvent(any(MeetingViewsFlushedEvent.class));
+  }
+
+  @Test
+  @DisplayName("반영할 조회수가 없는 경우")
+  void flush_NoPendingViews() {
+    // when
+    meetingViewCounter.flush();
+
+    // then
+    verify(meetingRepository, never()).incrementViewCounts(anyList(), anyLong());
+  }
+
+  @Test
+  @DisplayName("조회수 반영 - 같은 모임의 동시 조회를 유실 없이 합산")
+  void flush_ConcurrentViews_Success() throws InterruptedException {
+    // given
+    given(transactionTemplate.execute(any())).willAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 1000; i++) {
+      executor.execute(() -> meetingViewCounter.record(1L));
+    }
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+
+    // when
+    meetingViewCounter.flush();
+
+    // then
+    verify(meetingRepository).incrementViewCounts(List.of(1L), 1000L);
+    assertThat(meetingViewCounter.pendingSize()).isZero();
+  }
+}
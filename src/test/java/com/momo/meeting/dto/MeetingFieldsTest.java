@@ -0,0 +1,88 @@
+package com.momo.meeting.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+class MeetingFieldsTest {
+
+  // JacksonConfig 와 같은 기본 필터
+  private final ObjectMapper objectMapper = new ObjectMapper().setFilterProvider(
+      new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+
+  @Test
+  @DisplayName("선택한 필드와 ID 만 직렬화 - 성공")
+  void apply_SelectedFields() throws Exception {
+    // given
+    MeetingFields meetingFields = MeetingFields.parse("title, thumbnail");
+
+    // when
+    String json = write(meetingFields.apply(createResponse()));
+
+    // then
+    assertThat(json).contains("\"id\":1", "\"title\":\"제목\"", "\"thumbnail\":\"t.png\"",
+        "\"hasNext\":false");
+    assertThat(json).doesNotContain("content", "address");
+    assertThat(meetingFields.includesContent()).isFalse();
+  }
+
+  @Test
+  @DisplayName("fields 가 없으면 모든 필드 직렬화 - 성공")
+  void apply_AllFields() throws Exception {
+    // given
+    MeetingFields meetingFields = MeetingFields.parse(null);
+
+    // when
+    String json = write(meetingFields.apply(createResponse()));
+
+    // then
+    assertThat(json).contains("\"content\":\"내용\"", "\"address\":\"주소\"");
+    assertThat(meetingFields.includesContent()).isTrue();
+  }
+
+  @Test
+  @DisplayName("미리 정의된 조합과 같은 필드 목록은 같은 필터를 재사용")
+  void parse_Compiled() {
+    // when
+    // then
+    assertThat(MeetingFields.parse("card")).isSameAs(MeetingFields.parse("card"));
+    assertThat(MeetingFields.parse("title,distance"))
+        .isSameAs(MeetingFields.parse("title,distance"));
+  }
+
+  @Test
+  @DisplayName("없는 필드를 요청하면 예외 발생")
+  void parse_InvalidField() {
+    // when
+    // then
+    assertThatThrownBy(() -> MeetingFields.parse("title,password"))
+        .isInstanceOf(MeetingException.class)
+        .hasFieldOrPropertyWithValue("meetingErrorCode", MeetingErrorCode.INVALID_FIELDS);
+  }
+
+  private String write(MappingJacksonValue value) throws Exception {
+    return value.getFilters() == null
+        ? objectMapper.writeValueAsString(value.getValue())
+        : objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue());
+  }
+
+  private static MeetingsResponse createResponse() {
+    MeetingDto meetingDto = MeetingDto.builder()
+        .id(1L)
+        .title("제목")
+        .thumbnail("t.png")
+        .content("내용")
+        .address("주소")
+        .build();
+    return MeetingsResponse.ofPage(List.of(meetingDto), false, null);
+  }
+}
@@ -0,0 +1,144 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.momo.common.util.GeoUtils;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingGeoIndexTest {
+
+  private static final double USER_LATITUDE = 37.502942;
+  private static final double USER_LONGITUDE = 126.947629;
+  private static final double RADIUS = 3000;
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingGeoIndex meetingGeoIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingGeoIndex = new MeetingGeoIndex(meetingRepository);
+    meetingGeoIndex.put(1L, 37.503942, 126.947629); // 약 111m
+    meetingGeoIndex.put(2L, 37.512942, 126.947629); // 약 1.1km
+    meetingGeoIndex.put(3L, 37.502942, 126.967629); // 약 1.8km
+    meetingGeoIndex.put(4L, 37.552942, 126.947629); // 약 5.6km (반경 밖)
+  }
+
+  @Test
+  @DisplayName("반경 내 모임을 거리순으로 조회 - 성공")
+  void findNearby_Success() {
+    // when
+    List<NearbyMeeting> result = meetingGeoIndex.findNearby(
+        USER_LATITUDE, USER_LONGITUDE, RADIUS, 0L, Double.MIN_VALUE, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 모임만 조회 - 성공")
+  void findNearby_WithCursor_Success() {
+    // given
+    List<NearbyMeeting> firstPage = meetingGeoIndex.findNearby(
+        USER_LATITUDE, USER_LONGITUDE, RADIUS, 0L, Double.MIN_VALUE, 2);
+    NearbyMeeting last = firstPage.get(firstPage.size() - 1);
+
+    // when
+    List<NearbyMeeting> nextPage = meetingGeoIndex.findNearby(
+        USER_LATITUDE, USER_LONGITUDE, RADIUS, last.getMeetingId(), last.getDistance(), 2);
+
+    // then
+    assertThat(extractIds(firstPage)).containsExactly(1L, 2L);
+    assertThat(extractIds(nextPage)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("제거된 모임과 이동한 모임 반영 - 성공")
+  void removeAndMove_Success() {
+    // when
+    meetingGeoIndex.remove(1L);
+    meetingGeoIndex.put(4L, 37.502942, 126.948629); // 약 88m 로 이동
+
+    // then
+    List<NearbyMeeting> result = meetingGeoIndex.findNearby(
+        USER_LATITUDE, USER_LONGITUDE, RADIUS, 0L, Double.MIN_VALUE, 10);
+    assertThat(extractIds(result)).containsExactly(4L, 2L, 3L);
+    assertThat(meetingGeoIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("반경 제한 없이 가까운 순으로 조회 - 성공")
+  void findNearest_Success() {
+    // given
+    meetingGeoIndex.put(5L, 38.502942, 126.947629); // 약 111km
+    meetingGeoIndex.put(6L, 35.179554, 129.075642); // 약 325km (부산)
+
+    // when
+    List<NearbyMeeting> firstPage = meetingGeoIndex.findNearest(
+        USER_LATITUDE, USER_LONGITUDE, GeoUtils.MAX_DISTANCE_METER, 0L, Double.MIN_VALUE, 3);
+    NearbyMeeting last = firstPage.get(firstPage.size() - 1);
+    List<NearbyMeeting> nextPage = meetingGeoIndex.findNearest(USER_LATITUDE, USER_LONGITUDE,
+        GeoUtils.MAX_DISTANCE_METER, last.getMeetingId(), last.getDistance(), 3);
+
+    // then
+    assertThat(extractIds(firstPage)).containsExactly(1L, 2L, 3L);
+    assertThat(extractIds(nextPage)).containsExactly(4L, 5L, 6L);
+  }
+
+  @Test
+  @DisplayName("지도 영역의 모임을 클러스터로 묶음 - 영역 밖 모임 제외")
+  void cluster_SmallClusterSize_Success() {
+    // when
+    List<GeoCluster> result = meetingGeoIndex.cluster(37.50, 37.52, 126.94, 126.97, 0.001);
+
+    // then
+    assertThat(result).hasSize(3);
+    assertThat(result).allMatch(cluster -> cluster.getCount() == 1);
+  }
+
+  @Test
+  @DisplayName("셀보다 큰 클러스터는 셀 합계를 더함 - 성공")
+  void cluster_LargeClusterSize_Success() {
+    // when
+    List<GeoCluster> result = meetingGeoIndex.cluster(37.0, 38.0, 126.0, 128.0, 1.0);
+
+    // then
+    assertThat(result).hasSize(1);
+    GeoCluster cluster = result.get(0);
+    assertThat(cluster.getCount()).isEqualTo(4);
+    assertThat(cluster.getLatitude())
+        .isCloseTo((37.503942 + 37.512942 + 37.502942 + 37.552942) / 4, within(1e-9));
+    assertThat(cluster.getLongitude())
+        .isCloseTo((126.947629 * 3 + 126.967629) / 4, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("영역 경계에 걸친 셀은 모임마다 영역 포함 여부 확인 - 성공")
+  void cluster_BoundaryCell_Success() {
+    // when
+    List<GeoCluster> wide = meetingGeoIndex.cluster(37.0, 37.53, 126.0, 128.0, 1.0);
+    List<GeoCluster> singleCell =
+        meetingGeoIndex.cluster(37.5031, 37.5049, 126.9471, 126.9479, 0.001);
+
+    // then
+    assertThat(wide).extracting(GeoCluster::getCount).containsExactly(3);
+    assertThat(singleCell).extracting(GeoCluster::getCount).containsExactly(1);
+  }
+
+  private static List<Long> extractIds(List<NearbyMeeting> nearbyMeetings) {
+    return nearbyMeetings.stream()
+        .map(NearbyMeeting::getMeetingId)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,82 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingPopularityIndexTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingPopularityIndex meetingPopularityIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingPopularityIndex = new MeetingPopularityIndex(meetingRepository);
+    meetingPopularityIndex.put(1L, 10L);
+    meetingPopularityIndex.put(2L, 30L);
+    meetingPopularityIndex.put(3L, 10L);
+    meetingPopularityIndex.put(4L, 20L);
+  }
+
+  @Test
+  @DisplayName("조회수 내림차순, 같으면 ID 오름차순으로 조회 - 성공")
+  void findPopular_Success() {
+    // when
+    List<PopularMeeting> result = meetingPopularityIndex.findPopular(Long.MAX_VALUE, 0L, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 4L, 1L, 3L);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 모임만 조회 - 성공")
+  void findPopular_Cursor_Success() {
+    // when
+    List<PopularMeeting> result = meetingPopularityIndex.findPopular(10L, 1L, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("조회수 증가분을 반영하면 순서가 바뀜 - 성공")
+  void increment_Reorder_Success() {
+    // when
+    meetingPopularityIndex.increment(3L, 25L);
+    meetingPopularityIndex.increment(99L, 100L); // 인덱스에 없는 모임은 무시
+
+    // then
+    List<PopularMeeting> result = meetingPopularityIndex.findPopular(Long.MAX_VALUE, 0L, 2);
+    assertThat(extractIds(result)).containsExactly(3L, 2L);
+    assertThat(result.get(0).getViewCount()).isEqualTo(35L);
+    assertThat(meetingPopularityIndex.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("삭제된 모임은 조회되지 않음 - 성공")
+  void remove_Success() {
+    // when
+    meetingPopularityIndex.remove(2L);
+
+    // then
+    List<PopularMeeting> result = meetingPopularityIndex.findPopular(Long.MAX_VALUE, 0L, 10);
+    assertThat(extractIds(result)).containsExactly(4L, 1L, 3L);
+  }
+
+  private static List<Long> extractIds(List<PopularMeeting> popularMeetings) {
+    return popularMeetings.stream()
+        .map(PopularMeeting::getMeetingId)
+        .collect(Collectors.toList());
+  }
+}
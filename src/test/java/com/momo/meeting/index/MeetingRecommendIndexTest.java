@@ -0,0 +1,132 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingRecommendIndexTest {
+
+  private static final double LATITUDE = 37.5;
+  private static final double LONGITUDE = 127.0;
+  private static final double RADIUS = 3000;
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingGeoIndex meetingGeoIndex;
+  private MeetingRecommendIndex meetingRecommendIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingGeoIndex = new MeetingGeoIndex(meetingRepository);
+    meetingRecommendIndex = new MeetingRecommendIndex(meetingRepository, meetingGeoIndex);
+  }
+
+  @Test
+  @DisplayName("가깝고 날짜가 임박한 모임이 먼저 추천 - 성공")
+  void recommend_DistanceAndTime_Success() {
+    // given
+    put(1L, 0.02, 48, 1, FoodCategory.KOREAN); // 약 2.2km, 이틀 뒤
+    put(2L, 0.001, 2, 1, FoodCategory.KOREAN); // 약 110m, 2시간 뒤
+    put(3L, 0.01, 24, 1, FoodCategory.KOREAN); // 약 1.1km, 하루 뒤
+
+    // when
+    List<RecommendedMeeting> result = recommend(CategoryAffinity.EMPTY, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 3L, 1L);
+    assertThat(result.get(0).getDistance()).isLessThan(200);
+  }
+
+  @Test
+  @DisplayName("참여 이력의 카테고리와 같은 모임이 먼저 추천 - 성공")
+  void recommend_Affinity_Success() {
+    // given
+    put(1L, 0.005, 24, 1, FoodCategory.KOREAN);
+    put(2L, 0.005, 24, 1, FoodCategory.JAPANESE);
+    CategoryAffinity affinity = CategoryAffinity.of(List.of(
+        FoodCategory.JAPANESE.getMask(), FoodCategory.JAPANESE.getMask()));
+
+    // when
+    List<RecommendedMeeting> result = recommend(affinity, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("상위 k 개만 반환하고 반경 밖, 지난, 정원이 찬 모임은 제외 - 성공")
+  void recommend_TopK_Success() {
+    // given
+    put(1L, 0.001, 2, 1, FoodCategory.KOREAN);
+    put(2L, 0.002, 3, 1, FoodCategory.KOREAN);
+    put(3L, 0.003, 4, 1, FoodCategory.KOREAN);
+    put(4L, 0.1, 2, 1, FoodCategory.KOREAN); // 약 11km, 반경 밖
+    put(5L, 0.001, -1, 1, FoodCategory.KOREAN); // 지난 모임
+    put(6L, 0.001, 2, 6, FoodCategory.KOREAN); // 정원이 찬 모임
+
+    // when
+    List<RecommendedMeeting> result = recommend(CategoryAffinity.EMPTY, 2);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(1L, 2L);
+  }
+
+  private void put(
+      long meetingId, double latitudeOffset, int hoursLater, int approvedCount,
+      FoodCategory category
+  ) {
+    Meeting meeting = Meeting.builder()
+        .id(meetingId)
+        .latitude(LATITUDE + latitudeOffset)
+        .longitude(LONGITUDE)
+        .meetingDateTime(NOW.plusHours(hoursLater))
+        .maxCount(6)
+        .approvedCount(approvedCount)
+        .categoryMask(category.getMask())
+        .meetingStatus(MeetingStatus.RECRUITING)
+        .build();
+    meetingGeoIndex.put(meeting.getId(), meeting.getLatitude(), meeting.getLongitude());
+    meetingRecommendIndex.put(MeetingRecommendIndex.Candidate.from(meeting));
+  }
+
+  @Test
+  @DisplayName("위치가 없으면 반경과 관계없이 모든 모임이 후보 - 성공")
+  void recommend_WithoutLocation_Success() {
+    // given
+    put(1L, 0.001, 2, 1, FoodCategory.KOREAN);
+    put(2L, 0.1, 2, 1, FoodCategory.KOREAN); // 약 11km
+
+    // when
+    List<RecommendedMeeting> result =
+        meetingRecommendIndex.recommend(null, null, RADIUS, CategoryAffinity.EMPTY, NOW, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result).allMatch(meeting -> meeting.getDistance() == null);
+  }
+
+  private List<RecommendedMeeting> recommend(CategoryAffinity affinity, int k) {
+    return meetingRecommendIndex.recommend(LATITUDE, LONGITUDE, RADIUS, affinity, NOW, k);
+  }
+
+  private static List<Long> extractIds(List<RecommendedMeeting> recommendedMeetings) {
+    return recommendedMeetings.stream()
+        .map(RecommendedMeeting::getMeetingId)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,161 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSearchIndexTest {
+
+  private static final double USER_LATITUDE = 37.502942;
+  private static final double USER_LONGITUDE = 126.947629;
+  private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingSearchIndex meetingSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingSearchIndex = new MeetingSearchIndex(meetingRepository);
+    meetingSearchIndex.put(
+        createDocument(1L, "강남 초밥 같이 먹어요", mask(FoodCategory.JAPANESE), 37.503942, 3));
+    meetingSearchIndex.put(
+        createDocument(2L, "신림 순대국 모임", mask(FoodCategory.KOREAN), 37.512942, 1));
+    meetingSearchIndex.put(createDocument(
+        3L, "초밥 뷔페 투어", mask(FoodCategory.JAPANESE, FoodCategory.WESTERN), 37.522942, 2));
+    meetingSearchIndex.put(
+        createDocument(4L, "밥 친구 구해요", mask(FoodCategory.KOREAN), 37.552942, 4));
+  }
+
+  @Test
+  @DisplayName("키워드 검색 - 인접하지 않은 bigram 은 제외")
+  void search_Keyword_Success() {
+    // when
+    List<MeetingSearchHit> result = meetingSearchIndex.search(
+        createDateCondition(SearchType.TITLE, "초밥", 0, 0L, BASE_DATE_TIME.minusDays(1), 10));
+
+    // then
+    assertThat(extractIds(result)).containsExactly(3L, 1L);
+  }
+
+  @Test
+  @DisplayName("한 글자 키워드와 카테고리 필터 - 성공")
+  void search_ShortKeywordWithCategory_Success() {
+    // when
+    List<MeetingSearchHit> result = meetingSearchIndex.search(createDateCondition(
+        null, "밥", mask(FoodCategory.KOREAN), 0L, BASE_DATE_TIME.minusDays(1), 10));
+
+    // then
+    assertThat(extractIds(result)).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("날짜순 커서 이후 페이지 조회 - 성공")
+  void search_DateCursor_Success() {
+    // given
+    List<MeetingSearchHit> firstPage = meetingSearchIndex.search(
+        createDateCondition(null, null, 0, 0L, BASE_DATE_TIME.minusDays(1), 2));
+    MeetingSearchHit last = firstPage.get(firstPage.size() - 1);
+
+    // when
+    List<MeetingSearchHit> nextPage = meetingSearchIndex.search(createDateCondition(
+        null, null, 0, last.getMeetingId(), last.getMeetingDateTime(), 2));
+
+    // then
+    assertThat(extractIds(firstPage)).containsExactly(2L, 3L);
+    assertThat(extractIds(nextPage)).containsExactly(1L, 4L);
+  }
+
+  @Test
+  @DisplayName("거리순 검색 - 반경 밖과 삭제된 모임 제외")
+  void search_Distance_Success() {
+    // given
+    meetingSearchIndex.remove(1L);
+
+    // when
+    List<MeetingSearchHit> result = meetingSearchIndex.search(MeetingSearchCondition.builder()
+        .sortType(SortType.DISTANCE)
+        .latitude(USER_LATITUDE)
+        .longitude(USER_LONGITUDE)
+        .radius(3000)
+        .lastId(0L)
+        .lastDistance(Double.MIN_VALUE)
+        .limit(10)
+        .build());
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 3L);
+    assertThat(meetingSearchIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("같은 모임을 반복해서 다시 색인해도 삭제된 문서가 정리됨")
+  void put_Reindex_Compacted() {
+    // when
+    for (int i = 0; i < 3000; i++) {
+      meetingSearchIndex.put(
+          createDocument(1L, "강남 초밥 같이 먹어요", mask(FoodCategory.JAPANESE), 37.503942, 3));
+    }
+
+    // then
+    assertThat(meetingSearchIndex.documentCount()).isLessThan(1100);
+    List<MeetingSearchHit> result = meetingSearchIndex.search(
+        createDateCondition(SearchType.TITLE, "강남", 0, 0L, BASE_DATE_TIME.minusDays(1), 10));
+    assertThat(extractIds(result)).containsExactly(1L);
+  }
+
+  private static MeetingSearchCondition createDateCondition(
+      SearchType searchType, String keyword, int categoryMask,
+      long lastId, LocalDateTime lastMeetingDateTime, int limit
+  ) {
+    return MeetingSearchCondition.builder()
+        .searchType(searchType)
+        .keyword(keyword)
+        .categoryMask(categoryMask)
+        .sortType(SortType.DATE)
+        .lastId(lastId)
+        .lastMeetingDateTime(lastMeetingDateTime)
+        .limit(limit)
+        .build();
+  }
+
+  private static SearchDocument createDocument(
+      long meetingId, String title, int categoryMask, double latitude, int plusDays
+  ) {
+    return SearchDocument.builder()
+        .meetingId(meetingId)
+        .title(title)
+        .address("서울특별시 관악구")
+        .content("내용")
+        .categoryMask(categoryMask)
+        .latitude(latitude)
+        .longitude(USER_LONGITUDE)
+        .meetingDateTime(BASE_DATE_TIME.plusDays(plusDays))
+        .build();
+  }
+
+  private static int mask(FoodCategory... categories) {
+    return FoodCategory.toMask(Set.of(categories));
+  }
+
+  private static List<Long> extractIds(List<MeetingSearchHit> searchHits) {
+    return searchHits.stream()
+        .map(MeetingSearchHit::getMeetingId)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,80 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.SearchType;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSuggestIndexTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingSuggestIndex meetingSuggestIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingSuggestIndex = new MeetingSuggestIndex(meetingRepository);
+    meetingSuggestIndex.put(1L, "강남 김밥천국 번개", "서울특별시 강남구");
+    meetingSuggestIndex.put(2L, "김치찌개 먹어요", "서울특별시 관악구");
+    meetingSuggestIndex.put(3L, "곱창 모임", "서울특별시 관악구");
+  }
+
+  @Test
+  @DisplayName("초성으로 추천어 조회 - 성공")
+  void suggest_Chosung_Success() {
+    // when
+    List<MeetingSuggestion> result = meetingSuggestIndex.suggest("ㄱㅂ", 10);
+
+    // then
+    assertThat(extractKeywords(result)).containsExactly("강남 김밥천국 번개");
+    assertThat(result.get(0).getSearchType()).isEqualTo(SearchType.TITLE);
+  }
+
+  @Test
+  @DisplayName("단어 중간부터 입력한 음절로 추천어 조회 - 성공")
+  void suggest_WordPrefix_Success() {
+    // when
+    List<MeetingSuggestion> result = meetingSuggestIndex.suggest("김", 10);
+
+    // then
+    assertThat(extractKeywords(result)).containsExactly("김치찌개 먹어요", "강남 김밥천국 번개");
+  }
+
+  @Test
+  @DisplayName("많이 쓰인 추천어가 먼저 조회 - 성공")
+  void suggest_RankByCount_Success() {
+    // when
+    List<MeetingSuggestion> result = meetingSuggestIndex.suggest("서울", 2);
+
+    // then
+    assertThat(extractKeywords(result)).containsExactly("서울특별시 관악구", "서울특별시 강남구");
+  }
+
+  @Test
+  @DisplayName("제거된 모임의 추천어 제외 - 성공")
+  void remove_Success() {
+    // when
+    meetingSuggestIndex.remove(1L);
+
+    // then
+    assertThat(meetingSuggestIndex.suggest("ㄱㅂ", 10)).isEmpty();
+    assertThat(extractKeywords(meetingSuggestIndex.suggest("서울특별시", 10)))
+        .containsExactly("서울특별시 관악구");
+  }
+
+  private static List<String> extractKeywords(List<MeetingSuggestion> suggestions) {
+    return suggestions.stream()
+        .map(MeetingSuggestion::getKeyword)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,115 @@
+package com.momo.meeting.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.repository.MeetingRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingTimeIndexTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withNano(0);
+  private static final LocalDateTime DEFAULT_LAST_DATETIME =
+      LocalDateTime.of(1970, 1, 1, 0, 0);
+  private static final int KOREAN = FoodCategory.KOREAN.getMask();
+  private static final int JAPANESE = FoodCategory.JAPANESE.getMask();
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  private MeetingTimeIndex meetingTimeIndex;
+
+  @BeforeEach
+  void setUp() {
+    meetingTimeIndex = new MeetingTimeIndex(meetingRepository);
+    meetingTimeIndex.put(1L, BASE.plusMinutes(10), KOREAN);
+    meetingTimeIndex.put(2L, BASE.plusMinutes(10), JAPANESE);
+    meetingTimeIndex.put(3L, BASE.plusHours(2), KOREAN | JAPANESE);
+    meetingTimeIndex.put(4L, BASE.plusHours(5), KOREAN);
+    meetingTimeIndex.put(5L, BASE.plusDays(3), KOREAN);
+  }
+
+  @Test
+  @DisplayName("구간 안의 모임만 날짜, ID 순으로 조회 - 성공")
+  void findInWindow_Success() {
+    // when
+    List<TimedMeeting> result = meetingTimeIndex.findInWindow(
+        BASE, BASE.plusHours(5), 0, DEFAULT_LAST_DATETIME, 0L, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  @DisplayName("요청한 카테고리를 포함하는 모임만 조회 - 성공")
+  void findInWindow_Category_Success() {
+    // when
+    List<TimedMeeting> result = meetingTimeIndex.findInWindow(
+        BASE, BASE.plusDays(1), JAPANESE, DEFAULT_LAST_DATETIME, 0L, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 3L);
+  }
+
+  @Test
+  @DisplayName("두 카테고리를 요청하면 둘 다 포함하는 모임만 조회 (검색과 같은 기준) - 성공")
+  void findInWindow_TwoCategories_AllMatch() {
+    // when
+    List<TimedMeeting> result = meetingTimeIndex.findInWindow(
+        BASE, BASE.plusDays(1), KOREAN | JAPANESE, DEFAULT_LAST_DATETIME, 0L, 10);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 모임만 조회 - 성공")
+  void findInWindow_Cursor_Success() {
+    // when
+    List<TimedMeeting> result = meetingTimeIndex.findInWindow(
+        BASE, BASE.plusDays(1), 0, BASE.plusMinutes(10), 1L, 2);
+
+    // then
+    assertThat(extractIds(result)).containsExactly(2L, 3L);
+  }
+
+  @Test
+  @DisplayName("날짜가 수정되면 다른 버킷으로 이동, 삭제되면 제거 - 성공")
+  void putAndRemove_Success() {
+    // when
+    meetingTimeIndex.put(5L, BASE.plusHours(1), KOREAN);
+    meetingTimeIndex.remove(1L);
+
+    // then
+    List<TimedMeeting> result = meetingTimeIndex.findInWindow(
+        BASE, BASE.plusDays(1), 0, DEFAULT_LAST_DATETIME, 0L, 10);
+    assertThat(extractIds(result)).containsExactly(2L, 5L, 3L, 4L);
+    assertThat(meetingTimeIndex.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("지난 시간의 버킷 제거 - 성공")
+  void evictPastBuckets_Success() {
+    // given
+    meetingTimeIndex.put(6L, LocalDateTime.now().minusHours(3), KOREAN);
+
+    // when
+    meetingTimeIndex.evictPastBuckets();
+
+    // then
+    assertThat(meetingTimeIndex.size()).isEqualTo(5);
+  }
+
+  private static List<Long> extractIds(List<TimedMeeting> meetings) {
+    return meetings.stream().map(TimedMeeting::getMeetingId).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,118 @@
+package com.momo.meeting.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.repository.MeetingRepository;
+import com.momo.meeting.service.MeetingService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingExpirationSchedulerTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private MeetingService meetingService;
+
+  private MeetingExpirationScheduler meetingExpirationScheduler;
+
+  @BeforeEach
+  void setUp() {
+    meetingExpirationScheduler = new MeetingExpirationScheduler(meetingRepository, meetingService);
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 모임만 시각순으로 꺼냄 - 성공")
+  void pollDue_Success() {
+    // given
+    meetingExpirationScheduler.schedule(1L, NOW.minusMinutes(1));
+    meetingExpirationScheduler.schedule(2L, NOW.minusMinutes(10));
+    meetingExpirationScheduler.schedule(3L, NOW.plusMinutes(1));
+
+    // when
+    List<Long> result = meetingExpirationScheduler.pollDue(NOW, 10);
+
+    // then
+    assertThat(result).containsExactly(2L, 1L);
+    assertThat(meetingExpirationScheduler.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다시 예약되거나 취소된 모임은 제외 - 성공")
+  void pollDue_RescheduledOrCanceled() {
+    // given
+    meetingExpirationScheduler.schedule(1L, NOW.minusMinutes(1));
+    meetingExpirationScheduler.schedule(1L, NOW.plusDays(1)); // 모임 날짜 수정
+    meetingExpirationScheduler.schedule(2L, NOW.minusMinutes(1));
+    meetingExpirationScheduler.cancel(2L); // 모임 삭제
+
+    // when
+    List<Long> result = meetingExpirationScheduler.pollDue(NOW, 10);
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(meetingExpirationScheduler.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("한 번에 꺼내는 개수 제한 - 성공")
+  void pollDue_BatchSize() {
+    // given
+    meetingExpirationScheduler.schedule(1L, NOW.minusMinutes(3));
+    meetingExpirationScheduler.schedule(2L, NOW.minusMinutes(2));
+    meetingExpirationScheduler.schedule(3L, NOW.minusMinutes(1));
+
+    // when
+    List<Long> firstBatch = meetingExpirationScheduler.pollDue(NOW, 2);
+    List<Long> secondBatch = meetingExpirationScheduler.pollDue(NOW, 2);
+
+    // then
+    assertThat(firstBatch).containsExactly(1L, 2L);
+    assertThat(secondBatch).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("만료된 모임이 없으면 삭제하지 않음")
+  void expireDueMeetings_NoDueMeetings() {
+    // given
+    meetingExpirationScheduler.schedule(1L, LocalDateTime.now().plusDays(1));
+
+    // when
+    meetingExpirationScheduler.expireDueMeetings();
+
+    // then
+    verify(meetingService, never()).expireMeetings(anyList());
+  }
+
+  @Test
+  @DisplayName("만료 처리 실패 - 꺼낸 모임을 다시 예약")
+  void expireDueMeetings_Failure_Rescheduled() {
+    // given
+    meetingExpirationScheduler.schedule(1L, NOW.minusMinutes(1));
+    meetingExpirationScheduler.schedule(2L, NOW.minusMinutes(1));
+    willThrow(new IllegalStateException("DB 오류"))
+        .given(meetingService).expireMeetings(anyList());
+
+    // when
+    meetingExpirationScheduler.expireDueMeetings();
+
+    // then
+    assertThat(meetingExpirationScheduler.size()).isEqualTo(2);
+    assertThat(meetingExpirationScheduler.pollDue(LocalDateTime.now().plusSeconds(1), 10))
+        .containsExactlyInAnyOrder(1L, 2L);
+  }
+}
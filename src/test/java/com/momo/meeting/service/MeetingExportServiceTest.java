@@ -0,0 +1,118 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.common.exception.CustomException;
+import com.momo.common.exception.ErrorCode;
+import com.momo.meeting.constant.ExportFormat;
+import com.momo.meeting.constant.FoodCategory;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingExportServiceTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private MeetingExportService meetingExportService;
+
+  @BeforeEach
+  void setUp() {
+    meetingExportService = new MeetingExportService(jdbcTemplate, new ObjectMapper());
+    ReflectionTestUtils.setField(meetingExportService, "adminUserIds", Set.of(1L));
+  }
+
+  @Test
+  @DisplayName("관리자가 아닌 회원 - 예외 발생")
+  void validateAdmin_NotAdmin_ThrowsException() {
+    // when
+    // then
+    assertThatThrownBy(() -> meetingExportService.validateAdmin(2L))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+  }
+
+  @Test
+  @DisplayName("참여신청 NDJSON 내보내기 - 행마다 JSON 한 줄")
+  void exportParticipations_Ndjson_Success() throws Exception {
+    // given
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getObject(1)).thenReturn(10L, 11L);
+    when(resultSet.getObject(2)).thenReturn(1L, 1L);
+    when(resultSet.getObject(3)).thenReturn(5L, 6L);
+    when(resultSet.getObject(4)).thenReturn("PENDING", "APPROVED");
+    when(resultSet.getObject(5)).thenReturn(Timestamp.valueOf(CREATED_AT));
+    givenRows(resultSet, 2);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    long rowCount = meetingExportService.exportParticipations(ExportFormat.NDJSON, outputStream);
+
+    // then
+    assertThat(rowCount).isEqualTo(2);
+    assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+        "{\"id\":10,\"meetingId\":1,\"userId\":5,\"participationStatus\":\"PENDING\","
+            + "\"createdAt\":\"2024-01-01T12:00\"}\n"
+            + "{\"id\":11,\"meetingId\":1,\"userId\":6,\"participationStatus\":\"APPROVED\","
+            + "\"createdAt\":\"2024-01-01T12:00\"}\n");
+  }
+
+  @Test
+  @DisplayName("모임 CSV 내보내기 - 카테고리 이름 목록과 쉼표가 포함된 값은 따옴표로 감쌈")
+  void exportMeetings_Csv_Success() throws Exception {
+    // given
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getObject(anyInt())).thenReturn(null);
+    when(resultSet.getObject(1)).thenReturn(1L);
+    when(resultSet.getObject(3)).thenReturn("점심, 같이 먹어요");
+    when(resultSet.getInt(13))
+        .thenReturn(FoodCategory.KOREAN.getMask() | FoodCategory.JAPANESE.getMask());
+    givenRows(resultSet, 1);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    meetingExportService.exportMeetings(ExportFormat.CSV, outputStream);
+
+    // then
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("id,authorId,title,");
+    assertThat(lines[1]).startsWith("1,,\"점심, 같이 먹어요\",");
+    assertThat(lines[1]).contains("\"KOREAN,JAPANESE\"");
+  }
+
+  // JdbcTemplate 이 행 수만큼 RowCallbackHandler 를 호출하도록 설정
+  private void givenRows(ResultSet resultSet, int rowCount) {
+    willAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      for (int i = 0; i < rowCount; i++) {
+        handler.processRow(resultSet);
+      }
+      return null;
+    }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+}
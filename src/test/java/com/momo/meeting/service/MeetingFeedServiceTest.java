@@ -0,0 +1,224 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.cache.MeetingContinuationCache;
+import com.momo.meeting.cache.MeetingFeedCache;
+import com.momo.meeting.cache.MeetingFeedVersion;
+import com.momo.meeting.cache.MeetingQueryCoalescer;
+import com.momo.meeting.constant.SortType;
+import com.momo.meeting.dto.MeetingCursor;
+import com.momo.meeting.dto.MeetingDto;
+import com.momo.meeting.dto.MeetingsRequest;
+import com.momo.meeting.dto.MeetingsResponse;
+import com.momo.meeting.event.MeetingEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingFeedServiceTest {
+
+  private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+  private static final int PAGE_SIZE = 2;
+
+  @Mock
+  private MeetingService meetingService;
+
+  private MeetingFeedCache meetingFeedCache;
+  private MeetingContinuationCache meetingContinuationCache;
+  private MeetingFeedVersion meetingFeedVersion;
+  private MeetingFeedService meetingFeedService;
+
+  @BeforeEach
+  void setUp() {
+    meetingFeedCache = new MeetingFeedCache();
+    meetingContinuationCache = new MeetingContinuationCache();
+    meetingFeedVersion = new MeetingFeedVersion();
+    meetingFeedService = new MeetingFeedService(meetingService, meetingFeedCache,
+        meetingContinuationCache, new MeetingQueryCoalescer(), meetingFeedVersion);
+  }
+
+  @Test
+  @DisplayName("첫 페이지 조회 시 다음 페이지를 미리 조회해 토큰으로 이어서 응답 - 성공")
+  void getMeetings_Prefetch_Success() {
+    // given
+    // 요청한 페이지와 다음 두 페이지(2 * 3개)를 한 번에 조회, 그 뒤에도 남은 모임 있음
+    given(meetingService.getMeetings(any(MeetingsRequest.class)))
+        .willReturn(MeetingsResponse.ofPage(createMeetingDtos(1, 6), true, null));
+
+    // when
+    MeetingsResponse first = meetingFeedService.getMeetings(createDateRequest(null), null);
+    MeetingsResponse second = meetingFeedService.getMeetings(
+        createDateRequest(first.getCursor()), first.getContinuationToken());
+    MeetingsResponse third = meetingFeedService.getMeetings(
+        createDateRequest(second.getCursor()), second.getContinuationToken());
+
+    // then
+    assertThat(extractIds(first)).containsExactly(1L, 2L);
+    assertThat(extractIds(second)).containsExactly(3L, 4L);
+    assertThat(extractIds(third)).containsExactly(5L, 6L);
+    assertThat(third.isHasNext()).isTrue();
+    assertThat(third.getContinuationToken()).isNull(); // 미리 조회한 마지막 페이지
+    verify(meetingService, times(1)).getMeetings(any(MeetingsRequest.class));
+  }
+
+  @Test
+  @DisplayName("캐시된 첫 페이지는 응답할 때마다 살아 있는 이어보기 토큰만 반환 - 성공")
+  void getMeetings_CachedPage_RefreshesContinuationToken() {
+    // given
+    given(meetingService.getMeetings(any(MeetingsRequest.class)))
+        .willReturn(MeetingsResponse.ofPage(createMeetingDtos(1, 6), true, null));
+    MeetingsResponse first = meetingFeedService.getMeetings(createDateRequest(null), null);
+
+    // when
+    MeetingsResponse cached = meetingFeedService.getMeetings(createDateRequest(null), null);
+    ReflectionTestUtils.setField(meetingContinuationCache, "ttlMs", -1L);
+    meetingFeedService.getMeetings(createDateRequest(null), null); // 보관 시간을 지난 값으로 연장
+    MeetingsResponse expired = meetingFeedService.getMeetings(createDateRequest(null), null);
+
+    // then
+    assertThat(first.getContinuationToken()).isNotNull();
+    assertThat(cached.getContinuationToken()).isEqualTo(first.getContinuationToken());
+    assertThat(expired.isHasNext()).isTrue();
+    assertThat(expired.getContinuationToken()).isNull();
+    verify(meetingService, times(1)).getMeetings(any(MeetingsRequest.class));
+  }
+
+  @Test
+  @DisplayName("미리 조회한 페이지가 무효화되면 일반 조회로 응답 - 성공")
+  void getMeetings_Invalidated_FallBack() {
+    // given
+    given(meetingService.getMeetings(any(MeetingsRequest.class)))
+        .willReturn(MeetingsResponse.ofPage(createMeetingDtos(1, 6), true, null))
+        .willReturn(MeetingsResponse.ofPage(createMeetingDtos(3, 6), true, null));
+    MeetingsResponse first = meetingFeedService.getMeetings(createDateRequest(null), null);
+    meetingContinuationCache.handleMeetingEvent(MeetingEvent.deleted(4L));
+
+    // when
+    MeetingsResponse second = meetingFeedService.getMeetings(
+        createDateRequest(first.getCursor()), first.getContinuationToken());
+
+    // then
+    assertThat(extractIds(second)).containsExactly(3L, 4L);
+    verify(meetingService, times(2)).getMeetings(any(MeetingsRequest.class));
+  }
+
+  @Test
+  @DisplayName("조회 중 무효화되면 이후 요청은 진행 중인 조회에 병합되지 않고 캐시에도 이전 결과가 남지 않음 - 성공")
+  void getMeetings_InvalidatedDuringCoalescedLoad_NotCached() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loadCount = new AtomicInteger();
+    given(meetingService.getMeetings(any(MeetingsRequest.class))).willAnswer(invocation -> {
+      if (loadCount.getAndIncrement() == 0) {
+        started.countDown();
+        await(release);
+        return MeetingsResponse.ofPage(createMeetingDtos(1, 6), true, null); // 삭제 이전 결과
+      }
+      return MeetingsResponse.ofPage(createMeetingDtos(3, 8), true, null);
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    // when
+    CompletableFuture<MeetingsResponse> stale = CompletableFuture.supplyAsync(
+        () -> meetingFeedService.getMeetings(createDateRequest(null), null), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    meetingFeedCache.handleMeetingEvent(MeetingEvent.deleted(2L));
+
+    CompletableFuture<MeetingsResponse> fresh = CompletableFuture.supplyAsync(
+        () -> meetingFeedService.getMeetings(createDateRequest(null), null), executor);
+    MeetingsResponse freshResponse = fresh.get(5, TimeUnit.SECONDS);
+    release.countDown();
+    stale.get(5, TimeUnit.SECONDS);
+    MeetingsResponse cached = meetingFeedService.getMeetings(createDateRequest(null), null);
+
+    // then
+    assertThat(extractIds(freshResponse)).containsExactly(3L, 4L);
+    assertThat(extractIds(cached)).containsExactly(3L, 4L);
+    assertThat(loadCount.get()).isEqualTo(2);
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("목록 ETag 는 모임 이벤트가 발생해야 바뀜 - 성공")
+  void getFeedETag_ChangedByMeetingEvent() {
+    // given
+    MeetingsRequest request = createDateRequest(null);
+    String before = meetingFeedService.getFeedETag(request);
+
+    // when
+    String unchanged = meetingFeedService.getFeedETag(request);
+    meetingFeedVersion.handleMeetingEvent(MeetingEvent.deleted(1L));
+    String changed = meetingFeedService.getFeedETag(request);
+
+    // then
+    assertThat(unchanged).isEqualTo(before);
+    assertThat(changed).isNotEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("인기순, 추천순 목록은 ETag 를 사용하지 않음")
+  void getFeedETag_PopularAndRecommended() {
+    // given
+    MeetingsRequest popular = MeetingsRequest.createRequest(
+        null, null, null, null, null, PAGE_SIZE, SortType.POPULAR);
+    MeetingsRequest recommended = MeetingsRequest.createRequest(
+        null, null, null, null, null, PAGE_SIZE, SortType.RECOMMENDED);
+
+    // when
+    // then
+    assertThat(meetingFeedService.getFeedETag(popular)).isNull();
+    assertThat(meetingFeedService.getFeedETag(recommended)).isNull();
+  }
+
+  private static MeetingsRequest createDateRequest(MeetingCursor cursor) {
+    return cursor == null
+        ? MeetingsRequest.createRequest(null, null, null, null, null, PAGE_SIZE)
+        : MeetingsRequest.createRequest(
+            null, null, cursor.getId(), null, cursor.getMeetingDateTime(), PAGE_SIZE);
+  }
+
+  private static List<MeetingDto> createMeetingDtos(int fromId, int toId) {
+    List<MeetingDto> meetingDtos = new ArrayList<>();
+    for (long id = fromId; id <= toId; id++) {
+      meetingDtos.add(MeetingDto.builder()
+          .id(id)
+          .meetingDateTime(BASE_DATE_TIME.plusDays(id))
+          .cursorMeetingDateTime(BASE_DATE_TIME.plusDays(id))
+          .build());
+    }
+    return meetingDtos;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static List<Long> extractIds(MeetingsResponse response) {
+    return response.getMeetings().stream().map(MeetingDto::getId).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,83 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.momo.meeting.constant.FoodCategory;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.dto.location.MeetingLocationCountResponse;
+import com.momo.meeting.projection.MeetingLocationProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingLocationCountServiceTest {
+
+  private static final int KOREAN = FoodCategory.KOREAN.getMask();
+  private static final int JAPANESE = FoodCategory.JAPANESE.getMask();
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @InjectMocks
+  private MeetingLocationCountService meetingLocationCountService;
+
+  @Test
+  @DisplayName("모임 추가, 지역 변경, 삭제를 증분으로 집계 - 성공")
+  void put_Remove_Success() {
+    // given
+    meetingLocationCountService.put(1L, 100L, KOREAN);
+    meetingLocationCountService.put(2L, 100L, KOREAN | JAPANESE);
+    meetingLocationCountService.put(3L, 200L, JAPANESE);
+
+    // when
+    meetingLocationCountService.put(3L, 100L, JAPANESE); // 지역 변경
+    meetingLocationCountService.remove(1L);
+
+    // then
+    MeetingLocationCountResponse response = meetingLocationCountService.getLocationCount(100L);
+    assertThat(response.getCount()).isEqualTo(2);
+    assertThat(response.getCategoryCounts())
+        .containsEntry(FoodCategory.KOREAN, 1)
+        .containsEntry(FoodCategory.JAPANESE, 2);
+    assertThat(meetingLocationCountService.getLocationCount(200L).getCount()).isZero();
+    assertThat(meetingLocationCountService.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("DB 재집계 결과로 교체 - 성공")
+  void reconcile_Success() {
+    // given
+    meetingLocationCountService.put(1L, 100L, KOREAN);
+    meetingLocationCountService.put(9L, 300L, KOREAN); // DB 에는 없는 모임 (이벤트 유실)
+    List<MeetingLocationProjection> locations = List.of(
+        createProjection(1L, 100L, KOREAN),
+        createProjection(2L, 100L, JAPANESE));
+    given(meetingRepository.findLocationsByMeetingStatus(MeetingStatus.RECRUITING))
+        .willReturn(locations);
+
+    // when
+    meetingLocationCountService.reconcile();
+
+    // then
+    assertThat(meetingLocationCountService.getLocationCount(100L).getCount()).isEqualTo(2);
+    assertThat(meetingLocationCountService.getLocationCount(300L).getCount()).isZero();
+  }
+
+  private static MeetingLocationProjection createProjection(
+      Long meetingId, Long locationId, int categoryMask
+  ) {
+    MeetingLocationProjection projection = mock(MeetingLocationProjection.class);
+    given(projection.getId()).willReturn(meetingId);
+    given(projection.getLocationId()).willReturn(locationId);
+    given(projection.getCategoryMask()).willReturn(categoryMask);
+    return projection;
+  }
+}
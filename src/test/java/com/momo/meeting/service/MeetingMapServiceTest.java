@@ -0,0 +1,119 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.dto.map.MeetingMapResponse;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.index.GeoCluster;
+import com.momo.meeting.index.MeetingGeoIndex;
+import com.momo.meeting.projection.MeetingMarkerProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingMapServiceTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private MeetingGeoIndex meetingGeoIndex;
+
+  @InjectMocks
+  private MeetingMapService meetingMapService;
+
+  @Test
+  @DisplayName("확대된 화면은 개별 마커로 응답 - 성공")
+  void getMeetingMap_Markers_Success() {
+    // given
+    given(meetingRepository.findMeetingMarkersInBoundingBox(
+        37.50, 37.51, 126.94, 126.95, 301))
+        .willReturn(createMarkers(2));
+
+    // when
+    MeetingMapResponse response =
+        meetingMapService.getMeetingMap(37.50, 37.51, 126.94, 126.95, 15);
+
+    // then
+    assertThat(response.isClustered()).isFalse();
+    assertThat(response.getMarkers()).hasSize(2);
+    verify(meetingGeoIndex, never())
+        .cluster(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("마커가 300개를 넘으면 클러스터로 응답 - 성공")
+  void getMeetingMap_TooManyMarkers_Clusters() {
+    // given
+    given(meetingRepository.findMeetingMarkersInBoundingBox(
+        37.50, 37.51, 126.94, 126.95, 301))
+        .willReturn(createMarkers(301));
+    given(meetingGeoIndex.cluster(
+        eq(37.50), eq(37.51), eq(126.94), eq(126.95), anyDouble()))
+        .willReturn(List.of(new GeoCluster()));
+
+    // when
+    MeetingMapResponse response =
+        meetingMapService.getMeetingMap(37.50, 37.51, 126.94, 126.95, 16);
+
+    // then
+    assertThat(response.isClustered()).isTrue();
+    assertThat(response.getMarkers()).isEmpty();
+    assertThat(response.getClusters()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("축소된 화면은 마커를 조회하지 않고 클러스터로 응답 - 성공")
+  void getMeetingMap_ZoomedOut_Clusters() {
+    // given
+    given(meetingGeoIndex.cluster(
+        eq(37.0), eq(38.0), eq(126.0), eq(128.0), eq(360.0 / (1L << 10) / 4)))
+        .willReturn(Collections.emptyList());
+
+    // when
+    MeetingMapResponse response =
+        meetingMapService.getMeetingMap(37.0, 38.0, 126.0, 128.0, 10);
+
+    // then
+    assertThat(response.isClustered()).isTrue();
+    verify(meetingRepository, never()).findMeetingMarkersInBoundingBox(
+        anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+  }
+
+  @Test
+  @DisplayName("최솟값이 최댓값보다 큰 지도 영역 - 예외 발생")
+  void getMeetingMap_InvalidArea_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> meetingMapService.getMeetingMap(38.0, 37.0, 126.0, 128.0, 10))
+        .isInstanceOf(MeetingException.class)
+        .extracting("meetingErrorCode")
+        .isEqualTo(MeetingErrorCode.INVALID_MAP_AREA);
+    assertThatThrownBy(() -> meetingMapService.getMeetingMap(37.0, 38.0, 128.0, 126.0, 10))
+        .isInstanceOf(MeetingException.class);
+  }
+
+  private static List<MeetingMarkerProjection> createMarkers(int count) {
+    List<MeetingMarkerProjection> markers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      markers.add(mock(MeetingMarkerProjection.class));
+    }
+    return markers;
+  }
+}
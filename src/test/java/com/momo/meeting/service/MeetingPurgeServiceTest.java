@@ -0,0 +1,181 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.momo.chat.repository.ChatReadStatusRepository;
+import com.momo.chat.repository.ChatRepository;
+import com.momo.chat.repository.ChatRoomRepository;
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.projection.ExpiredMeetingProjection;
+import com.momo.meeting.repository.MeetingRepository;
+import com.momo.notification.constant.NotificationType;
+import com.momo.notification.service.NotificationService;
+import com.momo.participation.constant.ParticipationStatus;
+import com.momo.participation.projection.ParticipantProjection;
+import com.momo.participation.repository.ParticipationRepository;
+import com.momo.user.entity.User;
+import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingPurgeServiceTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private ParticipationRepository participationRepository;
+
+  @Mock
+  private ChatRoomRepository chatRoomRepository;
+
+  @Mock
+  private ChatReadStatusRepository chatReadStatusRepository;
+
+  @Mock
+  private ChatRepository chatRepository;
+
+  @Mock
+  private NotificationService notificationService;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private MeetingPurgeService meetingPurgeService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(meetingPurgeService, "chunkSize", 2);
+    ReflectionTestUtils.setField(meetingPurgeService, "chunkDelayMs", 0L);
+    lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  @DisplayName("만료 처리 - 묶음마다 상태 변경 후 만료 이벤트 발행")
+  void markExpired_Success() {
+    // when
+    meetingPurgeService.markExpired(List.of(1L, 2L, 3L));
+
+    // then
+    verify(meetingRepository).updateStatusByIds(
+        List.of(1L, 2L), MeetingStatus.RECRUITING, MeetingStatus.EXPIRED);
+    verify(meetingRepository).updateStatusByIds(
+        List.of(3L), MeetingStatus.RECRUITING, MeetingStatus.EXPIRED);
+    verify(eventPublisher, times(3)).publishEvent(any(MeetingEvent.class));
+  }
+
+  @Test
+  @DisplayName("만료 모임 정리 - 남은 모임이 없을 때까지 묶음 단위로 삭제")
+  void purgeExpiredMeetings_Success() {
+    // given
+    given(meetingRepository.findIdsByMeetingStatus(eq(MeetingStatus.EXPIRED), any(Pageable.class)))
+        .willReturn(List.of(1L, 2L), List.of(3L));
+    given(chatRoomRepository.findIdsByMeetingIds(List.of(1L, 2L))).willReturn(List.of(10L, 20L));
+    given(chatRoomRepository.findIdsByMeetingIds(List.of(3L))).willReturn(List.of(30L));
+    given(chatRepository.deleteAllByChatRoomIds(any())).willReturn(5);
+    given(chatRoomRepository.deleteAllByMeetingIds(any())).willReturn(2, 1);
+    given(meetingRepository.deleteAllByMeetingIds(any())).willReturn(2, 1);
+
+    // when
+    int purgedCount = meetingPurgeService.purgeExpiredMeetings();
+
+    // then
+    assertThat(purgedCount).isEqualTo(3);
+    verify(chatRepository).deleteAllByChatRoomIds(List.of(10L, 20L));
+    verify(chatRepository).deleteAllByChatRoomIds(List.of(30L));
+    verify(meetingRepository).deleteAllByMeetingIds(List.of(1L, 2L));
+    verify(meetingRepository).deleteAllByMeetingIds(List.of(3L));
+    assertThat(meetingPurgeService.getDeletedCounts())
+        .containsEntry("chat", 10L)
+        .containsEntry("chat_room", 3L)
+        .containsEntry("meeting", 3L);
+  }
+
+  @Test
+  @DisplayName("만료 모임 정리 - 삭제할 모임이 없는 경우")
+  void purgeExpiredMeetings_NoExpiredMeetings() {
+    // given
+    given(meetingRepository.findIdsByMeetingStatus(eq(MeetingStatus.EXPIRED), any(Pageable.class)))
+        .willReturn(Collections.emptyList());
+
+    // when
+    int purgedCount = meetingPurgeService.purgeExpiredMeetings();
+
+    // then
+    assertThat(purgedCount).isZero();
+    verify(meetingRepository, never()).deleteAllByMeetingIds(any());
+  }
+
+  @Test
+  @DisplayName("만료 모임 정리 - 모임마다 주최자와 해당 모임의 참가자에게만 알림")
+  void purgeExpiredMeetings_NotifyOwnParticipants() {
+    // given
+    User author = User.builder().id(1L).build();
+    User participant1 = User.builder().id(2L).build();
+    User participant2 = User.builder().id(3L).build();
+    given(meetingRepository.findIdsByMeetingStatus(eq(MeetingStatus.EXPIRED), any(Pageable.class)))
+        .willReturn(List.of(10L, 20L), Collections.emptyList());
+    given(meetingRepository.findExpiredMeetingsByIds(
+        eq(List.of(10L, 20L)), eq(MeetingStatus.EXPIRED), any(LocalDateTime.class)))
+        .willReturn(List.of(
+            createExpiredMeeting(10L, author), createExpiredMeeting(20L, author)));
+    given(participationRepository.findParticipantsByMeetingIds(
+        List.of(10L, 20L), ParticipationStatus.APPROVED))
+        .willReturn(List.of(
+            createParticipant(10L, participant1), createParticipant(20L, participant2)));
+
+    // when
+    meetingPurgeService.purgeExpiredMeetings();
+
+    // then
+    verify(notificationService, times(2))
+        .sendNotification(eq(author), anyString(), eq(NotificationType.MEETING_EXPIRED));
+    verify(notificationService)
+        .sendNotification(eq(participant1), anyString(), eq(NotificationType.MEETING_EXPIRED));
+    verify(notificationService)
+        .sendNotification(eq(participant2), anyString(), eq(NotificationType.MEETING_EXPIRED));
+  }
+
+  private static ExpiredMeetingProjection createExpiredMeeting(Long meetingId, User author) {
+    ExpiredMeetingProjection expiredMeeting = mock(ExpiredMeetingProjection.class);
+    given(expiredMeeting.getMeetingId()).willReturn(meetingId);
+    given(expiredMeeting.getTitle()).willReturn("모임 " + meetingId);
+    given(expiredMeeting.getAuthor()).willReturn(author);
+    return expiredMeeting;
+  }
+
+  private static ParticipantProjection createParticipant(Long meetingId, User user) {
+    ParticipantProjection participant = mock(ParticipantProjection.class);
+    given(participant.getMeetingId()).willReturn(meetingId);
+    given(participant.getUser()).willReturn(user);
+    return participant;
+  }
+}
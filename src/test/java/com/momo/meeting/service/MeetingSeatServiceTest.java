@@ -0,0 +1,90 @@
+package com.momo.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.exception.MeetingErrorCode;
+import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.repository.MeetingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSeatServiceTest {
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private MeetingSeatService meetingSeatService;
+
+  @Test
+  @DisplayName("좌석 확보 - 성공")
+  void reserve_Success() {
+    // given
+    Meeting meeting = createMeeting(1);
+    given(meetingRepository.reserveSeat(meeting.getId())).willReturn(1);
+
+    // when
+    meetingSeatService.reserve(meeting);
+
+    // then
+    assertThat(meeting.getApprovedCount()).isEqualTo(2);
+    verify(eventPublisher).publishEvent(any(MeetingEvent.class));
+  }
+
+  @Test
+  @DisplayName("좌석 확보 - 정원 초과로 예외 발생")
+  void reserve_AlreadyMaxCount() {
+    // given
+    Meeting meeting = createMeeting(1);
+    given(meetingRepository.reserveSeat(meeting.getId())).willReturn(0);
+
+    // when
+    // then
+    assertThatThrownBy(() -> meetingSeatService.reserve(meeting))
+        .isInstanceOf(MeetingException.class)
+        .hasFieldOrPropertyWithValue("meetingErrorCode", MeetingErrorCode.ALREADY_MAX_COUNT);
+    assertThat(meeting.getApprovedCount()).isEqualTo(1);
+    verify(eventPublisher, never()).publishEvent(any(MeetingEvent.class));
+  }
+
+  @Test
+  @DisplayName("좌석 반납 - 성공")
+  void release_Success() {
+    // given
+    Meeting meeting = createMeeting(3);
+    given(meetingRepository.releaseSeat(meeting.getId())).willReturn(1);
+
+    // when
+    meetingSeatService.release(meeting);
+
+    // then
+    assertThat(meeting.getApprovedCount()).isEqualTo(2);
+    verify(eventPublisher).publishEvent(any(MeetingEvent.class));
+  }
+
+  private static Meeting createMeeting(int approvedCount) {
+    return Meeting.builder()
+        .id(1L)
+        .maxCount(6)
+        .approvedCount(approvedCount)
+        .meetingStatus(MeetingStatus.RECRUITING)
+        .build();
+  }
+}
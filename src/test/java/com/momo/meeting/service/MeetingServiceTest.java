@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -15,9 +18,16 @@ import static org.mockito.Mockito.when;
 import com.momo.chat.entity.ChatRoom;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.chat.service.ChatRoomService;
+import com.momo.image.file.SpooledImageFile;
 import com.momo.image.service.ImageService;
+import com.momo.meeting.cache.CategoryAffinityCache;
+import com.momo.meeting.cache.MeetingPostCounter;
+import com.momo.meeting.cache.MeetingViewCounter;
+import com.momo.meeting.constant.DistanceSearchMode;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
+import com.momo.meeting.constant.ThumbnailStatus;
+import com.momo.meeting.constant.TimeWindow;
 import com.momo.meeting.dto.MeetingUpdateRequest;
 import com.momo.meeting.dto.MeetingStatusRequest;
 import com.momo.meeting.dto.createdMeeting.CreatedMeetingDto;
@@ -31,16 +41,26 @@ import com.momo.meeting.dto.MeetingResponse;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
+import com.momo.meeting.index.MeetingGeoIndex;
+import com.momo.meeting.index.MeetingPopularityIndex;
+import com.momo.meeting.index.MeetingRecommendIndex;
+import com.momo.meeting.index.MeetingSearchIndex;
+import com.momo.meeting.index.MeetingSuggestIndex;
+import com.momo.meeting.index.MeetingTimeIndex;
+import com.momo.meeting.index.NearbyMeeting;
+import com.momo.meeting.index.TimedMeeting;
 import com.momo.meeting.projection.CreatedMeetingProjection;
+import com.momo.meeting.projection.MeetingGeoPointProjection;
 import com.momo.meeting.projection.MeetingParticipantProjection;
+import com.momo.meeting.projection.MeetingParticipantsVersionProjection;
 import com.momo.meeting.projection.MeetingToMeetingDtoProjection;
+import com.momo.meeting.projection.MeetingVersionProjection;
 import com.momo.meeting.repository.MeetingRepository;
 import com.momo.notification.service.NotificationService;
 import com.momo.participation.constant.ParticipationStatus;
 import com.momo.participation.entity.Participation;
 import com.momo.participation.repository.ParticipationRepository;
 import com.momo.user.entity.User;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -54,7 +74,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,7 +94,13 @@ class MeetingServiceTest {
   private ChatRoomService chatRoomService;
 
   @Mock
-  private TransactionTemplate transactionTemplate;
+  private MeetingPurgeService meetingPurgeService;
+
+  @Mock
+  private MeetingPostCounter meetingPostCounter;
+
+  @Mock
+  private MeetingViewCounter meetingViewCounter;
 
   @Mock
   private NotificationService notificationService;
@@ -81,6 +108,33 @@ class MeetingServiceTest {
   @Mock
   private ImageService imageService;
 
+  @Mock
+  private MeetingGeoIndex meetingGeoIndex;
+
+  @Mock
+  private MeetingSearchIndex meetingSearchIndex;
+
+  @Mock
+  private MeetingSuggestIndex meetingSuggestIndex;
+
+  @Mock
+  private MeetingPopularityIndex meetingPopularityIndex;
+
+  @Mock
+  private MeetingRecommendIndex meetingRecommendIndex;
+
+  @Mock
+  private MeetingTimeIndex meetingTimeIndex;
+
+  @Mock
+  private CategoryAffinityCache categoryAffinityCache;
+
+  @Mock
+  private MeetingThumbnailUploader meetingThumbnailUploader;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private MeetingService meetingService;
 
@@ -89,15 +143,12 @@ class MeetingServiceTest {
   void createMeeting_Success() {
     // given
     User user = createUser();
-    LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-    LocalDateTime endOfDay = startOfDay.plusDays(1);
     MeetingCreateRequest request = createMeetingRequest();
     MultipartFile image = mock(MultipartFile.class);
     String imageUrl = "test-image.jpg";
 
     when(imageService.uploadImageProcess(image)).thenReturn(imageUrl);
-    when(meetingRepository.countByUser_IdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay))
-        .thenReturn(0);
+    when(meetingPostCounter.tryIncrement(user.getId())).thenReturn(true);
 
     // when
     MeetingResponse response = meetingService.createMeeting(user, request, image);
@@ -120,7 +171,31 @@ class MeetingServiceTest {
             imageUrl, MeetingStatus.RECRUITING
         );
 
-    verify(meetingRepository).countByUser_IdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay);
+    verify(meetingPostCounter).tryIncrement(user.getId());
+    verify(meetingPostCounter, never()).decrement(any());
+  }
+
+  @Test
+  @DisplayName("모집글 작성 - 썸네일은 저장 이후 백그라운드에서 업로드")
+  void createMeeting_AsyncThumbnailUpload() {
+    // given
+    ReflectionTestUtils.setField(meetingService, "asyncThumbnailUpload", true);
+    User user = createUser();
+    MeetingCreateRequest request = createMeetingRequest();
+    MultipartFile image = mock(MultipartFile.class);
+    SpooledImageFile spooledImage = mock(SpooledImageFile.class);
+
+    when(imageService.spoolImage(image)).thenReturn(spooledImage);
+    when(meetingPostCounter.tryIncrement(user.getId())).thenReturn(true);
+
+    // when
+    MeetingResponse response = meetingService.createMeeting(user, request, image);
+
+    // then
+    assertThat(response.getThumbnail()).isNull();
+    assertThat(response.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PENDING);
+    verify(imageService, never()).uploadImageProcess(any());
+    verify(meetingThumbnailUploader).submit(any(), any(), eq(spooledImage));
   }
 
   private static final Double USER_LATITUDE = 37.502942;
@@ -134,15 +209,18 @@ class MeetingServiceTest {
     MeetingsRequest request = createMeetingsRequest(
         USER_LATITUDE, USER_LONGITUDE, null, null, null);
     List<MeetingToMeetingDtoProjection> mockProjections = createMockProjections();
+    List<NearbyMeeting> nearbyMeetings = createNearbyMeetings();
+    List<Long> meetingIds = extractNearbyMeetingIds(nearbyMeetings);
 
-    when(meetingRepository.findNearbyMeetingsWithCursor(
+    when(meetingGeoIndex.findNearby(
         request.getUserLatitude(),
         request.getUserLongitude(),
         request.getRadius(),
         request.getCursorId(),
         request.getCursorDistance(),
         request.getPageSize() + 1
-    )).thenReturn(mockProjections);
+    )).thenReturn(nearbyMeetings);
+    when(meetingRepository.findMeetingsByIds(meetingIds)).thenReturn(mockProjections);
 
     // when
     MeetingsResponse response = meetingService.getMeetings(request);
@@ -153,8 +231,9 @@ class MeetingServiceTest {
     assertTrue(response.isHasNext());
 
     verifyCursor(response);
+    assertEquals(TEST_PAGE_SIZE * 10.0, response.getCursor().getDistance());
 
-    verify(meetingRepository).findNearbyMeetingsWithCursor(
+    verify(meetingGeoIndex).findNearby(
         request.getUserLatitude(),
         request.getUserLongitude(),
         request.getRadius(),
@@ -162,6 +241,45 @@ class MeetingServiceTest {
         request.getCursorDistance(),
         request.getPageSize() + 1
     );
+    verify(meetingRepository).findMeetingsByIds(meetingIds);
+  }
+
+  @Test
+  @DisplayName("모집글 목록 조회 거리 기준 정렬 (위경도 범위 조회 방식) - 성공")
+  void getNearbyMeetings_BoundingBox_Success() {
+    // given
+    ReflectionTestUtils.setField(
+        meetingService, "distanceSearchMode", DistanceSearchMode.BOUNDING_BOX);
+    MeetingsRequest request = createMeetingsRequest(
+        USER_LATITUDE, USER_LONGITUDE, null, null, null);
+
+    // 범위 조건으로 조회된 후보 (3번은 범위 안이지만 반경 밖)
+    List<MeetingGeoPointProjection> candidates = List.of(
+        createMockGeoPoint(1L, USER_LATITUDE + 0.01, USER_LONGITUDE), // 약 1.1km
+        createMockGeoPoint(2L, USER_LATITUDE + 0.001, USER_LONGITUDE), // 약 111m
+        createMockGeoPoint(3L, USER_LATITUDE + 0.02, USER_LONGITUDE + 0.03) // 약 3.4km
+    );
+    List<MeetingToMeetingDtoProjection> mockProjections = new ArrayList<>();
+    createMockProjection(mockProjections, 1);
+    createMockProjection(mockProjections, 2);
+
+    when(meetingRepository.findGeoPointsInBoundingBox(
+        eq(MeetingStatus.RECRUITING), anyDouble(), anyDouble(), anyDouble(), anyDouble()
+    )).thenReturn(candidates);
+    when(meetingRepository.findMeetingsByIds(List.of(2L, 1L))).thenReturn(mockProjections);
+
+    // when
+    MeetingsResponse response = meetingService.getMeetings(request);
+
+    // then
+    assertThat(response.getMeetings())
+        .extracting("id")
+        .containsExactly(2L, 1L);
+    assertThat(response.getMeetings().get(0).getDistance())
+        .isLessThan(response.getMeetings().get(1).getDistance());
+    assertThat(response.isHasNext()).isFalse();
+    verify(meetingGeoIndex, never()).findNearby(
+        anyDouble(), anyDouble(), anyDouble(), anyLong(), anyDouble(), anyInt());
   }
 
   @Test
@@ -199,18 +317,75 @@ class MeetingServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("모집글 목록 날짜순 조회 - 같은 분의 모임 사이에서 페이지가 나뉘어도 커서는 초 단위까지 유지")
+  void getMeetingsByDate_SameMinuteBoundary_FullPrecisionCursor() {
+    // given
+    MeetingsRequest request = MeetingsRequest.createRequest(null, null, null, null, null, 1);
+    LocalDateTime firstDateTime = LocalDateTime.of(2026, 10, 18, 10, 0, 10);
+    LocalDateTime secondDateTime = LocalDateTime.of(2026, 10, 18, 10, 0, 40);
+
+    List<MeetingToMeetingDtoProjection> projections = new ArrayList<>();
+    createMockProjection(projections, 1);
+    createMockProjection(projections, 2);
+    when(projections.get(0).getMeetingDateTime()).thenReturn(firstDateTime);
+    when(projections.get(1).getMeetingDateTime()).thenReturn(secondDateTime);
+
+    when(meetingRepository.findOrderByMeetingDateWithCursor(
+        request.getCursorId(), request.getCursorMeetingDateTime(), 2)).thenReturn(projections);
+
+    // when
+    MeetingsResponse response = meetingService.getMeetings(request);
+
+    // then
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getMeetings()).hasSize(1);
+    assertThat(response.getMeetings().get(0).getMeetingDateTime())
+        .isEqualTo(firstDateTime.truncatedTo(ChronoUnit.MINUTES));
+    // 다음 페이지는 10:00:10 이후부터 조회되어 같은 분의 10:00:40 모임을 다시 포함
+    assertThat(response.getCursor().getId()).isEqualTo(1L);
+    assertThat(response.getCursor().getMeetingDateTime()).isEqualTo(firstDateTime);
+  }
+
+  @Test
+  @DisplayName("날짜 구간 조회 - 인덱스의 모임이 이미 마감되어 빠지면 DB 에서 같은 조건으로 조회")
+  void getMeetingsInWindow_StaleIndex_QueriesDatabase() {
+    // given
+    MeetingsRequest request = MeetingsRequest.createRequest(null, null, null, null, null, 2);
+    int categoryMask = FoodCategory.KOREAN.getMask();
+    LocalDateTime meetingDateTime = LocalDateTime.now().plusMinutes(30);
+
+    given(meetingTimeIndex.findInWindow(any(), any(), eq(categoryMask), any(), any(), eq(3)))
+        .willReturn(List.of(new TimedMeeting(1L, meetingDateTime, categoryMask),
+            new TimedMeeting(2L, meetingDateTime, categoryMask)));
+
+    List<MeetingToMeetingDtoProjection> indexed = new ArrayList<>();
+    createMockProjection(indexed, 1);
+    given(meetingRepository.findMeetingsByIds(List.of(1L, 2L))).willReturn(indexed); // 2번 마감
+
+    List<MeetingToMeetingDtoProjection> queried = new ArrayList<>(indexed);
+    createMockProjection(queried, 3);
+    given(meetingRepository.findInWindowWithCursor(any(), any(), eq(0L), any(),
+        eq(FoodCategory.masksContaining(categoryMask)), eq(3))).willReturn(queried);
+
+    // when
+    MeetingsResponse response = meetingService.getMeetingsInWindow(
+        request, TimeWindow.TODAY, null, null, categoryMask);
+
+    // then
+    assertThat(response.getMeetings()).extracting(MeetingDto::getId).containsExactly(1L, 3L);
+    assertThat(response.isHasNext()).isFalse();
+  }
+
   @Test
   @DisplayName("모임 날짜 1년 이후로 설정 - 예외 발생")
   void createMeeting_AfterOneYear_ThrowsException() {
     // given
     User user = createUser();
     MeetingCreateRequest request = createMeetingInvalidMeetingDateRequest();
-    LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-    LocalDateTime endOfDay = startOfDay.plusDays(1);
     MultipartFile image = mock(MultipartFile.class);
 
-    when(meetingRepository.countByUser_IdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay))
-        .thenReturn(0);
+    when(meetingPostCounter.tryIncrement(user.getId())).thenReturn(true);
 
     // when
     // then
@@ -220,7 +395,8 @@ class MeetingServiceTest {
             "meetingErrorCode",
             MeetingErrorCode.INVALID_MEETING_DATE);
 
-    verify(meetingRepository).countByUser_IdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay);
+    // 저장되지 않았으므로 작성 수를 되돌림
+    verify(meetingPostCounter).decrement(user.getId());
   }
 
   @Test
@@ -229,12 +405,9 @@ class MeetingServiceTest {
     // given
     User user = createUser();
     MeetingCreateRequest request = createMeetingRequest();
-    LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-    LocalDateTime endOfDay = startOfDay.plusDays(1);
     MultipartFile image = mock(MultipartFile.class);
 
-    when(meetingRepository.countByUser_IdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay))
-        .thenReturn(10);
+    when(meetingPostCounter.tryIncrement(user.getId())).thenReturn(false);
 
     // when
     // then
@@ -244,7 +417,8 @@ class MeetingServiceTest {
             "meetingErrorCode",
             MeetingErrorCode.DAILY_POSTING_LIMIT_EXCEEDED);
 
-    verify(meetingRepository).countByUser_IdAndCreatedAtBetween(eq(user.getId()), any(), any());
+    verify(meetingPostCounter).tryIncrement(user.getId());
+    verify(meetingRepository, never()).save(any());
   }
 
   @Test
@@ -324,6 +498,52 @@ class MeetingServiceTest {
         .hasFieldOrPropertyWithValue("meetingErrorCode", MeetingErrorCode.NOT_MEETING_OWNER);
   }
 
+  @Test
+  @DisplayName("모임 수정 - 썸네일 업로드 중 새 이미지 없이 수정하면 진행 중인 업로드 유지")
+  void updateMeeting_DuringThumbnailUpload_KeepPending() {
+    // given
+    User user = createUser();
+    Meeting meeting = createMeeting(user, createMeetingRequest());
+    meeting.markThumbnailPending();
+    String uploadToken = meeting.getThumbnailUploadToken();
+    MeetingUpdateRequest updateRequest = createUpdateRequest(null);
+
+    when(meetingRepository.findById(meeting.getId())).thenReturn(Optional.of(meeting));
+
+    // when
+    MeetingResponse response =
+        meetingService.updateMeeting(user.getId(), meeting.getId(), updateRequest, null);
+
+    // then
+    assertThat(response.getTitle()).isEqualTo(updateRequest.getTitle());
+    assertThat(meeting.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PENDING);
+    assertThat(meeting.getThumbnailUploadToken()).isEqualTo(uploadToken);
+  }
+
+  @Test
+  @DisplayName("모임 수정 - 썸네일 업로드 중 새 이미지로 바꾸면 진행 중인 업로드는 반영되지 않음")
+  void updateMeeting_DuringThumbnailUpload_Replaced() {
+    // given
+    User user = createUser();
+    Meeting meeting = createMeeting(user, createMeetingRequest());
+    meeting.markThumbnailPending();
+    MultipartFile updateThumbnail = mock(MultipartFile.class);
+    String updateThumbnailUrl = "test-thumbnail.jpg";
+
+    when(imageService.handleThumbnailUpdate(null, updateThumbnail))
+        .thenReturn(updateThumbnailUrl);
+    when(meetingRepository.findById(meeting.getId())).thenReturn(Optional.of(meeting));
+
+    // when
+    meetingService.updateMeeting(user.getId(), meeting.getId(),
+        createUpdateRequest(updateThumbnailUrl), updateThumbnail);
+
+    // then
+    assertThat(meeting.getThumbnail()).isEqualTo(updateThumbnailUrl);
+    assertThat(meeting.getThumbnailStatus()).isEqualTo(ThumbnailStatus.READY);
+    assertThat(meeting.getThumbnailUploadToken()).isNull();
+  }
+
   @Test
   @DisplayName("모임 모집완료 - 성공")
   void updateMeetingStatus_Success() {
@@ -342,29 +562,127 @@ class MeetingServiceTest {
     verify(meetingRepository).findById(user.getId());
   }
 
+  @Test
+  @DisplayName("모임 모집완료 - 신청 수와 수정 시각이 같아도 참여 신청자 목록 ETag 가 바뀜")
+  void completedMeeting_ParticipantsETagChanged() {
+    // given
+    User user = createUser();
+    MeetingCreateRequest request = createMeetingRequest();
+    Meeting meeting = createMeeting(user, request);
+    LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    // 모임 상태는 DB 의 현재 값을, 신청과 회원 정보는 일괄 변경으로 바뀌지 않은 값을 반환
+    MeetingParticipantsVersionProjection version =
+        mock(MeetingParticipantsVersionProjection.class);
+    given(version.getMeetingStatus()).willAnswer(invocation -> meeting.getMeetingStatus().name());
+    given(version.getParticipantCount()).willReturn(2L);
+    given(version.getLastParticipationUpdatedAt()).willReturn(updatedAt);
+    given(version.getLastUserUpdatedAt()).willReturn(updatedAt);
+    given(version.getLastProfileUpdatedAt()).willReturn(updatedAt);
+    given(meetingRepository.findParticipantsVersion(meeting.getId(), user.getId()))
+        .willReturn(Optional.of(version));
+    given(meetingRepository.findById(meeting.getId())).willReturn(Optional.of(meeting));
+    String before = meetingService.getParticipantsETag(user.getId(), meeting.getId());
+
+    // when
+    meetingService.completedMeeting(user.getId(), meeting.getId());
+    String after = meetingService.getParticipantsETag(user.getId(), meeting.getId());
+
+    // then
+    assertThat(after).isNotEqualTo(before);
+    verify(participationRepository).findAllByMeeting_IdAndParticipationStatus(
+        meeting.getId(), ParticipationStatus.PENDING, ParticipationStatus.CLOSED);
+  }
+
   @Test
   @DisplayName("작성한 모임 목록 조회 - 성공")
   void getCreatedMeetings_Success() {
     // given
     Long userId = 1L;
     Long lastId = 0L;
+    LocalDateTime defaultLastDateTime = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     List<CreatedMeetingProjection> projections = createdMeetingsMockProjections();
 
     given(meetingRepository.findAllByUser_IdOrderByCreatedAtAsc(
-        userId, lastId, TEST_PAGE_SIZE + 1)).willReturn(projections);
+        userId, lastId, defaultLastDateTime, true, TEST_PAGE_SIZE + 1)).willReturn(projections);
 
     // when
     CreatedMeetingsResponse response =
-        meetingService.getCreatedMeetings(userId, lastId, TEST_PAGE_SIZE);
+        meetingService.getCreatedMeetings(userId, lastId, null, TEST_PAGE_SIZE, true);
 
     // then
     List<CreatedMeetingDto> createdMeetingDtos = response.getCreatedMeetingDtos();
     assertThat(createdMeetingDtos).hasSize(TEST_PAGE_SIZE);
 
     assertThatCreatedMeetingDtos(createdMeetingDtos);
-    verify(meetingRepository)
-        .findAllByUser_IdOrderByCreatedAtAsc(userId, lastId, TEST_PAGE_SIZE + 1);
+    verify(meetingRepository).findAllByUser_IdOrderByCreatedAtAsc(
+        userId, lastId, defaultLastDateTime, true, TEST_PAGE_SIZE + 1);
+  }
+
+  @Test
+  @DisplayName("작성한 모임 목록 조회 - 같은 분의 모임 사이에서 페이지가 나뉘어도 커서는 초 단위까지 유지")
+  void getCreatedMeetings_SameMinuteBoundary_FullPrecisionCursor() {
+    // given
+    Long userId = 1L;
+    Long lastId = 0L;
+    LocalDateTime lastMeetingDateTime = LocalDateTime.of(2026, 10, 18, 9, 0);
+    LocalDateTime firstDateTime = LocalDateTime.of(2026, 10, 18, 10, 0, 10);
+    LocalDateTime secondDateTime = LocalDateTime.of(2026, 10, 18, 10, 0, 40);
+
+    List<CreatedMeetingProjection> projections = new ArrayList<>();
+    createdMeetingMockProjection(projections, 1);
+    createdMeetingMockProjection(projections, 2);
+    given(projections.get(0).getMeetingDateTime()).willReturn(firstDateTime);
+    given(projections.get(1).getMeetingDateTime()).willReturn(secondDateTime);
+
+    given(meetingRepository.findAllByUser_IdOrderByCreatedAtAsc(
+        userId, lastId, lastMeetingDateTime, true, 2)).willReturn(projections);
+
+    // when
+    CreatedMeetingsResponse response =
+        meetingService.getCreatedMeetings(userId, lastId, lastMeetingDateTime, 1, true);
+
+    // then
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getCreatedMeetingDtos()).hasSize(1);
+    assertThat(response.getCreatedMeetingDtos().get(0).getMeetingDateTime())
+        .isEqualTo(firstDateTime.truncatedTo(ChronoUnit.MINUTES));
+    assertThat(response.getLastId()).isEqualTo(10L);
+    // 다음 페이지는 10:00:10 이후부터 조회되어 같은 분의 10:00:40 모임을 다시 포함
+    assertThat(response.getLastMeetingDateTime()).isEqualTo(firstDateTime);
+  }
+
+  @Test
+  @DisplayName("모임 상세 ETag - 버전이 같아도 조회수가 바뀌면 다른 ETag")
+  void getMeetingETag_ViewCountChanged() {
+    // given
+    MeetingVersionProjection before = createVersionProjection(3L, 2, 10L);
+    MeetingVersionProjection after = createVersionProjection(3L, 2, 11L);
+    given(meetingRepository.findVersionById(1L))
+        .willReturn(Optional.of(before), Optional.of(before), Optional.of(after));
+
+    // when
+    String first = meetingService.getMeetingETag(1L);
+    String second = meetingService.getMeetingETag(1L);
+    String third = meetingService.getMeetingETag(1L);
+
+    // then
+    assertThat(second).isEqualTo(first);
+    assertThat(third).isNotEqualTo(first);
+  }
+
+  @Test
+  @DisplayName("모임 상세 ETag - 모임이 없는 경우 예외 발생")
+  void getMeetingETag_MeetingNotFound() {
+    // given
+    given(meetingRepository.findVersionById(1L)).willReturn(Optional.empty());
+
+    // when
+    // then
+    assertThatThrownBy(() -> meetingService.getMeetingETag(1L))
+        .isInstanceOf(MeetingException.class)
+        .hasFieldOrPropertyWithValue("meetingErrorCode", MeetingErrorCode.MEETING_NOT_FOUND);
   }
 
   @Test
@@ -406,6 +724,7 @@ class MeetingServiceTest {
     verify(chatRoomRepository, never()).deleteAllByMeetingIds(any());
     verify(participationRepository, never()).deleteAllByMeetingIds(any());
     verify(meetingRepository, never()).deleteAllByMeetingIds(any());
+    verify(meetingPurgeService, never()).markExpired(any());
   }
 
   @Test
@@ -456,6 +775,32 @@ class MeetingServiceTest {
     return projections;
   }
 
+  private static MeetingGeoPointProjection createMockGeoPoint(
+      Long id, double latitude, double longitude
+  ) {
+    MeetingGeoPointProjection geoPoint = mock(MeetingGeoPointProjection.class);
+    when(geoPoint.getId()).thenReturn(id);
+    when(geoPoint.getLatitude()).thenReturn(latitude);
+    when(geoPoint.getLongitude()).thenReturn(longitude);
+    return geoPoint;
+  }
+
+  private static List<NearbyMeeting> createNearbyMeetings() {
+    List<NearbyMeeting> nearbyMeetings = new ArrayList<>();
+    for (int i = 1; i <= TEST_PAGE_SIZE + 1; i++) { // pageSize + 1
+      nearbyMeetings.add(new NearbyMeeting(i, i * 10.0));
+    }
+    return nearbyMeetings;
+  }
+
+  private static List<Long> extractNearbyMeetingIds(List<NearbyMeeting> nearbyMeetings) {
+    List<Long> meetingIds = new ArrayList<>();
+    for (NearbyMeeting nearbyMeeting : nearbyMeetings) {
+      meetingIds.add(nearbyMeeting.getMeetingId());
+    }
+    return meetingIds;
+  }
+
   private static void createMockProjection(List<MeetingToMeetingDtoProjection> projections, int i) {
     MeetingToMeetingDtoProjection projection = mock(MeetingToMeetingDtoProjection.class);
     when(projection.getId()).thenReturn((long) i);
@@ -469,7 +814,8 @@ class MeetingServiceTest {
         .thenReturn(LocalDateTime.now().plusDays(1 + i).truncatedTo(ChronoUnit.MINUTES));
     when(projection.getMaxCount()).thenReturn(2 + i);
     when(projection.getApprovedCount()).thenReturn(1 + i);
-    when(projection.getCategory()).thenReturn("KOREAN,JAPANESE");
+    when(projection.getCategoryMask())
+        .thenReturn(FoodCategory.toMask(Set.of(FoodCategory.KOREAN, FoodCategory.JAPANESE)));
     when(projection.getThumbnail()).thenReturn("test-url" + i + ".jpg");
     projections.add(projection);
   }
@@ -539,6 +885,7 @@ class MeetingServiceTest {
         .maxCount(request.getMaxCount())
         .approvedCount(1)
         .category(request.getCategory())
+        .categoryMask(FoodCategory.toMask(request.getCategory()))
         .content(request.getContent())
         .meetingStatus(MeetingStatus.RECRUITING)
         .build();
@@ -557,6 +904,7 @@ class MeetingServiceTest {
         .maxCount(request.getMaxCount())
         .approvedCount(1)
         .category(request.getCategory())
+        .categoryMask(FoodCategory.toMask(request.getCategory()))
         .content(request.getContent())
         .meetingStatus(MeetingStatus.RECRUITING)
         .thumbnail(request.getThumbnail())
@@ -631,7 +979,8 @@ class MeetingServiceTest {
         .willReturn(LocalDateTime.now().minusHours(1 + i).truncatedTo(ChronoUnit.MINUTES));
     given(projection.getMaxCount()).willReturn(i + 2);
     given(projection.getApprovedCount()).willReturn(i + 1);
-    given(projection.getCategory()).willReturn("KOREAN,DESSERT");
+    given(projection.getCategoryMask())
+        .willReturn(FoodCategory.toMask(Set.of(FoodCategory.KOREAN, FoodCategory.DESSERT)));
     given(projection.getContent()).willReturn("Test Content " + i);
     given(projection.getThumbnail()).willReturn("test_" + i + "_thumbnail_url.jpg");
     projections.add(projection);
@@ -718,4 +1067,14 @@ class MeetingServiceTest {
         .participationStatus(participationStatus)
         .build();
   }
-}
\ No newline at end of file
+
+  private static MeetingVersionProjection createVersionProjection(
+      Long version, Integer approvedCount, Long viewCount
+  ) {
+    MeetingVersionProjection projection = mock(MeetingVersionProjection.class);
+    given(projection.getVersion()).willReturn(version);
+    given(projection.getApprovedCount()).willReturn(approvedCount);
+    given(projection.getViewCount()).willReturn(viewCount);
+    return projection;
+  }
+}
@@ -0,0 +1,144 @@
+package com.momo.meeting.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.momo.image.file.SpooledImageFile;
+import com.momo.image.service.ImageService;
+import com.momo.meeting.constant.ThumbnailStatus;
+import com.momo.meeting.entity.Meeting;
+import com.momo.meeting.event.MeetingEvent;
+import com.momo.meeting.repository.MeetingRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingThumbnailUploaderTest {
+
+  private static final Long MEETING_ID = 1L;
+  private static final String UPLOAD_TOKEN = "upload-token";
+  private static final String THUMBNAIL_URL = "thumbnail.jpg";
+
+  @Mock
+  private ImageService imageService;
+
+  @Mock
+  private MeetingRepository meetingRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private MeetingThumbnailUploader meetingThumbnailUploader;
+
+  @BeforeEach
+  void setUp() {
+    meetingThumbnailUploader = new MeetingThumbnailUploader(
+        imageService, meetingRepository, transactionTemplate, eventPublisher);
+    meetingThumbnailUploader.start();
+    lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @AfterEach
+  void tearDown() {
+    meetingThumbnailUploader.stop();
+  }
+
+  @Test
+  @DisplayName("썸네일 업로드 - 업로드 후 READY 로 반영하고 수정 이벤트 발행")
+  void submit_Success() {
+    // given
+    SpooledImageFile thumbnail = mock(SpooledImageFile.class);
+    given(imageService.uploadImageProcess(thumbnail)).willReturn(THUMBNAIL_URL);
+    given(meetingRepository.updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, THUMBNAIL_URL, ThumbnailStatus.PENDING, ThumbnailStatus.READY))
+        .willReturn(1);
+    given(meetingRepository.findById(MEETING_ID))
+        .willReturn(Optional.of(Meeting.builder().id(MEETING_ID).build()));
+
+    // when
+    meetingThumbnailUploader.submit(MEETING_ID, UPLOAD_TOKEN, thumbnail);
+
+    // then
+    verify(eventPublisher, timeout(1000)).publishEvent(any(MeetingEvent.class));
+    verify(thumbnail).delete();
+    verify(imageService, never()).deleteImage(any());
+  }
+
+  @Test
+  @DisplayName("썸네일 업로드 - 재시도 후에도 실패하면 FAILED 로 반영")
+  void upload_FailedAfterRetries() {
+    // given
+    SpooledImageFile thumbnail = mock(SpooledImageFile.class);
+    given(imageService.uploadImageProcess(thumbnail)).willThrow(new RuntimeException("S3 오류"));
+    given(meetingRepository.updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, null, ThumbnailStatus.PENDING, ThumbnailStatus.FAILED))
+        .willReturn(1);
+
+    // when
+    meetingThumbnailUploader.upload(MEETING_ID, UPLOAD_TOKEN, thumbnail, 3);
+
+    // then
+    verify(imageService, times(1)).uploadImageProcess(thumbnail);
+    verify(thumbnail).delete();
+    verify(meetingRepository).updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, null, ThumbnailStatus.PENDING, ThumbnailStatus.FAILED);
+  }
+
+  @Test
+  @DisplayName("썸네일 업로드 - 실패하면 지연 후 다시 업로드")
+  void upload_Retry() {
+    // given
+    SpooledImageFile thumbnail = mock(SpooledImageFile.class);
+    given(imageService.uploadImageProcess(thumbnail))
+        .willThrow(new RuntimeException("S3 오류"))
+        .willReturn(THUMBNAIL_URL);
+    given(meetingRepository.updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, THUMBNAIL_URL, ThumbnailStatus.PENDING, ThumbnailStatus.READY))
+        .willReturn(1);
+
+    // when
+    meetingThumbnailUploader.upload(MEETING_ID, UPLOAD_TOKEN, thumbnail, 1);
+
+    // then
+    verify(meetingRepository, timeout(3000)).updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, THUMBNAIL_URL, ThumbnailStatus.PENDING, ThumbnailStatus.READY);
+    verify(imageService, times(2)).uploadImageProcess(thumbnail);
+  }
+
+  @Test
+  @DisplayName("썸네일 업로드 - 업로드 중 모임이 삭제되면 업로드한 이미지를 삭제")
+  void upload_MeetingDeleted() {
+    // given
+    SpooledImageFile thumbnail = mock(SpooledImageFile.class);
+    given(imageService.uploadImageProcess(thumbnail)).willReturn(THUMBNAIL_URL);
+    given(meetingRepository.updateThumbnail(
+        MEETING_ID, UPLOAD_TOKEN, THUMBNAIL_URL, ThumbnailStatus.PENDING, ThumbnailStatus.READY))
+        .willReturn(0);
+
+    // when
+    meetingThumbnailUploader.upload(MEETING_ID, UPLOAD_TOKEN, thumbnail, 1);
+
+    // then
+    verify(imageService).deleteImage(THUMBNAIL_URL);
+    verify(eventPublisher, never()).publishEvent(any(MeetingEvent.class));
+  }
+}
@@ -7,7 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.momo.notification.constant.NotificationType;
-import com.momo.notification.dto.NotificationResponse;
+import com.momo.notification.dto.NotificationsResponse;
 import com.momo.notification.entity.Notification;
 import com.momo.notification.repository.NotificationRepository;
 import com.momo.notification.sseemitter.SseEmitterManager;
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,19 +74,24 @@ class NotificationServiceTest {
   void getNotifications_Success() {
     // given
     Long userId = 1L;
+    int pageSize = 2;
     List<Notification> notifications = List.of(
-        createNotification("알림1"),
-        createNotification("알림2")
+        createNotification(3L, "알림3"),
+        createNotification(2L, "알림2"),
+        createNotification(1L, "알림1")
     );
-    when(notificationRepository.findAllByUser_Id(userId)).thenReturn(notifications);
+    when(notificationRepository.findByUser_IdAndIdLessThanOrderByIdDesc(
+        userId, Long.MAX_VALUE, PageRequest.of(0, pageSize + 1))).thenReturn(notifications);
 
     // when
-    List<NotificationResponse> result = notificationService.getNotifications(userId);
+    NotificationsResponse result = notificationService.getNotifications(userId, null, pageSize);
 
     // then
-    assertThat(result).hasSize(2);
-    assertThat(result.get(0).getContent()).isEqualTo("알림1");
-    assertThat(result.get(1).getContent()).isEqualTo("알림2");
+    assertThat(result.getNotifications()).hasSize(2);
+    assertThat(result.getNotifications().get(0).getContent()).isEqualTo("알림3");
+    assertThat(result.getNotifications().get(1).getContent()).isEqualTo("알림2");
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getLastId()).isEqualTo(2L);
   }
 
   @Test
@@ -130,8 +136,9 @@ class NotificationServiceTest {
         .build();
   }
 
-  private static Notification createNotification(String content) {
+  private static Notification createNotification(Long id, String content) {
     return Notification.builder()
+        .id(id)
         .content(content)
         .user(createUser())
         .notificationType(NotificationType.NEW_PARTICIPATION_REQUEST)
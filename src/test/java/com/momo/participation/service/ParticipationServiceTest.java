@@ -15,12 +15,14 @@ import static org.mockito.Mockito.when;
 import com.momo.chat.entity.ChatRoom;
 import com.momo.chat.repository.ChatRoomRepository;
 import com.momo.chat.service.ChatRoomService;
+import com.momo.meeting.cache.CategoryAffinityCache;
 import com.momo.meeting.constant.FoodCategory;
 import com.momo.meeting.constant.MeetingStatus;
 import com.momo.meeting.entity.Meeting;
 import com.momo.meeting.exception.MeetingErrorCode;
 import com.momo.meeting.exception.MeetingException;
 import com.momo.meeting.repository.MeetingRepository;
+import com.momo.meeting.service.MeetingSeatService;
 import com.momo.notification.constant.NotificationType;
 import com.momo.notification.service.NotificationService;
 import com.momo.participation.constant.ParticipationStatus;
@@ -64,6 +66,12 @@ class ParticipationServiceTest {
   @Mock
   private NotificationService notificationService;
 
+  @Mock
+  private MeetingSeatService meetingSeatService;
+
+  @Mock
+  private CategoryAffinityCache categoryAffinityCache;
+
   @InjectMocks
   private ParticipationService participationService;
 
@@ -88,6 +96,7 @@ class ParticipationServiceTest {
 
     // then
     verify(participationRepository).save(any(Participation.class));
+    verify(categoryAffinityCache).record(user.getId(), meeting.getCategoryMask());
   }
 
   @Test
@@ -175,11 +184,11 @@ class ParticipationServiceTest {
     List<AppliedMeetingProjection> projections = createMockProjections(pageSize);
 
     given(participationRepository.findAppliedMeetingsWithLastId(
-        userId, lastId, pageSize + 1)).willReturn(projections);
+        userId, lastId, true, pageSize + 1)).willReturn(projections);
 
     // when
     AppliedMeetingsResponse response =
-        participationService.getAppliedMeetings(userId, lastId, pageSize);
+        participationService.getAppliedMeetings(userId, lastId, pageSize, true);
 
     // then
     List<AppliedMeetingDto> appliedMeetings = response.getAppliedMeetings();
@@ -187,7 +196,7 @@ class ParticipationServiceTest {
 
     assertThatAppliedMeetings(appliedMeetings);
     verify(participationRepository)
-        .findAppliedMeetingsWithLastId(userId, lastId, pageSize + 1);
+        .findAppliedMeetingsWithLastId(userId, lastId, true, pageSize + 1);
   }
 
   @Test
@@ -210,8 +219,8 @@ class ParticipationServiceTest {
     // then
     assertEquals(MeetingStatus.RECRUITING, meeting.getMeetingStatus());
     assertEquals(ParticipationStatus.APPROVED, participation.getParticipationStatus());
-    assertEquals(2, meeting.getApprovedCount());
 
+    verify(meetingSeatService).reserve(meeting);
     verify(participationRepository).findById(participation.getId());
     verify(chatRoomRepository).findByMeeting_Id(meeting.getId());
     verify(notificationService).sendNotification(
@@ -267,6 +276,7 @@ class ParticipationServiceTest {
 
     // then
     verify(participationRepository, times(1)).delete(participation);
+    verify(categoryAffinityCache).evict(user.getId());
   }
 
   @Test
@@ -362,7 +372,8 @@ class ParticipationServiceTest {
         .willReturn(LocalDateTime.now().minusHours(1 + i).truncatedTo(ChronoUnit.MINUTES));
     given(projection.getMaxCount()).willReturn(i + 2);
     given(projection.getApprovedCount()).willReturn(i + 1);
-    given(projection.getCategory()).willReturn("KOREAN,DESSERT");
+    given(projection.getCategoryMask())
+        .willReturn(FoodCategory.toMask(Set.of(FoodCategory.KOREAN, FoodCategory.DESSERT)));
     given(projection.getContent()).willReturn("Test Content " + i);
     given(projection.getThumbnail()).willReturn("test_" + i + "_thumbnail_url.jpg");
     projections.add(projection);